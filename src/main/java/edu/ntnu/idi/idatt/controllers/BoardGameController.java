@@ -51,6 +51,15 @@ public interface BoardGameController {
    */
   boolean saveGame();
 
+  /**
+   * Saves the current game state to a named save slot.
+   *
+   * @param saveName The name of the save slot.
+   * @return true if save was successful, false otherwise.
+   * @throws IllegalArgumentException If the name is not a valid save name.
+   */
+  boolean saveGameAs(String saveName);
+
   /**
    * Quits the current game and returns to the main menu.
    * Shows a confirmation dialog before quitting.
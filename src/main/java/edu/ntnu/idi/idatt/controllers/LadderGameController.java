@@ -2,15 +2,17 @@ package edu.ntnu.idi.idatt.controllers;
 
 import edu.ntnu.idi.idatt.MainApp;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
+import edu.ntnu.idi.idatt.model.filehandling.AutosaveService;
 import edu.ntnu.idi.idatt.model.filehandling.BoardGameFactory;
-import edu.ntnu.idi.idatt.model.filehandling.PlayerFileHandler;
+import edu.ntnu.idi.idatt.model.filehandling.GameEventLogWriter;
+import edu.ntnu.idi.idatt.model.filehandling.SaveSlots;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.GameSaveException;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
 import edu.ntnu.idi.idatt.views.DialogService;
 import edu.ntnu.idi.idatt.views.SoundUtil;
 import edu.ntnu.idi.idatt.views.gameviews.LadderGameView;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
@@ -41,6 +43,8 @@ public class LadderGameController implements BoardGameController {
   private final LadderGameView view;
   private final String gameVariation;
   private final Stage stage;
+  private final GameEventLogWriter eventLog;
+  private final AutosaveService autosave;
   private static final Logger LOGGER = Logger.getLogger(LadderGameController.class.getName());
 
 
@@ -55,6 +59,13 @@ public class LadderGameController implements BoardGameController {
     this.boardGame = boardGame;
     this.stage = stage;
     this.gameVariation = gameVariation;
+    boardGame.setController(this);
+    this.eventLog = GameEventLogWriter.startForGame(boardGame);
+    this.autosave = new AutosaveService(boardGame,
+        SaveSlots.forGame(boardGame, SaveSlots.RetentionPolicy.DEFAULT));
+    // isLoadedGame() returns false for games restored from a save
+    autosave.setSaveEveryTurn(!boardGame.isLoadedGame());
+    stage.setOnCloseRequest(event -> closeBackgroundWriters());
 
     this.view = new LadderGameView(boardGame, stage, this);
 
@@ -198,19 +209,37 @@ public class LadderGameController implements BoardGameController {
   }
 
   /**
-   * Saves the current game state.
+   * Saves the current game state to the next autosave slot of the game in the background and
+   * keeps saving it after every turn. The state is captured immediately, so the JavaFX thread
+   * never waits for the disk.
    *
-   * @return true if save was successful, false otherwise.
+   * @return true if the save was requested, false if the previous save failed.
    */
   public boolean saveGame() {
     try {
-      String saveName = "LadderGameSave";
-      BoardGameFactory.saveBoardGame(boardGame, saveName);
-      new PlayerFileHandler().writeToFile(
-          BoardGameFactory.getPlayerSaveFilePath("laddergame", saveName),
-          boardGame.getPlayers());
-      return true;
-    } catch (IOException e) {
+      boolean saved = autosave.requestSave();
+      autosave.setSaveEveryTurn(true);
+      return saved;
+    } catch (GameSaveException e) {
+      LOGGER.log(Level.SEVERE, "Failed to save game", e);
+      return false;
+    }
+  }
+
+  /**
+   * Saves the current game state to a named slot in the background. Autosaves after every turn
+   * continue in the rotating autosave slots, so the named slot keeps this state.
+   *
+   * @param saveName The name of the slot.
+   * @return true if the save was requested, false if the previous save failed.
+   * @throws IllegalArgumentException If the name is not a valid save name.
+   */
+  public boolean saveGameAs(String saveName) {
+    try {
+      boolean saved = autosave.saveAs(saveName);
+      autosave.setSaveEveryTurn(true);
+      return saved;
+    } catch (GameSaveException e) {
       LOGGER.log(Level.SEVERE, "Failed to save game", e);
       return false;
     }
@@ -222,11 +251,33 @@ public class LadderGameController implements BoardGameController {
    */
   public void quitToMenu() {
     DialogService.showQuitConfirmationDialog(stage, () -> {
+      releaseGame();
       stage.close();
       new MainApp().start(new Stage());
     });
   }
 
+  /**
+   * Detaches the view and controller from the game before the stage is closed, so the old game
+   * does not keep the closed view reachable.
+   */
+  private void releaseGame() {
+    closeBackgroundWriters();
+    view.dispose();
+    boardGame.setController(null);
+  }
+
+  /**
+   * Stops the game event log and the autosave service. Both write what was recorded so far in
+   * the background.
+   */
+  private void closeBackgroundWriters() {
+    if (eventLog != null) {
+      eventLog.close();
+    }
+    autosave.close();
+  }
+
   /**
    * Restarts the game with the same players.
    */
@@ -240,6 +291,7 @@ public class LadderGameController implements BoardGameController {
       playerTokens[i] = player.getToken();
     }
 
+    releaseGame();
     stage.close();
 
     Stage newStage = new Stage();
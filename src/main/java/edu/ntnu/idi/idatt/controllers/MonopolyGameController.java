@@ -2,20 +2,20 @@ package edu.ntnu.idi.idatt.controllers;
 
 import edu.ntnu.idi.idatt.MainApp;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
-import edu.ntnu.idi.idatt.model.actions.monopolygame.ChanceTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.JailTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.StartTileAction;
-import edu.ntnu.idi.idatt.model.actions.monopolygame.TaxTileAction;
+import edu.ntnu.idi.idatt.model.filehandling.AutosaveService;
 import edu.ntnu.idi.idatt.model.filehandling.BoardGameFactory;
-import edu.ntnu.idi.idatt.model.filehandling.PlayerFileHandler;
+import edu.ntnu.idi.idatt.model.filehandling.GameEventLogWriter;
+import edu.ntnu.idi.idatt.model.filehandling.SaveSlots;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.GameSaveException;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
 import edu.ntnu.idi.idatt.views.DialogService;
 import edu.ntnu.idi.idatt.views.SoundUtil;
 import edu.ntnu.idi.idatt.views.gameviews.MonopolyGameView;
-import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -54,6 +54,8 @@ public class MonopolyGameController implements BoardGameController {
   private final MonopolyGameView view;
   private final String gameVariation;
   private final Stage stage;
+  private final GameEventLogWriter eventLog;
+  private final AutosaveService autosave;
   private static final Logger LOGGER = Logger.getLogger(MonopolyGameController.class.getName());
   private final ExecutorService executorService;
   private boolean isShutDown = false;
@@ -70,6 +72,12 @@ public class MonopolyGameController implements BoardGameController {
     this.boardGame = boardGame;
     this.stage = stage;
     this.gameVariation = gameVariation;
+    boardGame.setController(this);
+    this.eventLog = GameEventLogWriter.startForGame(boardGame);
+    this.autosave = new AutosaveService(boardGame,
+        SaveSlots.forGame(boardGame, SaveSlots.RetentionPolicy.DEFAULT));
+    // isLoadedGame() returns false for games restored from a save
+    autosave.setSaveEveryTurn(!boardGame.isLoadedGame());
 
     ThreadFactory daemonFactory = r -> {
       Thread t = new Thread(r);
@@ -98,9 +106,21 @@ public class MonopolyGameController implements BoardGameController {
 
     isShutDown = true;
     executorService.shutdown();
+    closeBackgroundWriters();
     LOGGER.info("Shutting down MonopolyGameController");
   }
 
+  /**
+   * Stops the game event log and the autosave service. Both write what was recorded so far in
+   * the background.
+   */
+  private void closeBackgroundWriters() {
+    if (eventLog != null) {
+      eventLog.close();
+    }
+    autosave.close();
+  }
+
   /**
    * Get the current player whose turn it is.
    *
@@ -125,8 +145,6 @@ public class MonopolyGameController implements BoardGameController {
       view.showActionMessage(currentPlayer, "InJail");
 
       if (currentPlayer.getCurrentTile().getAction() instanceof JailTileAction jailAction) {
-        jailAction.setOwnerStage(this.stage);
-        jailAction.setController(this);
         jailAction.perform(currentPlayer);
       } else {
         boardGame.notifyPlayerSkipTurn(currentPlayer);
@@ -166,7 +184,7 @@ public class MonopolyGameController implements BoardGameController {
    * @return true if the player is in jail, false otherwise.
    */
   private boolean isPlayerInJail(Player player) {
-    return player.getProperty("inJail") != null && player.getProperty("inJail").equals("true");
+    return player.isInJail();
   }
 
   /**
@@ -182,14 +200,6 @@ public class MonopolyGameController implements BoardGameController {
       String actionType = action.getClass().getSimpleName();
       view.showActionMessage(player, actionType);
 
-      switch (action) {
-        case PropertyTileAction propertyTileAction -> propertyTileAction.setController(this);
-        case ChanceTileAction chanceTileAction -> chanceTileAction.setController(this);
-        case TaxTileAction taxTileAction -> taxTileAction.setController(this);
-        default -> {
-        }
-      }
-
       executorService.submit(() -> {
         try {
           Thread.sleep(1000);
@@ -387,20 +397,39 @@ public class MonopolyGameController implements BoardGameController {
   }
 
   /**
-   * Saves the current game state.
+   * Saves the current game state to the next autosave slot of the game in the background and
+   * keeps saving it after every turn. The state is captured immediately, so the JavaFX thread
+   * never waits for the disk.
    *
-   * @return true if save was successful, false otherwise.
+   * @return true if the save was requested, false if the previous save failed.
    */
   @Override
   public boolean saveGame() {
     try {
-      String saveName = "MonopolyGameSave";
-      BoardGameFactory.saveBoardGame(boardGame, saveName);
-      new PlayerFileHandler().writeToFile(
-          BoardGameFactory.getPlayerSaveFilePath("monopolygame", saveName),
-          boardGame.getPlayers());
-      return true;
-    } catch (IOException e) {
+      boolean saved = autosave.requestSave();
+      autosave.setSaveEveryTurn(true);
+      return saved;
+    } catch (GameSaveException e) {
+      LOGGER.log(Level.SEVERE, "Failed to save game", e);
+      return false;
+    }
+  }
+
+  /**
+   * Saves the current game state to a named slot in the background. Autosaves after every turn
+   * continue in the rotating autosave slots, so the named slot keeps this state.
+   *
+   * @param saveName The name of the slot.
+   * @return true if the save was requested, false if the previous save failed.
+   * @throws IllegalArgumentException If the name is not a valid save name.
+   */
+  @Override
+  public boolean saveGameAs(String saveName) {
+    try {
+      boolean saved = autosave.saveAs(saveName);
+      autosave.setSaveEveryTurn(true);
+      return saved;
+    } catch (GameSaveException e) {
       LOGGER.log(Level.SEVERE, "Failed to save game", e);
       return false;
     }
@@ -413,11 +442,22 @@ public class MonopolyGameController implements BoardGameController {
   @Override
   public void quitToMenu() {
     DialogService.showQuitConfirmationDialog(stage, () -> {
+      releaseGame();
       stage.close();
       new MainApp().start(new Stage());
     });
   }
 
+  /**
+   * Detaches the view and controller from the game before the stage is closed, so the old game
+   * does not keep the closed view reachable.
+   */
+  private void releaseGame() {
+    shutdown();
+    view.dispose();
+    boardGame.setController(null);
+  }
+
   /**
    * Restarts the game with the same players.
    */
@@ -432,6 +472,7 @@ public class MonopolyGameController implements BoardGameController {
       playerTokens[i] = player.getToken();
     }
 
+    releaseGame();
     stage.close();
 
     Stage newStage = new Stage();
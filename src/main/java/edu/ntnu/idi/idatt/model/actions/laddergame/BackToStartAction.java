@@ -3,6 +3,8 @@ package edu.ntnu.idi.idatt.model.actions.laddergame;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Back To Start Action</h1>
@@ -14,6 +16,8 @@ import edu.ntnu.idi.idatt.model.gamelogic.Tile;
  * @since v1.1.0
  */
 public class BackToStartAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(BackToStartAction.class.getName());
+  public static final BackToStartAction INSTANCE = new BackToStartAction();
 
   /**
    * Performs the action of moving the player back to start.
@@ -22,7 +26,7 @@ public class BackToStartAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " moved back to start");
+    LOGGER.log(Level.INFO, () -> player.getName() + " moved back to start");
     Tile startTile = player.getGame().getBoard().getTile(1);
     player.placeOnTile(startTile);
   }
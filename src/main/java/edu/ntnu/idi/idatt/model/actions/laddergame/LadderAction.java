@@ -3,6 +3,8 @@ package edu.ntnu.idi.idatt.model.actions.laddergame;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Ladder Action</h1>
@@ -23,6 +25,7 @@ import edu.ntnu.idi.idatt.model.gamelogic.Tile;
  * @since v1.1.0
  */
 public class LadderAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(LadderAction.class.getName());
   private final int destinationTileId;
   private final String direction;
 
@@ -49,7 +52,8 @@ public class LadderAction implements TileAction {
       throw new IllegalStateException("Destination tile does not exist: " + destinationTileId);
     }
 
-    System.out.println(player.getName() + " moves " + direction + " to tile " + destinationTileId);
+    LOGGER.log(Level.INFO, () -> player.getName() + " moves " + direction + " to tile "
+        + destinationTileId);
     player.placeOnTile(destination);
   }
 
@@ -2,6 +2,8 @@ package edu.ntnu.idi.idatt.model.actions.laddergame;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Wait Action</h1>
@@ -13,6 +15,8 @@ import edu.ntnu.idi.idatt.model.gamelogic.Player;
  * @since v1.1.0
  */
 public class WaitAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(WaitAction.class.getName());
+  public static final WaitAction INSTANCE = new WaitAction();
 
   /**
    * Performs the action of making the player wait a turn before rolling again.
@@ -22,7 +26,7 @@ public class WaitAction implements TileAction {
   @Override
   public void perform(Player player) {
 
-    System.out.println(player.getName() + " must wait a turn before rolling");
+    LOGGER.log(Level.INFO, () -> player.getName() + " must wait a turn before rolling");
     player.setWaitTurn(true);
   }
 }
@@ -2,9 +2,13 @@ package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.controllers.MonopolyGameController;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
+import edu.ntnu.idi.idatt.model.gamelogic.Board;
+import edu.ntnu.idi.idatt.model.gamelogic.MoneyLedger;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
 import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Chance Tile Action</h1>
@@ -17,16 +21,18 @@ import java.util.Random;
  * <ul>
  *   <li>Random selection from a predefined set of chance actions</li>
  *   <li>Player movement management and redirection</li>
- *   <li>Financial transactions between players and the bank</li>
+ *   <li>Financial transactions between players and the bank, settled through the ledger</li>
  *   <li>Integration with the game controller for UI updates</li>
+ *   <li>Stateless, so a single shared instance is used on all boards</li>
  * </ul>
  *
  * @author Ola Syrstad Berg
  * @since v1.1.0
  */
 public class ChanceTileAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(ChanceTileAction.class.getName());
+  public static final ChanceTileAction INSTANCE = new ChanceTileAction();
   private static Random random = new Random();
-  private MonopolyGameController controller;
   private static final String[] CHANCE_ACTIONS = {
       "Move forward 3 spaces",
       "Collect 5000 from the bank",
@@ -36,10 +42,6 @@ public class ChanceTileAction implements TileAction {
       "Collect 1000 from each player",
   };
 
-  public void setController(MonopolyGameController controller) {
-    this.controller = controller;
-  }
-
   /**
    * Performs a random chance action when a player lands on a chance tile.
    *
@@ -48,15 +50,16 @@ public class ChanceTileAction implements TileAction {
   @Override
   public void perform(Player player) {
     if (player == null) {
-      System.out.println("Cannot perform action on null player");
+      LOGGER.log(Level.WARNING, "Cannot perform action on null player");
       return;
     }
 
     int actionIndex = random.nextInt(CHANCE_ACTIONS.length);
     String action = CHANCE_ACTIONS[actionIndex];
 
-    System.out.println(player.getName() + " draws a chance card: " + action);
+    LOGGER.log(Level.INFO, () -> player.getName() + " draws a chance card: " + action);
 
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
     if (controller != null) {
       controller.updateActionLabel(player.getName() + " draws a chance card: " + action);
     }
@@ -75,6 +78,7 @@ public class ChanceTileAction implements TileAction {
       return;
     }
 
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
     String actionMessage;
     int playerCount = 0;
     switch (actionIndex) {
@@ -88,7 +92,7 @@ public class ChanceTileAction implements TileAction {
 
         actionMessage = player.getName() + " moves forward 3 spaces to tile "
             + Tile.getTileName(destinationTile);
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
@@ -97,9 +101,6 @@ public class ChanceTileAction implements TileAction {
         player.placeOnTile(destinationTile);
         if (destinationTile.getAction() != null
             && !(destinationTile.getAction() instanceof ChanceTileAction)) {
-          if (destinationTile.getAction() instanceof PropertyTileAction) {
-            ((PropertyTileAction) destinationTile.getAction()).setController(this.controller);
-          }
           destinationTile.getAction().perform(player);
         }
         break;
@@ -107,7 +108,7 @@ public class ChanceTileAction implements TileAction {
       case 1: // Collect 5000 from the bank.
         player.addMoney(5000);
         actionMessage = player.getName() + " collects 5000 from the bank";
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
@@ -118,7 +119,7 @@ public class ChanceTileAction implements TileAction {
       case 2: // Pay 3000 to the bank.
         player.payMoney(3000);
         actionMessage = player.getName() + " pays 3000 to the bank";
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
@@ -128,27 +129,14 @@ public class ChanceTileAction implements TileAction {
 
       case 3: // Advance to the nearest landmark.
         int currentPosition = player.getCurrentTile().getTileId();
-        Tile nearestLandmarkTile6 = player.getGame().getBoard().getTile(6);
-        Tile nearestLandmarkTile16 = player.getGame().getBoard().getTile(16);
-        Tile nearestLandmarkTile26 = player.getGame().getBoard().getTile(26);
-        Tile nearestLandmarkTile36 = player.getGame().getBoard().getTile(36);
-
-        Tile landmarkTile = null;
-
-        if (currentPosition == 3 || currentPosition == 8) {
-          landmarkTile = nearestLandmarkTile6;
-        } else if (currentPosition == 13 || currentPosition == 18) {
-          landmarkTile = nearestLandmarkTile16;
-        } else if (currentPosition == 23 || currentPosition == 29) {
-          landmarkTile = nearestLandmarkTile26;
-        } else if (currentPosition == 34 || currentPosition == 39) {
-          landmarkTile = nearestLandmarkTile36;
-        }
+        Board board = player.getGame() != null ? player.getGame().getBoard() : null;
+        Tile landmarkTile = board != null
+            ? board.getNearestTileOfKind(currentPosition, "landmark") : null;
 
         if (landmarkTile != null && landmarkTile.getAction() instanceof PropertyTileAction) {
           String propertyName = ((PropertyTileAction) landmarkTile.getAction()).getPropertyName();
           actionMessage = player.getName() + " advances to the nearest landmark: " + propertyName;
-          System.out.println(actionMessage);
+          LOGGER.log(Level.INFO, actionMessage);
 
           if (controller != null) {
             controller.updateActionLabel(actionMessage);
@@ -158,12 +146,11 @@ public class ChanceTileAction implements TileAction {
 
           if (landmarkTile.getAction() != null
               && landmarkTile.getAction() instanceof PropertyTileAction propertyAction) {
-            propertyAction.setController(this.controller);
             propertyAction.perform(player);
           }
         } else {
           actionMessage = "No landmark found";
-          System.out.println(actionMessage);
+          LOGGER.log(Level.INFO, actionMessage);
 
           if (controller != null) {
             controller.updateActionLabel(actionMessage);
@@ -171,42 +158,44 @@ public class ChanceTileAction implements TileAction {
         }
         break;
       case 4: // Pay each player 1000.
+        MoneyLedger.Batch payments = player.getGame().getLedger().newBatch();
         for (Player otherPlayer : player.getGame().getPlayers()) {
-          if (otherPlayer != player) {
-            player.payPlayer(otherPlayer, 1000);
-            controller.updatePlayerMoney(otherPlayer);
+          if (otherPlayer != player && !otherPlayer.isBankrupt()) {
+            payments.transfer(player, otherPlayer, 1000);
             playerCount++;
           }
         }
+        payments.commit();
+
         actionMessage = player.getName() + " pays 1000 to each player (total: "
             + (playerCount * 1000) + ")";
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
-          controller.updatePlayerMoney(player);
         }
         break;
       case 5: // Collect 1000 from each player.
+        MoneyLedger.Batch collections = player.getGame().getLedger().newBatch();
         for (Player otherPlayer : player.getGame().getPlayers()) {
-          if (otherPlayer != player) {
-            otherPlayer.payPlayer(player, 1000);
-            controller.updatePlayerMoney(otherPlayer);
+          if (otherPlayer != player && !otherPlayer.isBankrupt()) {
+            collections.transfer(otherPlayer, player, 1000);
             playerCount++;
           }
         }
+        collections.commit();
+
         actionMessage = player.getName() + " collects 1000 from each player (total: "
             + (playerCount * 1000) + ")";
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
-          controller.updatePlayerMoney(player);
         }
         break;
       default:
         actionMessage = "Unknown chance action";
-        System.out.println(actionMessage);
+        LOGGER.log(Level.INFO, actionMessage);
 
         if (controller != null) {
           controller.updateActionLabel(actionMessage);
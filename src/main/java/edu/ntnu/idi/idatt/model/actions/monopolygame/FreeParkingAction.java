@@ -2,6 +2,8 @@ package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Free Parking Action</h1>
@@ -14,6 +16,8 @@ import edu.ntnu.idi.idatt.model.gamelogic.Player;
  * @since v1.1.0
  */
 public class FreeParkingAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(FreeParkingAction.class.getName());
+  public static final FreeParkingAction INSTANCE = new FreeParkingAction();
 
   /**
    * Performs the action of the free parking tile. The player who lands on this
@@ -23,9 +27,9 @@ public class FreeParkingAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " landed on Free Parking");
-    player.setProperty("freeParking", "true");
-    System.out.println(player.getName() + " won't need to pay for parking next turn!");
+    LOGGER.log(Level.INFO, () -> player.getName() + " landed on Free Parking");
+    player.setFreeParking(true);
+    LOGGER.log(Level.INFO, () -> player.getName() + " won't need to pay for parking next turn!");
   }
 }
 
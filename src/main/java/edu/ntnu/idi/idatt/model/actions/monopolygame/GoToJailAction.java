@@ -1,9 +1,10 @@
 package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
-import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Go To Jail Action</h1>
@@ -16,6 +17,7 @@ import edu.ntnu.idi.idatt.model.gamelogic.Tile;
  * @since v1.1.0
  */
 public class GoToJailAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(GoToJailAction.class.getName());
   private final int jailTileId;
 
   /**
@@ -34,28 +36,21 @@ public class GoToJailAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " is being sent to jail!");
+    LOGGER.log(Level.INFO, () -> player.getName() + " is being sent to jail!");
 
     Tile jailTile = player.getGame().getBoard().getTile(jailTileId);
     if (jailTile == null) {
       throw new IllegalStateException("Jail tile does not exist: " + jailTileId);
     }
 
-    player.setProperty("inJail", "true");
-    player.setProperty("jailTurnCount", "0");
-
-    BoardGame game = player.getGame();
-    for (Player otherPlayer : game.getPlayers()) {
-      if (!otherPlayer.equals(player)) {
-        player.setProperty("waitFor_" + otherPlayer.getName(), "true");
-      }
-    }
+    player.setInJail(true);
+    player.setJailTurnCount(0);
 
     player.setWaitTurn(true);
 
     player.placeOnTile(jailTile);
 
-    System.out.println(player.getName()
+    LOGGER.log(Level.INFO, () -> player.getName()
         + " went to jail and must wait 3 turns or pay bail/roll doubles to get out");
   }
 
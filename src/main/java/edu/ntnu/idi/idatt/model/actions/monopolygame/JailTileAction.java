@@ -7,6 +7,8 @@ import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
 import edu.ntnu.idi.idatt.views.DialogService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 
@@ -29,29 +31,11 @@ import javafx.stage.Stage;
  * @since v1.1.0
  */
 public class JailTileAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(JailTileAction.class.getName());
+  public static final JailTileAction INSTANCE = new JailTileAction();
   private static final int JAIL_BAIL = 5000;
   private static final int MAX_JAIL_TURNS = 3;
 
-  private Stage ownerStage;
-  private MonopolyGameController controller;
-
-  /**
-   * Sets the owner stage for displaying dialogs.
-   *
-   * @param stage The stage that owns this action's dialogs.
-   */
-  public void setOwnerStage(Stage stage) {
-    this.ownerStage = stage;
-  }
-
-  /**
-   * Sets the game controller for this action.
-   *
-   * @param controller The controller for this action.
-   */
-  public void setController(MonopolyGameController controller) {
-    this.controller = controller;
-  }
 
   /**
    * Performs the action of the jail tile.
@@ -61,26 +45,27 @@ public class JailTileAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
+    Stage ownerStage = MonopolyActionContext.getStage(player);
 
-    String inJail = player.getProperty("inJail");
-    System.out.println("Player " + player.getName() + " jail status: " + inJail);
+    boolean inJail = player.isInJail();
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(Level.FINE, "Player " + player.getName() + " jail status: " + inJail);
+    }
 
-    if (inJail != null && inJail.equals("true")) {
-      System.out.println(player.getName() + " is in jail");
+    if (inJail) {
+      LOGGER.log(Level.INFO, () -> player.getName() + " is in jail");
 
-      String jailTurnCount = player.getProperty("jailTurnCount");
-      int jailTurnCountInt = 1;
-      if (jailTurnCount != null) {
-        jailTurnCountInt = Integer.parseInt(jailTurnCount) + 1;
-      }
-      player.setProperty("jailTurnCount", String.valueOf(jailTurnCountInt));
-      System.out.println(player.getName() + " has been in jail for " + jailTurnCountInt + " turns");
+      int jailTurnCountInt = player.getJailTurnCount() + 1;
+      player.setJailTurnCount(jailTurnCountInt);
+      LOGGER.log(Level.INFO, () -> player.getName() + " has been in jail for " + jailTurnCountInt
+          + " turns");
 
       if (jailTurnCountInt >= MAX_JAIL_TURNS) {
-        System.out.println(player.getName() + " has spent "
+        LOGGER.log(Level.INFO, () -> player.getName() + " has spent "
             + MAX_JAIL_TURNS + " turns in jail and is released");
         player.releaseFromJail();
-        player.setProperty("jailTurnCount", "0");
+        player.setJailTurnCount(0);
         Platform.runLater(() -> {
           controller.getCurrentPlayer().setWaitTurn(false);
           controller.enableRollButton(false);
@@ -93,18 +78,18 @@ public class JailTileAction implements TileAction {
       }
 
       if (controller != null && ownerStage != null) {
-        System.out.println("Showing jail options dialog for " + player.getName());
+        LOGGER.log(Level.INFO, () -> "Showing jail options dialog for " + player.getName());
         Platform.runLater(() -> DialogService.showJailOptionsDialog(player, ownerStage,
             () -> handlePayBail(player),
             () -> handleRollDoubles(player)));
       } else {
-        System.out.println("ERROR: Cannot show jail options dialog. Controller or stage is null.");
+        LOGGER.log(Level.SEVERE, "Cannot show jail options dialog. Controller or stage is null.");
         if (controller != null) {
           Platform.runLater(() -> controller.advanceToNextPlayer());
         }
       }
     } else {
-      System.out.println(player.getName() + " is just visiting the jail");
+      LOGGER.log(Level.INFO, () -> player.getName() + " is just visiting the jail");
     }
   }
 
@@ -114,10 +99,12 @@ public class JailTileAction implements TileAction {
    * @param player The player performing the action.
    */
   public void handlePayBail(Player player) {
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
     if (player.payMoney(JAIL_BAIL)) {
-      System.out.println(player.getName() + " paid $" + JAIL_BAIL + " for getting out of jail");
+      LOGGER.log(Level.INFO, () -> player.getName() + " paid $" + JAIL_BAIL
+          + " for getting out of jail");
       player.releaseFromJail();
-      player.setProperty("jailTurnCount", "0");
+      player.setJailTurnCount(0);
 
       if (controller != null) {
         controller.updatePlayerMoney(player);
@@ -134,7 +121,7 @@ public class JailTileAction implements TileAction {
             player.getCurrentTile().getTileId(), player.getCurrentTile().getTileId(), 0);
       }
     } else {
-      System.out.println(player.getName() + " cannot afford " + JAIL_BAIL
+      LOGGER.log(Level.INFO, () -> player.getName() + " cannot afford " + JAIL_BAIL
           + " and must roll doubles to get out");
     }
     if (controller != null) {
@@ -148,21 +135,22 @@ public class JailTileAction implements TileAction {
    * @param player The player performing the action.
    */
   public void handleRollDoubles(Player player) {
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
     BoardGame game = player.getGame();
     int[] diceValues = game.rollDice();
 
     String rollMessage = player.getName() + " rolled " + diceValues[0] + " and " + diceValues[1];
 
-    System.out.println(rollMessage);
+    LOGGER.log(Level.INFO, rollMessage);
 
     if (controller != null) {
       Platform.runLater(() -> controller.updateActionLabel(rollMessage));
     }
 
     if (diceValues[0] == diceValues[1]) {
-      System.out.println(player.getName() + " Rolled doubles and gets out of jail");
+      LOGGER.log(Level.INFO, () -> player.getName() + " Rolled doubles and gets out of jail");
       player.releaseFromJail();
-      player.setProperty("jailTurnCount", "0");
+      player.setJailTurnCount(0);
 
       int fromTileId = player.getCurrentTile().getTileId();
 
@@ -189,7 +177,7 @@ public class JailTileAction implements TileAction {
       }
     } else {
       String stayInJailMessage = rollMessage + " - Failed to roll doubles and stays in jail.";
-      System.out.println(player.getName() + " Failed to roll doubles and stays in jail");
+      LOGGER.log(Level.INFO, () -> player.getName() + " Failed to roll doubles and stays in jail");
 
       if (controller != null) {
         Platform.runLater(() -> controller.updateActionLabel(stayInJailMessage));
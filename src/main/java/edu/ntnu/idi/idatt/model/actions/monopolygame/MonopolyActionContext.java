@@ -0,0 +1,49 @@
+package edu.ntnu.idi.idatt.model.actions.monopolygame;
+
+import edu.ntnu.idi.idatt.controllers.MonopolyGameController;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import javafx.stage.Stage;
+
+/**
+ * <h1>Monopoly Action Context</h1>
+ *
+ * <p>Resolves the per-game context of a Monopoly tile action. Tile actions are shared between
+ * games, so the controller and stage are looked up through the game of the player performing
+ * the action instead of being stored in the action.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+final class MonopolyActionContext {
+
+  private MonopolyActionContext() {
+  }
+
+  /**
+   * Gets the Monopoly controller of the game a player belongs to.
+   *
+   * @param player The player performing the action.
+   * @return The controller, or null if the player's game has no Monopoly controller.
+   */
+  static MonopolyGameController getController(Player player) {
+    if (player == null || player.getGame() == null) {
+      return null;
+    }
+
+    if (player.getGame().getController() instanceof MonopolyGameController controller) {
+      return controller;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the stage used to show dialogs for the game a player belongs to.
+   *
+   * @param player The player performing the action.
+   * @return The stage, or null if the player's game has no Monopoly controller.
+   */
+  static Stage getStage(Player player) {
+    MonopolyGameController controller = getController(player);
+    return controller != null ? controller.getStage() : null;
+  }
+}
@@ -2,11 +2,9 @@ package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.controllers.MonopolyGameController;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.views.DialogService;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
@@ -42,22 +40,8 @@ public class PropertyTileAction implements TileAction {
   private final String propertyName;
   private final String propertyType;
   private final int cost;
-  private Player owner;
-  private MonopolyGameController controller;
+  private int tileId;
   private static final Logger LOGGER = Logger.getLogger(PropertyTileAction.class.getName());
-  private static final Map<String, Integer> propertyTypeCounts = new HashMap<>();
-
-  static {
-    propertyTypeCounts.put("blue", 2);
-    propertyTypeCounts.put("pink", 3);
-    propertyTypeCounts.put("green", 3);
-    propertyTypeCounts.put("gray", 3);
-    propertyTypeCounts.put("red", 3);
-    propertyTypeCounts.put("yellow", 3);
-    propertyTypeCounts.put("purple", 3);
-    propertyTypeCounts.put("orange", 2);
-    propertyTypeCounts.put("landmark", 4);
-  }
 
   /**
    * Constructs a new PropertyTileAction with the specified name, cost, and type.
@@ -70,16 +54,6 @@ public class PropertyTileAction implements TileAction {
     this.propertyName = propertyName;
     this.propertyType = propertyType;
     this.cost = cost;
-    this.owner = null;
-  }
-
-  /**
-   * Sets the game controller for this action.
-   *
-   * @param controller The controller for this action.
-   */
-  public void setController(MonopolyGameController controller) {
-    this.controller = controller;
   }
 
   /**
@@ -91,15 +65,25 @@ public class PropertyTileAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
+    BoardGame game = player.getGame();
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
 
     Platform.runLater(() -> {
+      Player owner = getOwner(game);
       if (owner == null) {
-        System.out.println(player.getName() + " landed on an unowned property: " + propertyName);
-        System.out.println("Price: " + cost);
+        if (LOGGER.isLoggable(Level.INFO)) {
+          LOGGER.log(Level.INFO, player.getName() + " landed on an unowned property: "
+              + propertyName);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+          LOGGER.log(Level.FINE, "Price: " + cost);
+        }
 
         if (player.getMoney() < cost) {
-          System.out.println(player.getName()
-              + " doesn't have enough money to purchase " + propertyName);
+          if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, player.getName() + " doesn't have enough money to purchase "
+                + propertyName);
+          }
           if (controller != null) {
             controller.updatePlayerMoney(player);
           }
@@ -110,7 +94,6 @@ public class PropertyTileAction implements TileAction {
           Stage stage = controller.getStage();
           DialogService.showPropertyPurchaseDialog(stage, this, () -> {
             if (player.payMoney(cost)) {
-              owner = player;
               player.addProperty(this);
 
               if (controller != null) {
@@ -118,97 +101,121 @@ public class PropertyTileAction implements TileAction {
                 controller.updatePlayerMoney(player);
               }
 
-              System.out.println(player.getName() + " purchased " + propertyName + " for " + cost);
+              LOGGER.log(Level.INFO, () -> player.getName() + " purchased " + propertyName + " for "
+                  + cost);
             }
-          }, () -> System.out.println(player.getName()
+          }, () -> LOGGER.log(Level.INFO, () -> player.getName()
               + " declined to purchase " + propertyName));
         } catch (Exception e) {
           LOGGER.log(Level.SEVERE, "Error showing property purchase dialog", e);
         }
       } else if (owner != player) {
-        String freeParking = player.getProperty("freeParking");
-        if (freeParking != null && freeParking.equals("true")) {
-          System.out.println(player.getName() + " landed on " + propertyName
-              + " owned by " + owner.getName() + " but has Free Parking");
-          System.out.println(player.getName() + " doesn't need to pay rent this turn");
+        if (player.hasFreeParking()) {
+          if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, player.getName() + " landed on " + propertyName
+                + " owned by " + owner.getName() + " but has Free Parking");
+            LOGGER.log(Level.INFO, player.getName() + " doesn't need to pay rent this turn");
+          }
 
-          player.setProperty("freeParking", null);
+          player.setFreeParking(false);
 
           if (controller != null) {
             controller.updatePlayerMoney(player);
           }
         } else {
-          int rent = cost * 2 / 10;
-          boolean ownsAllOfType = ownsAllPropertiesOfType(owner, propertyType);
-
-          if (ownsAllOfType) {
-            rent = cost;
-            System.out.println(player.getName() + " landed on " + propertyName
-                + " owned by " + owner.getName() + " (Monopoly bonus: rent = cost)");
-          } else {
-            System.out.println(
-                player.getName() + " landed on " + propertyName + " owned by " + owner.getName());
+          int rent = calculateRent(owner);
+
+          if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, player.getName() + " landed on " + propertyName
+                + " owned by " + owner.getName()
+                + (rent == cost ? " (Monopoly bonus: rent = cost)" : ""));
           }
 
-          System.out.println("Rent: " + rent);
+          if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Rent: " + rent);
+          }
 
           if (player.payPlayer(owner, rent)) {
             if (controller != null) {
               controller.updatePlayerMoney(player);
               controller.updatePlayerMoney(owner);
             }
-            System.out.println(player.getName() + " paid " + owner.getName() + " " + rent);
-          } else {
-            System.out.println(player.getName() + " cannot afford rent");
+            if (LOGGER.isLoggable(Level.INFO)) {
+              LOGGER.log(Level.INFO, player.getName() + " paid " + owner.getName() + " " + rent);
+            }
+          } else if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, player.getName() + " cannot afford rent");
           }
         }
       } else {
-        System.out.println(player.getName() + " landed on their own property: " + propertyName);
+        if (LOGGER.isLoggable(Level.INFO)) {
+          LOGGER.log(Level.INFO, player.getName() + " landed on their own property: "
+              + propertyName);
+        }
       }
     });
   }
 
   /**
-   * Checks if a player owns all properties of a specific type.
+   * Calculates the rent to pay to the owner of this property. The rent is 20% of the cost, or
+   * the full cost if the owner owns all properties of this type. Does not allocate, as it is
+   * called on every rent payment.
+   *
+   * @param owner The owner of the property.
+   * @return The rent to pay.
+   */
+  public int calculateRent(Player owner) {
+    return ownsAllPropertiesOfType(owner, propertyType) ? cost : cost * 2 / 10;
+  }
+
+  /**
+   * Checks if a player owns all properties of a specific type. The total number of properties
+   * of the type is taken from the board the player is playing on.
    *
    * @param player The player to check.
    * @param type The property to check.
    * @return True if the player owns all properties of the specified type, false otherwise.
    */
   private boolean ownsAllPropertiesOfType(Player player, String type) {
-    if (!propertyTypeCounts.containsKey(type)) {
+    BoardGame game = player.getGame();
+    if (game == null || game.getBoard() == null) {
       return false;
     }
 
-    int totalPropertiesOfType = propertyTypeCounts.get(type);
-    int playerPropertiesOfType = 0;
-
-    List<PropertyTileAction> playerProperties = player.getOwnedProperties();
-    for (PropertyTileAction property : playerProperties) {
-      if (property.getPropertyType().equals(type)) {
-        playerPropertiesOfType++;
-      }
-    }
+    int totalPropertiesOfType = game.getBoard().getPropertyTypeCount(type);
 
-    return playerPropertiesOfType == totalPropertiesOfType;
+    return totalPropertiesOfType > 0
+        && player.getOwnedPropertyCount(type) == totalPropertiesOfType;
   }
 
   /**
-   * Sets the owner of this property.
+   * Sets the owner of this property in a game. Property actions are shared between games, so
+   * the owner is stored in the ownership table of the game, keyed by the tile of the property.
    *
-   * @param player The player to set ownership of the property to.
+   * @param game The game the property belongs to.
+   * @param player The player to set ownership of the property to, or null to release it.
+   * @throws NullPointerException If the game is null.
+   * @throws IllegalStateException If the property is not placed on a board.
    */
-  public void setOwner(Player player) {
-    this.owner = player;
+  public void setOwner(BoardGame game, Player player) {
+    if (game == null) {
+      throw new NullPointerException("Game cannot be null");
+    }
+    if (tileId <= 0) {
+      throw new IllegalStateException("Property " + propertyName + " is not placed on a board");
+    }
+    game.setPropertyOwner(tileId, player);
   }
 
   /**
-   * Gets the owner of this property.
+   * Gets the owner of this property in a game.
    *
-   * @return The player who owns this property.
+   * @param game The game the property belongs to.
+   * @return The player who owns this property, or null if it is unowned or not placed on a
+   *     board.
    */
-  public Player getOwner() {
-    return this.owner;
+  public Player getOwner(BoardGame game) {
+    return game.getPropertyOwner(tileId);
   }
 
   /**
@@ -229,6 +236,24 @@ public class PropertyTileAction implements TileAction {
     return propertyType;
   }
 
+  /**
+   * Sets the ID of the tile this property is placed on.
+   *
+   * @param tileId The tile ID.
+   */
+  public void setTileId(int tileId) {
+    this.tileId = tileId;
+  }
+
+  /**
+   * Gets the ID of the tile this property is placed on.
+   *
+   * @return The tile ID, or 0 if the property is not placed on a board.
+   */
+  public int getTileId() {
+    return tileId;
+  }
+
   /**
    * Gets the cost of this property.
    *
@@ -2,6 +2,8 @@ package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Start Tile Action</h1>
@@ -13,6 +15,8 @@ import edu.ntnu.idi.idatt.model.gamelogic.Player;
  * @since v1.1.0
  */
 public class StartTileAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(StartTileAction.class.getName());
+  public static final StartTileAction INSTANCE = new StartTileAction();
   private static final int PASS_REWARD = 20000;
 
   /**
@@ -23,8 +27,9 @@ public class StartTileAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " landed on the Start tile");
-    System.out.println(player.getName() + " collects " + PASS_REWARD + " for passing start");
+    LOGGER.log(Level.INFO, () -> player.getName() + " landed on the Start tile");
+    LOGGER.log(Level.INFO, () -> player.getName() + " collects " + PASS_REWARD
+        + " for passing start");
     player.addMoney(PASS_REWARD);
   }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import edu.ntnu.idi.idatt.controllers.MonopolyGameController;
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.views.DialogService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javafx.stage.Stage;
 
 /**
@@ -17,10 +19,9 @@ import javafx.stage.Stage;
  * @since v1.1.0
  */
 public class TaxTileAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(TaxTileAction.class.getName());
   private final int percentageTax;
   private final int fixedTax;
-  private Stage ownerStage;
-  private MonopolyGameController controller;
 
   /**
    * Constructs a new TaxTileAction tile two taxation options.
@@ -33,10 +34,6 @@ public class TaxTileAction implements TileAction {
     this.fixedTax = fixedTax;
   }
 
-  public void setController(MonopolyGameController controller) {
-    this.controller = controller;
-  }
-
   /**
    * Performs the action of a tax tile. The player must pay either a percentage
    * of their money or a fixed amount, whichever is specified.
@@ -45,19 +42,18 @@ public class TaxTileAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " landed on a tax tile");
-    System.out.println("Options: Pay " + percentageTax
+    LOGGER.log(Level.INFO, () -> player.getName() + " landed on a tax tile");
+    LOGGER.log(Level.INFO, () -> "Options: Pay " + percentageTax
         + "% of money or " + fixedTax + " fixed tax");
 
-    if (ownerStage == null && controller != null) {
-      ownerStage = controller.getStage();
-    }
+    MonopolyGameController controller = MonopolyActionContext.getController(player);
+    Stage ownerStage = MonopolyActionContext.getStage(player);
 
     int percentageAmount = (int) (player.getMoney() * (percentageTax / 100.0));
 
     DialogService.showTaxPaymentDialog(ownerStage, percentageTax, fixedTax, player, () -> {
       if (player.payMoney(percentageAmount)) {
-        System.out.println(player.getName() + " paid " + percentageAmount
+        LOGGER.log(Level.INFO, () -> player.getName() + " paid " + percentageAmount
             + " as " + percentageTax + "% tax");
 
         if (controller != null) {
@@ -66,7 +62,7 @@ public class TaxTileAction implements TileAction {
       }
     }, () -> {
       if (player.payMoney(fixedTax)) {
-        System.out.println(player.getName() + " paid " + fixedTax + " as fixed tax");
+        LOGGER.log(Level.INFO, () -> player.getName() + " paid " + fixedTax + " as fixed tax");
 
         if (controller != null) {
           controller.updatePlayerMoney(player);
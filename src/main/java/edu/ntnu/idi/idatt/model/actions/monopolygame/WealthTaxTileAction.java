@@ -2,6 +2,8 @@ package edu.ntnu.idi.idatt.model.actions.monopolygame;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Wealth Tax Tile Action</h1>
@@ -13,6 +15,7 @@ import edu.ntnu.idi.idatt.model.gamelogic.Player;
  * @since v1.1.0
  */
 public class WealthTaxTileAction implements TileAction {
+  private static final Logger LOGGER = Logger.getLogger(WealthTaxTileAction.class.getName());
   private final int amount;
 
   /**
@@ -31,13 +34,13 @@ public class WealthTaxTileAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    System.out.println(player.getName() + " landed on a wealth tax tile");
-    System.out.println(player.getName() + " must pay " + amount);
+    LOGGER.log(Level.INFO, () -> player.getName() + " landed on a wealth tax tile");
+    LOGGER.log(Level.INFO, () -> player.getName() + " must pay " + amount);
 
     boolean paymentSuccessful = player.payMoney(amount);
 
     if (!paymentSuccessful) {
-      System.out.println(player.getName() + " couldn't afford to pay " + amount);
+      LOGGER.log(Level.INFO, () -> player.getName() + " couldn't afford to pay " + amount);
     }
   }
 
@@ -0,0 +1,435 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.GameSaveException;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGameObserver;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <h1>Autosave Service</h1>
+ *
+ * <p>Saves a game in the background, so the game thread never waits for the disk. A save request
+ * captures the player state on the calling thread, which only takes a few microseconds, and a
+ * background thread writes it to the save file. Requests made while a write is pending replace
+ * the pending state, so a burst of requests results in a single write of the latest state.</p>
+ *
+ * <p>When saving after every turn, a turn does not write a new snapshot. The changes of the turn
+ * are appended to the {@link TurnJournal} of the latest snapshot instead, and a new snapshot is
+ * only written once the journal has grown large or the players changed. A game loaded from a
+ * save continues the journal of that save. Games should be saved through the service rather
+ * than through {@link BoardGameFactory#saveBoardGame(BoardGame, String)} while it is in
+ * use.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Cheap snapshots on the game thread, written on a background thread</li>
+ *   <li>Debouncing: requests within the delay are coalesced into one write</li>
+ *   <li>Optional saving after every turn, once the game has been saved or was loaded</li>
+ *   <li>Turns appended to the journal between snapshots</li>
+ *   <li>Atomic single-file saves, see {@link SaveContainer}</li>
+ *   <li>Rotating autosave slots and named slots, see {@link SaveSlots}</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class AutosaveService implements BoardGameObserver, AutoCloseable {
+  public static final long DEFAULT_DELAY_MILLIS = 500;
+
+  private static final Logger LOGGER = Logger.getLogger(AutosaveService.class.getName());
+
+  private final BoardGame boardGame;
+  private final String saveName;
+  private final SaveSlots slots;
+  private final long delayMillis;
+  private final ScheduledExecutorService executor;
+  private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+  private final AtomicReference<TurnJournal> journal = new AtomicReference<>();
+  private final AtomicBoolean writeScheduled = new AtomicBoolean();
+  private String journalSaveName;
+  private volatile FileHandlerException lastError;
+  private volatile boolean saveEveryTurn;
+  private volatile boolean closed;
+
+  /**
+   * Creates an autosave service with the default delay.
+   *
+   * @param boardGame The game to save.
+   * @param saveName The name to save the game as.
+   */
+  public AutosaveService(BoardGame boardGame, String saveName) {
+    this(boardGame, saveName, DEFAULT_DELAY_MILLIS);
+  }
+
+  /**
+   * Creates an autosave service that always saves under the same name.
+   *
+   * @param boardGame The game to save.
+   * @param saveName The name to save the game as.
+   * @param delayMillis How long to wait for further requests before writing, in milliseconds.
+   * @throws IllegalArgumentException If the game or save name is null or the delay is negative.
+   */
+  public AutosaveService(BoardGame boardGame, String saveName, long delayMillis) {
+    this(boardGame, saveName, null, delayMillis);
+  }
+
+  /**
+   * Creates an autosave service with the default delay that saves to rotating autosave slots.
+   *
+   * @param boardGame The game to save.
+   * @param slots The save slots of the game.
+   */
+  public AutosaveService(BoardGame boardGame, SaveSlots slots) {
+    this(boardGame, slots, DEFAULT_DELAY_MILLIS);
+  }
+
+  /**
+   * Creates an autosave service that saves to rotating autosave slots. Each write goes to the
+   * next slot, so the latest states of the game are kept as the policy of the slots allows.
+   *
+   * @param boardGame The game to save.
+   * @param slots The save slots of the game.
+   * @param delayMillis How long to wait for further requests before writing, in milliseconds.
+   * @throws IllegalArgumentException If the game or slots are null or the delay is negative.
+   */
+  public AutosaveService(BoardGame boardGame, SaveSlots slots, long delayMillis) {
+    this(boardGame, null, slots, delayMillis);
+  }
+
+  /**
+   * Creates an autosave service that saves under a fixed name or to rotating slots.
+   *
+   * @param boardGame The game to save.
+   * @param saveName The name to save the game as, or null if slots are used.
+   * @param slots The save slots of the game, or null if a fixed name is used.
+   * @param delayMillis How long to wait for further requests before writing, in milliseconds.
+   */
+  private AutosaveService(BoardGame boardGame, String saveName, SaveSlots slots,
+      long delayMillis) {
+    if (boardGame == null || (saveName == null && slots == null)) {
+      throw new IllegalArgumentException("Game and save name cannot be null");
+    }
+
+    if (delayMillis < 0) {
+      throw new IllegalArgumentException("Delay cannot be negative");
+    }
+
+    this.boardGame = boardGame;
+    this.saveName = saveName;
+    this.slots = slots;
+    this.delayMillis = delayMillis;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "autosave");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    adoptJournal(BoardGameFactory.detachJournal(boardGame));
+    boardGame.addObserver(this);
+  }
+
+  /**
+   * Takes over the journal of a loaded game, so turns are appended to the save the game was
+   * loaded from. Only saves the service itself writes to are continued; the journal of a named
+   * save is left alone, so the named save keeps its state.
+   *
+   * @param loadedJournal The journal of the game, or null if it has none.
+   */
+  private void adoptJournal(TurnJournal loadedJournal) {
+    String loadedName = boardGame.getSaveName();
+    if (loadedJournal == null || loadedJournal.getFile() == null || loadedName == null) {
+      return;
+    }
+
+    boolean ownSave = slots != null
+        ? SaveSlots.isAutosave(loadedName)
+            && loadedName.startsWith(slots.getTableName() + SaveSlots.AUTOSAVE_MARKER)
+        : loadedName.equals(saveName);
+    if (ownSave) {
+      journal.set(loadedJournal);
+      journalSaveName = loadedName;
+    }
+  }
+
+  /**
+   * Requests a save of the current state of the game. The state is captured immediately and
+   * written in the background after the delay, together with any later requests. Must be called
+   * on the game thread.
+   *
+   * @return False if the previous write failed or the service is closed, true otherwise.
+   * @throws GameSaveException If the game has no players or no current player.
+   */
+  public boolean requestSave() {
+    if (closed) {
+      return false;
+    }
+
+    BoardGameFactory.SaveSnapshot snapshot =
+        BoardGameFactory.captureSnapshot(boardGame, getDescription());
+    TurnJournal nextJournal = TurnJournal.capture(boardGame);
+    journal.set(nextJournal);
+    pending.set(new PendingSave(snapshot, nextJournal));
+    if (writeScheduled.compareAndSet(false, true)) {
+      try {
+        executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        writeScheduled.set(false);
+        return false;
+      }
+    }
+    return lastError == null;
+  }
+
+  /**
+   * Saves the current state of the game to a named slot. The state is captured immediately and
+   * written in the background right away, without waiting for the delay. Must be called on the
+   * game thread.
+   *
+   * @param slotName The name of the slot.
+   * @return False if the previous write failed or the service is closed, true otherwise.
+   * @throws IllegalArgumentException If the slot name is invalid, see
+   *     {@link SaveSlots#validateSaveName(String)}.
+   * @throws GameSaveException If the game has no players or no current player.
+   */
+  public boolean saveAs(String slotName) {
+    String name = SaveSlots.validateSaveName(slotName);
+    if (closed) {
+      return false;
+    }
+
+    BoardGameFactory.SaveSnapshot snapshot = BoardGameFactory.captureSnapshot(boardGame, name);
+    try {
+      executor.execute(() -> write(snapshot, name));
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+    return lastError == null;
+  }
+
+  /**
+   * Saves the finished turn. The changes of the turn are appended to the journal of the latest
+   * snapshot; a new snapshot is requested instead if there is none yet, one is pending, the
+   * journal has grown large or the players changed.
+   */
+  private void saveTurn() {
+    TurnJournal current = journal.get();
+    if (current == null || pending.get() != null || current.needsCompaction()) {
+      requestSave();
+      return;
+    }
+
+    String records = current.collectTurn(boardGame);
+    if (records == null) {
+      requestSave();
+    } else if (!records.isEmpty()) {
+      try {
+        executor.execute(() -> appendTurn(current, records));
+      } catch (RejectedExecutionException e) {
+        LOGGER.log(Level.WARNING, "Could not append turn of {0}", getDescription());
+      }
+    }
+  }
+
+  /**
+   * Appends the records of a turn to the journal. If the journal cannot be written, the next
+   * turn writes a new snapshot instead. The save catalog is only updated when a snapshot is
+   * written, so a turn costs a single append rather than a rewrite of the catalog.
+   *
+   * @param turnJournal The journal collected from.
+   * @param records The records of the turn.
+   */
+  private void appendTurn(TurnJournal turnJournal, String records) {
+    if (turnJournal.getFile() == null) {
+      return;
+    }
+
+    try {
+      turnJournal.write(records);
+      lastError = null;
+    } catch (FileHandlerException e) {
+      lastError = e;
+      journal.compareAndSet(turnJournal, null);
+      LOGGER.log(Level.WARNING, "Appending turn to " + journalSaveName + " failed", e);
+    }
+  }
+
+  /**
+   * Writes the latest requested state, if any, to the fixed save name or the next autosave
+   * slot, and starts the journal of the new snapshot.
+   */
+  private void writePending() {
+    writeScheduled.set(false);
+    PendingSave save = pending.getAndSet(null);
+    if (save == null) {
+      return;
+    }
+
+    String name = slots != null ? slots.nextAutosaveSlot() : saveName;
+    if (!write(save.snapshot(), name)) {
+      journal.compareAndSet(save.journal(), null);
+      return;
+    }
+
+    try {
+      save.journal().bind(BoardGameFactory.getJournalFilePath(save.snapshot().gameType(), name));
+      journalSaveName = name;
+    } catch (FileHandlerException e) {
+      journal.compareAndSet(save.journal(), null);
+      LOGGER.log(Level.WARNING, "Could not start journal of " + name, e);
+    }
+
+    if (slots != null) {
+      try {
+        slots.applyRetention();
+      } catch (FileHandlerException e) {
+        LOGGER.log(Level.WARNING, "Could not apply retention policy of " + getDescription(), e);
+      }
+    }
+  }
+
+  /**
+   * Writes a snapshot and records the outcome.
+   *
+   * @param snapshot The snapshot.
+   * @param name The save name.
+   * @return True if the snapshot was written.
+   */
+  private boolean write(BoardGameFactory.SaveSnapshot snapshot, String name) {
+    try {
+      BoardGameFactory.writeSnapshot(snapshot, name);
+      lastError = null;
+      return true;
+    } catch (FileHandlerException e) {
+      lastError = e;
+      LOGGER.log(Level.WARNING, "Autosave of " + name + " failed", e);
+      return false;
+    }
+  }
+
+  /**
+   * Describes where the service saves, for messages.
+   *
+   * @return The save name, or the table name when saving to slots.
+   */
+  private String getDescription() {
+    return slots != null ? slots.getTableName() : saveName;
+  }
+
+  /**
+   * Enables or disables saving after every turn.
+   *
+   * @param saveEveryTurn True to request a save whenever the current player changes.
+   */
+  public void setSaveEveryTurn(boolean saveEveryTurn) {
+    this.saveEveryTurn = saveEveryTurn;
+  }
+
+  /**
+   * Checks whether a save is requested after every turn.
+   *
+   * @return True if the game is saved after every turn.
+   */
+  public boolean isSaveEveryTurn() {
+    return saveEveryTurn;
+  }
+
+  /**
+   * Gets the error of the last write, if it failed.
+   *
+   * @return The error, or null if the last write succeeded.
+   */
+  public FileHandlerException getLastError() {
+    return lastError;
+  }
+
+  /**
+   * Writes the pending state now and waits until it is written. Blocks the calling thread, so it
+   * is meant for shutdown and tests rather than the game thread.
+   *
+   * @throws GameSaveException If the write failed.
+   */
+  public void flush() {
+    try {
+      Future<?> write = executor.submit(this::writePending);
+      write.get();
+    } catch (RejectedExecutionException | ExecutionException e) {
+      throw new GameSaveException("Could not write autosave " + getDescription(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (lastError != null) {
+      throw new GameSaveException("Autosave of " + getDescription() + " failed", lastError);
+    }
+  }
+
+  /**
+   * Saves the finished turn if saving after every turn is enabled.
+   *
+   * @param player The new current player.
+   */
+  @Override
+  public void onCurrentPlayerChanged(Player player) {
+    if (!saveEveryTurn || closed) {
+      return;
+    }
+
+    try {
+      saveTurn();
+    } catch (FileHandlerException e) {
+      LOGGER.log(Level.WARNING, "Could not capture autosave of " + getDescription(), e);
+    }
+  }
+
+  @Override
+  public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
+  }
+
+  @Override
+  public void onGameWon(Player player) {
+  }
+
+  @Override
+  public void onPlayerSkipTurn(Player player) {
+  }
+
+  @Override
+  public void onPlayerBankrupt(Player player) {
+  }
+
+  /**
+   * Stops the service. A pending state is still written in the background without waiting for
+   * the delay, and the calling thread does not wait for it.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    boardGame.removeObserver(this);
+    executor.execute(this::writePending);
+    executor.shutdown();
+  }
+
+  /**
+   * A requested snapshot and the journal that continues it once it is written.
+   *
+   * @param snapshot The captured snapshot.
+   * @param journal The journal, with the captured state as its baseline.
+   */
+  private record PendingSave(BoardGameFactory.SaveSnapshot snapshot, TurnJournal journal) {
+  }
+}
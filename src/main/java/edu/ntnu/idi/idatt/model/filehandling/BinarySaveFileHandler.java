@@ -0,0 +1,447 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.actions.TileAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.BackToStartAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.LadderAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.WaitAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.ChanceTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.FreeParkingAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.GoToJailAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.JailTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.StartTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.TaxTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.WealthTaxTileAction;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.BoardFileException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileReadException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * <h1>Binary Save File Handler</h1>
+ *
+ * <p>File handler for the compact binary save format, which stores a complete game, both the
+ * board and the players, in a single file. Loading reads the file into a heap buffer and reads
+ * the values directly from it, so no text has to be parsed. The file is not memory-mapped, since
+ * a mapping keeps the file open until it is garbage collected, and on Windows an open mapping
+ * makes the atomic replace of the next save fail.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>A versioned header, so older saves can still be recognized when the format changes</li>
+ *   <li>Tile actions with their type-specific properties</li>
+ *   <li>Player records with position, money, status and jail turns</li>
+ *   <li>Property ownership stored as a bitset of tile IDs</li>
+ *   <li>The turn number, like the metadata of container saves</li>
+ * </ul>
+ *
+ * <h2>Binary format structure</h2>
+ *
+ * <p>All numbers are big-endian, and strings are stored as a two-byte length followed by UTF-8
+ * bytes.</p>
+ * <ul>
+ *   <li>Header: the magic bytes {@code BGSV}, a two-byte format version and a one-byte variant
+ *   ID, followed by the variant name if the variant ID is {@value #CUSTOM_VARIANT}</li>
+ *   <li>Tiles: a two-byte tile count, then per tile a two-byte tile ID, a one-byte action type
+ *   and the properties of the action</li>
+ *   <li>Players: the two-byte index of the current player and a two-byte player count, then per
+ *   player the name, token, two-byte tile ID, four-byte money, one-byte status flags, two-byte
+ *   jail turn count and the owned tile IDs as a one-byte word count and eight-byte words</li>
+ *   <li>Metadata: the four-byte turn number, missing in version 1 saves, which are loaded at
+ *   turn 0</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class BinarySaveFileHandler implements FileHandler<BoardGame> {
+  public static final short FORMAT_VERSION = 2;
+  public static final int CUSTOM_VARIANT = 0xFF;
+
+  private static final byte[] MAGIC = {'B', 'G', 'S', 'V'};
+  private static final List<String> VARIANTS = List.of("ladderGame", "ladderGameAdvanced",
+      "ladderGameExtreme", "Monopoly Game", "monopolyGame");
+
+  private static final int ACTION_NONE = 0;
+  private static final int ACTION_LADDER = 1;
+  private static final int ACTION_BACK_TO_START = 2;
+  private static final int ACTION_WAIT = 3;
+  private static final int ACTION_PROPERTY = 4;
+  private static final int ACTION_CHANCE = 5;
+  private static final int ACTION_START = 6;
+  private static final int ACTION_JAIL = 7;
+  private static final int ACTION_GO_TO_JAIL = 8;
+  private static final int ACTION_FREE_PARKING = 9;
+  private static final int ACTION_TAX = 10;
+  private static final int ACTION_WEALTH_TAX = 11;
+
+  /**
+   * Writes a game, including its players, to a binary save file. The file is replaced
+   * atomically, see {@link SaveContainer#writeAtomically}.
+   * Only the first BoardGame in the list is written.
+   *
+   * @param filename The name of the file to write to.
+   * @param boards The list of BoardGame objects to be written; cannot be empty.
+   * @throws FileWriteException If an I/O error occurs.
+   * @throws BoardFileException If the list is empty or the game has no variant name.
+   */
+  @Override
+  public void writeToFile(String filename, List<BoardGame> boards)
+      throws FileWriteException, BoardFileException {
+    if (filename == null || filename.isEmpty()) {
+      throw FileExceptionUtil.createBoardFileException("Cannot write a null or empty file name.");
+    }
+
+    if (boards == null || boards.isEmpty()) {
+      throw FileExceptionUtil.createBoardFileException("Cannot write empty board list to file.");
+    }
+
+    BoardGame boardGame = boards.getFirst();
+    if (boardGame.getVariantName() == null || boardGame.getVariantName().isEmpty()) {
+      throw FileExceptionUtil.createBoardFileException("Invalid board game: missing variant name");
+    }
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(content)) {
+      output.write(MAGIC);
+      output.writeShort(FORMAT_VERSION);
+      int variantId = VARIANTS.indexOf(boardGame.getVariantName());
+      if (variantId >= 0) {
+        output.writeByte(variantId);
+      } else {
+        output.writeByte(CUSTOM_VARIANT);
+        writeString(output, boardGame.getVariantName());
+      }
+
+      writeTiles(output, boardGame);
+      writePlayers(output, boardGame);
+      output.writeInt(boardGame.getTurnNumber());
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(filename, e);
+    }
+    SaveContainer.writeAtomically(Paths.get(filename), ByteBuffer.wrap(content.toByteArray()));
+  }
+
+  /**
+   * Writes the tiles of the board with their actions.
+   *
+   * @param output The output stream.
+   * @param boardGame The game.
+   * @throws IOException If writing fails.
+   */
+  private void writeTiles(DataOutputStream output, BoardGame boardGame) throws IOException {
+    List<Tile> tiles = boardGame.getBoard().getTiles().stream()
+        .sorted((first, second) -> Integer.compare(first.getTileId(), second.getTileId()))
+        .toList();
+
+    output.writeShort(tiles.size());
+    for (Tile tile : tiles) {
+      output.writeShort(tile.getTileId());
+      writeAction(output, tile.getAction());
+    }
+  }
+
+  /**
+   * Writes the action type and type-specific properties of a tile action.
+   *
+   * @param output The output stream.
+   * @param action The tile action, may be null.
+   * @throws IOException If writing fails.
+   */
+  private void writeAction(DataOutputStream output, TileAction action) throws IOException {
+    if (action instanceof LadderAction ladderAction) {
+      output.writeByte(ACTION_LADDER);
+      output.writeShort(ladderAction.getDestinationTileId());
+      writeString(output, ladderAction.getDirection());
+    } else if (action instanceof BackToStartAction) {
+      output.writeByte(ACTION_BACK_TO_START);
+    } else if (action instanceof WaitAction) {
+      output.writeByte(ACTION_WAIT);
+    } else if (action instanceof PropertyTileAction propertyTileAction) {
+      output.writeByte(ACTION_PROPERTY);
+      writeString(output, propertyTileAction.getPropertyName());
+      output.writeInt(propertyTileAction.getCost());
+      writeString(output, propertyTileAction.getPropertyType());
+    } else if (action instanceof ChanceTileAction) {
+      output.writeByte(ACTION_CHANCE);
+    } else if (action instanceof StartTileAction) {
+      output.writeByte(ACTION_START);
+    } else if (action instanceof JailTileAction) {
+      output.writeByte(ACTION_JAIL);
+    } else if (action instanceof GoToJailAction goToJailAction) {
+      output.writeByte(ACTION_GO_TO_JAIL);
+      output.writeShort(goToJailAction.getJailTileId());
+    } else if (action instanceof FreeParkingAction) {
+      output.writeByte(ACTION_FREE_PARKING);
+    } else if (action instanceof TaxTileAction taxTileAction) {
+      output.writeByte(ACTION_TAX);
+      output.writeInt(taxTileAction.getPercentageTax());
+      output.writeInt(taxTileAction.getFixedTax());
+    } else if (action instanceof WealthTaxTileAction wealthTaxTileAction) {
+      output.writeByte(ACTION_WEALTH_TAX);
+      output.writeInt(wealthTaxTileAction.getAmount());
+    } else {
+      output.writeByte(ACTION_NONE);
+    }
+  }
+
+  /**
+   * Writes the index of the current player and the player records.
+   *
+   * @param output The output stream.
+   * @param boardGame The game.
+   * @throws IOException If writing fails.
+   */
+  private void writePlayers(DataOutputStream output, BoardGame boardGame) throws IOException {
+    List<Player> players = boardGame.getPlayers();
+    output.writeShort(players.indexOf(boardGame.getCurrentPlayer()));
+    output.writeShort(players.size());
+
+    for (Player player : players) {
+      writeString(output, player.getName());
+      writeString(output, player.getToken());
+      output.writeShort(player.getCurrentTile() != null ? player.getCurrentTile().getTileId() : 1);
+      output.writeInt(player.getMoney());
+      output.writeByte(player.getStatusFlags() & Player.PERSISTED_STATUS_FLAGS);
+      output.writeShort(player.getJailTurnCount());
+
+      BitSet ownedTiles = new BitSet();
+      player.forEachOwnedProperty(property -> {
+        if (property.getTileId() > 0) {
+          ownedTiles.set(property.getTileId());
+        }
+      });
+      long[] ownedTileIds = ownedTiles.toLongArray();
+      output.writeByte(ownedTileIds.length);
+      for (long word : ownedTileIds) {
+        output.writeLong(word);
+      }
+    }
+  }
+
+  /**
+   * Writes a string as a two-byte length followed by its UTF-8 bytes.
+   *
+   * @param output The output stream.
+   * @param value The string to write.
+   * @throws IOException If writing fails.
+   */
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeShort(bytes.length);
+    output.write(bytes);
+  }
+
+  /**
+   * Reads a game, including its players, from a binary save file. The current player is marked
+   * with {@link Player#STATUS_CURRENT_PLAYER}, as for games loaded from the player CSV file.
+   *
+   * @param filename The name of the file to read from.
+   * @return A list containing the loaded game.
+   * @throws FileReadException If an I/O error occurs during file reading.
+   * @throws DataFormatException If the file is not a valid binary save file.
+   * @throws BoardFileException If the file refers to tiles the board does not have.
+   */
+  @Override
+  public List<BoardGame> readFromFile(String filename)
+      throws FileReadException, DataFormatException, BoardFileException {
+    if (filename == null || filename.isEmpty()) {
+      throw new FileReadException("Cannot read from a null or empty filename");
+    }
+
+    ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)));
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(filename, e);
+    }
+
+    try {
+      return List.of(readGame(buffer, filename));
+    } catch (BufferUnderflowException e) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "Binary save file is truncated");
+    }
+  }
+
+  /**
+   * Reads the game from the file content.
+   *
+   * @param buffer The file content.
+   * @param filename The name of the file (used for error reporting).
+   * @return The loaded game.
+   */
+  private BoardGame readGame(ByteBuffer buffer, String filename) {
+    byte[] magic = new byte[MAGIC.length];
+    buffer.get(magic);
+    if (!ByteBuffer.wrap(magic).equals(ByteBuffer.wrap(MAGIC))) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0, "Not a binary save file");
+    }
+
+    short version = buffer.getShort();
+    if (version < 1 || version > FORMAT_VERSION) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "Unsupported binary save format version: " + version);
+    }
+
+    int variantId = Byte.toUnsignedInt(buffer.get());
+    String variantName;
+    if (variantId == CUSTOM_VARIANT) {
+      variantName = readString(buffer);
+    } else if (variantId < VARIANTS.size()) {
+      variantName = VARIANTS.get(variantId);
+    } else {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "Unknown variant ID: " + variantId);
+    }
+
+    BoardGame boardGame = new BoardGame();
+    boardGame.setVariantName(variantName);
+    if (BoardGame.isMonopolyVariant(variantName)) {
+      boardGame.createMonopolyGameBoard();
+    } else {
+      boardGame.createLadderGameBoard();
+    }
+
+    readTiles(buffer, boardGame, filename);
+    boardGame.getBoard().buildIndex();
+    readPlayers(buffer, boardGame, filename);
+
+    // Version 1 saves end after the players and are loaded at turn 0
+    int turnNumber = version >= 2 ? buffer.getInt() : 0;
+    if (turnNumber < 0) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "Invalid turn number: " + turnNumber);
+    }
+    boardGame.setTurnNumber(turnNumber);
+    return boardGame;
+  }
+
+  /**
+   * Reads the tiles and sets their actions on the board. Tiles beyond the layout of the variant
+   * extend the board, see
+   * {@link edu.ntnu.idi.idatt.model.gamelogic.Board#getOrAppendTile(int)}.
+   *
+   * @param buffer The file content.
+   * @param boardGame The game.
+   * @param filename The name of the file (used for error reporting).
+   */
+  private void readTiles(ByteBuffer buffer, BoardGame boardGame, String filename) {
+    int tileCount = Short.toUnsignedInt(buffer.getShort());
+    for (int i = 0; i < tileCount; i++) {
+      int tileId = Short.toUnsignedInt(buffer.getShort());
+      TileAction action = readAction(buffer, filename, i + 1);
+      Tile tile = boardGame.getBoard().getOrAppendTile(tileId);
+      if (tile == null) {
+        throw FileExceptionUtil.createBoardFileException(boardGame.getVariantName(),
+            "Invalid tile ID: " + tileId);
+      }
+      if (action != null) {
+        tile.setAction(action);
+      }
+    }
+  }
+
+  /**
+   * Reads a tile action.
+   *
+   * @param buffer The file content.
+   * @param filename The name of the file (used for error reporting).
+   * @param record The position of the tile in the file (used for error reporting).
+   * @return The tile action, or null if the tile has none.
+   */
+  private TileAction readAction(ByteBuffer buffer, String filename, int record) {
+    int actionType = buffer.get();
+    return switch (actionType) {
+      case ACTION_NONE -> null;
+      case ACTION_LADDER -> new LadderAction(Short.toUnsignedInt(buffer.getShort()),
+          readString(buffer));
+      case ACTION_BACK_TO_START -> BackToStartAction.INSTANCE;
+      case ACTION_WAIT -> WaitAction.INSTANCE;
+      case ACTION_PROPERTY -> new PropertyTileAction(readString(buffer), buffer.getInt(),
+          readString(buffer));
+      case ACTION_CHANCE -> ChanceTileAction.INSTANCE;
+      case ACTION_START -> StartTileAction.INSTANCE;
+      case ACTION_JAIL -> JailTileAction.INSTANCE;
+      case ACTION_GO_TO_JAIL -> new GoToJailAction(Short.toUnsignedInt(buffer.getShort()));
+      case ACTION_FREE_PARKING -> FreeParkingAction.INSTANCE;
+      case ACTION_TAX -> new TaxTileAction(buffer.getInt(), buffer.getInt());
+      case ACTION_WEALTH_TAX -> new WealthTaxTileAction(buffer.getInt());
+      default -> throw FileExceptionUtil.createDataFormatException(filename, record,
+          "Unknown action type: " + actionType);
+    };
+  }
+
+  /**
+   * Reads the player records and adds the players to the game.
+   *
+   * @param buffer The file content.
+   * @param boardGame The game.
+   * @param filename The name of the file (used for error reporting).
+   */
+  private void readPlayers(ByteBuffer buffer, BoardGame boardGame, String filename) {
+    int currentPlayerIndex = buffer.getShort();
+    int playerCount = Short.toUnsignedInt(buffer.getShort());
+
+    for (int i = 0; i < playerCount; i++) {
+      String name = readString(buffer);
+      String token = readString(buffer);
+      int tileId = Short.toUnsignedInt(buffer.getShort());
+      int money = buffer.getInt();
+      int statusFlags = buffer.get() & Player.PERSISTED_STATUS_FLAGS;
+      int jailTurnCount = Short.toUnsignedInt(buffer.getShort());
+      long[] words = new long[Byte.toUnsignedInt(buffer.get())];
+      for (int word = 0; word < words.length; word++) {
+        words[word] = buffer.getLong();
+      }
+
+      Player player = new Player(name, token, boardGame, money);
+      Tile tile = boardGame.getBoard().getTile(tileId);
+      if (tile == null) {
+        throw FileExceptionUtil.createDataFormatException(filename, i + 1,
+            "Invalid tile ID for " + name + ": " + tileId);
+      }
+      player.placeOnTile(tile);
+      player.setStatusFlags(statusFlags);
+      player.setJailTurnCount(jailTurnCount);
+      player.setStatus(Player.STATUS_CURRENT_PLAYER, i == currentPlayerIndex);
+
+      BitSet ownedTileIds = BitSet.valueOf(words);
+      for (int owned = ownedTileIds.nextSetBit(0); owned >= 0;
+          owned = ownedTileIds.nextSetBit(owned + 1)) {
+        Tile ownedTile = boardGame.getBoard().getTile(owned);
+        if (ownedTile != null && ownedTile.getAction() instanceof PropertyTileAction property) {
+          player.addProperty(property);
+        }
+      }
+
+      boardGame.addPlayer(player);
+    }
+  }
+
+  /**
+   * Reads a string stored as a two-byte length followed by its UTF-8 bytes.
+   *
+   * @param buffer The file content.
+   * @return The string.
+   */
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -1,12 +1,12 @@
 package edu.ntnu.idi.idatt.model.filehandling;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.BackToStartAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.LadderAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.WaitAction;
@@ -25,12 +25,21 @@ import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileReadException;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
-import java.io.FileWriter;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <h1>Board File Handler</h1>
@@ -42,6 +51,11 @@ import java.util.List;
  * <h2>Features</h2>
  * <ul>
  *   <li>JSON serialization of complete board game structures using GSON</li>
+ *   <li>Streaming reading and writing, so loading and saving use constant extra memory
+ *   regardless of board size</li>
+ *   <li>Optional pretty printing</li>
+ *   <li>Transparent compression: files named {@code *.bgz} are written compressed, and
+ *   compressed files are detected when read, see {@link Compression}</li>
  *   <li>Preservation of game variant information</li>
  *   <li>Handling of tile relationships and action types</li>
  *   <li>Full reconstruction of game boards from saved files</li>
@@ -62,16 +76,52 @@ import java.util.List;
  */
 public class BoardFileHandler implements FileHandler<BoardGame> {
 
-  private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+  private final boolean prettyPrinting;
+
+  /**
+   * Creates a board file handler that pretty prints the files it writes.
+   */
+  public BoardFileHandler() {
+    this(true);
+  }
+
+  /**
+   * Creates a board file handler.
+   *
+   * @param prettyPrinting True to indent the files written, false to write compact files.
+   */
+  public BoardFileHandler(boolean prettyPrinting) {
+    this.prettyPrinting = prettyPrinting;
+  }
 
   /**
    * Serializes a BoardGame object into a JSON representation, including the board's tiles
    * and their properties such as tile ID, the next tile in the sequence, and their actions.
+   * Saving streams the board directly to the file instead, so this is meant for inspecting
+   * the saved form of a board.
    *
    * @param boardGame The BoardGame object to be serialized.
    * @return A JsonObject representing the serialized board game.
    */
   public JsonObject serializeBoard(BoardGame boardGame) {
+    validateBoard(boardGame);
+
+    StringWriter json = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(json)) {
+      writeBoard(boardGame, writer);
+    } catch (IOException e) {
+      throw FileExceptionUtil.createBoardFileException("Error serializing board:" + e.getMessage());
+    }
+    return JsonParser.parseString(json.toString()).getAsJsonObject();
+  }
+
+  /**
+   * Checks that a board game can be serialized.
+   *
+   * @param boardGame The board game to check.
+   * @throws BoardFileException If the board game is null or has no variant name.
+   */
+  private void validateBoard(BoardGame boardGame) {
     if (boardGame == null) {
       throw FileExceptionUtil.createBoardFileException("Cannot serialize null board game object.");
     }
@@ -79,74 +129,91 @@ public class BoardFileHandler implements FileHandler<BoardGame> {
     if (boardGame.getVariantName() == null || boardGame.getVariantName().isEmpty()) {
       throw FileExceptionUtil.createBoardFileException("Invalid board game: missing variant name");
     }
+  }
 
-    JsonObject boardJson = new JsonObject();
+  /**
+   * Streams a board game as JSON to a writer, one tile at a time.
+   *
+   * @param boardGame The board game to write.
+   * @param writer The JSON writer.
+   * @throws IOException If writing fails.
+   */
+  private void writeBoard(BoardGame boardGame, JsonWriter writer) throws IOException {
     String variantName = boardGame.getVariantName();
+    boolean monopoly = BoardGame.isMonopolyVariant(variantName);
 
-    if ("Monopoly Game".equals(variantName) || "monopolyGame".equals(variantName)) {
-      boardJson.addProperty("name", "Monopoly Game");
-      boardJson.addProperty("description", "A classic Monopoly game with 40 tiles.");
+    writer.beginObject();
+    if (monopoly) {
+      writer.name("name").value("Monopoly Game");
+      writer.name("description").value("A classic Monopoly game with 40 tiles.");
     } else {
-      boardJson.addProperty("name", "Ladder Game");
-      boardJson.addProperty("description", "A ladder game with 90 tiles.");
+      writer.name("name").value("Ladder Game");
+      writer.name("description").value("A ladder game with 90 tiles.");
     }
+    writer.name("variantName").value(variantName);
 
-    boardJson.addProperty("variantName", variantName);
-
-    JsonArray tilesArray = new JsonArray();
-
-    int maxTileId = ("Monopoly Game".equals(variantName)
-        || "monopolyGame".equals(variantName)) ? 40 : 90;
-
+    writer.name("tiles").beginArray();
+    int maxTileId = 0;
+    for (Tile tile : boardGame.getBoard().getTiles()) {
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+    }
     for (int i = 1; i <= maxTileId; i++) {
       Tile tile = boardGame.getBoard().getTile(i);
       if (tile == null) {
         continue;
       }
 
-      JsonObject tileJson = new JsonObject();
-      tileJson.addProperty("id", tile.getTileId());
-
+      writer.beginObject();
+      writer.name("id").value(tile.getTileId());
       if (tile.getNextTile() != null) {
-        if (tile.getAction() instanceof LadderAction ladderAction) {
-          tileJson.addProperty("actionType", "ladder");
-          tileJson.addProperty("destination", ladderAction.getDestinationTileId());
-          tileJson.addProperty("direction", ladderAction.getDirection());
-        } else if (tile.getAction() instanceof BackToStartAction) {
-          tileJson.addProperty("actionType", "backToStart");
-        } else if (tile.getAction() instanceof WaitAction) {
-          tileJson.addProperty("actionType", "wait");
-        } else if (tile.getAction() instanceof PropertyTileAction propertyTileAction) {
-          tileJson.addProperty("actionType", "property");
-          tileJson.addProperty("propertyName", propertyTileAction.getPropertyName());
-          tileJson.addProperty("cost", propertyTileAction.getCost());
-          tileJson.addProperty("type", propertyTileAction.getPropertyType());
-        } else if (tile.getAction() instanceof ChanceTileAction) {
-          tileJson.addProperty("actionType", "chance");
-        } else if (tile.getAction() instanceof StartTileAction) {
-          tileJson.addProperty("actionType", "start");
-        } else if (tile.getAction() instanceof JailTileAction) {
-          tileJson.addProperty("actionType", "jail");
-        } else if (tile.getAction() instanceof GoToJailAction goToJailAction) {
-          tileJson.addProperty("actionType", "goToJail");
-          tileJson.addProperty("jailTileId", goToJailAction.getJailTileId());
-        } else if (tile.getAction() instanceof FreeParkingAction) {
-          tileJson.addProperty("actionType", "freeParking");
-        } else if (tile.getAction() instanceof TaxTileAction taxTileAction) {
-          tileJson.addProperty("actionType", "tax");
-          tileJson.addProperty("percentageTax", taxTileAction.getPercentageTax());
-          tileJson.addProperty("fixedTax", taxTileAction.getFixedTax());
-        } else if (tile.getAction() instanceof WealthTaxTileAction wealthTaxTileAction) {
-          tileJson.addProperty("actionType", "wealthTax");
-          tileJson.addProperty("amount", wealthTaxTileAction.getAmount());
-        }
+        writeAction(tile.getAction(), writer);
       }
-
-      tilesArray.add(tileJson);
+      writer.endObject();
     }
+    writer.endArray();
+    writer.endObject();
+  }
 
-    boardJson.add("tiles", tilesArray);
-    return boardJson;
+  /**
+   * Writes the action type and type-specific properties of a tile action.
+   *
+   * @param action The tile action, may be null.
+   * @param writer The JSON writer, positioned inside the tile object.
+   * @throws IOException If writing fails.
+   */
+  private void writeAction(TileAction action, JsonWriter writer) throws IOException {
+    if (action instanceof LadderAction ladderAction) {
+      writer.name("actionType").value("ladder");
+      writer.name("destination").value(ladderAction.getDestinationTileId());
+      writer.name("direction").value(ladderAction.getDirection());
+    } else if (action instanceof BackToStartAction) {
+      writer.name("actionType").value("backToStart");
+    } else if (action instanceof WaitAction) {
+      writer.name("actionType").value("wait");
+    } else if (action instanceof PropertyTileAction propertyTileAction) {
+      writer.name("actionType").value("property");
+      writer.name("propertyName").value(propertyTileAction.getPropertyName());
+      writer.name("cost").value(propertyTileAction.getCost());
+      writer.name("type").value(propertyTileAction.getPropertyType());
+    } else if (action instanceof ChanceTileAction) {
+      writer.name("actionType").value("chance");
+    } else if (action instanceof StartTileAction) {
+      writer.name("actionType").value("start");
+    } else if (action instanceof JailTileAction) {
+      writer.name("actionType").value("jail");
+    } else if (action instanceof GoToJailAction goToJailAction) {
+      writer.name("actionType").value("goToJail");
+      writer.name("jailTileId").value(goToJailAction.getJailTileId());
+    } else if (action instanceof FreeParkingAction) {
+      writer.name("actionType").value("freeParking");
+    } else if (action instanceof TaxTileAction taxTileAction) {
+      writer.name("actionType").value("tax");
+      writer.name("percentageTax").value(taxTileAction.getPercentageTax());
+      writer.name("fixedTax").value(taxTileAction.getFixedTax());
+    } else if (action instanceof WealthTaxTileAction wealthTaxTileAction) {
+      writer.name("actionType").value("wealthTax");
+      writer.name("amount").value(wealthTaxTileAction.getAmount());
+    }
   }
 
   /**
@@ -170,9 +237,8 @@ public class BoardFileHandler implements FileHandler<BoardGame> {
       throw FileExceptionUtil.createBoardFileException("Cannot write empty board list to file.");
     }
 
-    JsonObject boardJson = serializeBoard(boards.getFirst());
-    try (Writer writer = new FileWriter(filename)) {
-      gson.toJson(boardJson, writer);
+    try (Writer writer = newWriter(filename)) {
+      write(boards.getFirst(), writer);
     } catch (IOException e) {
       throw FileExceptionUtil.wrapWriteException(filename, e);
     } catch (BoardFileException e) {
@@ -183,135 +249,265 @@ public class BoardFileHandler implements FileHandler<BoardGame> {
   }
 
   /**
-   * Deserializes a JsonObject into a BoardGame object, populating the board's tiles
-   * and their actions based on the JSON representation.
+   * Opens a writer for a board file, compressing the file if its name asks for it.
+   *
+   * @param filename The name of the file.
+   * @return The writer.
+   * @throws IOException If the file cannot be opened.
+   */
+  private Writer newWriter(String filename) throws IOException {
+    if (!Compression.isCompressedFileName(filename)) {
+      return Files.newBufferedWriter(Paths.get(filename), StandardCharsets.UTF_8);
+    }
+
+    OutputStream output = Compression.compressingStream(
+        Files.newOutputStream(Paths.get(filename)), Compression.Dictionary.BOARD_JSON);
+    return new OutputStreamWriter(output, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes a board game as JSON to a character stream, which is closed afterwards.
+   *
+   * @param boardGame The board game to write.
+   * @param output The stream to write to.
+   * @throws IOException If writing fails.
+   * @throws BoardFileException If the board game is invalid.
+   */
+  void write(BoardGame boardGame, Writer output) throws IOException, BoardFileException {
+    validateBoard(boardGame);
+    try (JsonWriter writer = new JsonWriter(output)) {
+      if (prettyPrinting) {
+        writer.setIndent("  ");
+      }
+      writeBoard(boardGame, writer);
+    }
+  }
+
+  /**
+   * Reads a board game from a JSON stream. Tiles are applied to the board as they are read, so
+   * only one tile is held in memory at a time. Tiles that appear before the variant name are the
+   * exception, as the board cannot be created before the variant is known.
    *
-   * @param boardJson The JsonObject containing the board game data.
+   * @param reader The JSON reader, positioned before the board object.
    * @param filename The name of the source file (used for error reporting).
    * @return A BoardGame object initialized based on the JSON content.
+   * @throws IOException If reading fails.
    * @throws DataFormatException If the JSON content is not in the expected format.
    * @throws BoardFileException If there is an error related to the board structure.
    */
-  private BoardGame deserializeBoard(JsonObject boardJson, String filename)
-      throws DataFormatException, BoardFileException {
+  private BoardGame readBoard(JsonReader reader, String filename) throws IOException {
+    BoardGame boardGame = null;
+    String variantName = null;
+    boolean hasTiles = false;
+    List<TileEntry> tilesBeforeVariant = new ArrayList<>(0);
+    Map<String, String> tileFields = new HashMap<>();
+    int lineNumber = 1;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "variantName" -> {
+          variantName = reader.nextString();
+          boardGame = createBoard(variantName);
+          for (TileEntry entry : tilesBeforeVariant) {
+            applyTile(boardGame, entry);
+          }
+          tilesBeforeVariant.clear();
+        }
+        case "tiles" -> {
+          hasTiles = true;
+          reader.beginArray();
+          while (reader.hasNext()) {
+            lineNumber++;
+            TileEntry entry = readTile(reader, tileFields, filename, lineNumber, variantName);
+            if (boardGame != null) {
+              applyTile(boardGame, entry);
+            } else {
+              tilesBeforeVariant.add(entry);
+            }
+          }
+          reader.endArray();
+        }
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (variantName == null) {
+      throw FileExceptionUtil.createDataFormatException(filename, 1,
+          "Missing required property: variantName");
+    }
+
+    if (!hasTiles) {
+      throw FileExceptionUtil.createDataFormatException(filename, 1,
+          "Missing required property: tiles");
+    }
+
+    boardGame.getBoard().buildIndex();
+    return boardGame;
+  }
+
+  /**
+   * Creates an empty board game for a variant.
+   *
+   * @param variantName The name of the variant.
+   * @return The board game with the variant's board.
+   */
+  private BoardGame createBoard(String variantName) {
     BoardGame boardGame = new BoardGame();
-    String variantName = boardJson.get("variantName").getAsString();
     boardGame.setVariantName(variantName);
 
-    if ("Monopoly Game".equals(variantName) || "monopolyGame".equals(variantName)) {
+    if (BoardGame.isMonopolyVariant(variantName)) {
       boardGame.createMonopolyGameBoard();
     } else {
       boardGame.createLadderGameBoard();
     }
+    return boardGame;
+  }
 
-    JsonArray tilesJson = boardJson.getAsJsonArray("tiles");
-    int lineNumber = 1;
+  /**
+   * Sets the action of a tile read from the file on the board. A tile beyond the layout of the
+   * variant extends the board, see
+   * {@link edu.ntnu.idi.idatt.model.gamelogic.Board#getOrAppendTile(int)}.
+   *
+   * @param boardGame The board game.
+   * @param entry The tile read from the file.
+   * @throws BoardFileException If the board has no tile with the ID or the one before it.
+   */
+  private void applyTile(BoardGame boardGame, TileEntry entry) {
+    Tile tile = boardGame.getBoard().getOrAppendTile(entry.id());
 
-    for (JsonElement tileElement : tilesJson) {
-      lineNumber++;
-      JsonObject tileJson = tileElement.getAsJsonObject();
+    if (tile == null) {
+      throw FileExceptionUtil.createBoardFileException(boardGame.getVariantName(),
+          "Invalid tile ID: " + entry.id());
+    }
 
-      if (!tileJson.has("id")) {
-        throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-            "Tile is missing required 'id' property");
+    if (entry.action() != null) {
+      tile.setAction(entry.action());
+    }
+  }
+
+  /**
+   * Reads one tile object and creates its action. The scalar properties of the tile are
+   * collected in a map that is reused for every tile.
+   *
+   * @param reader The JSON reader, positioned before the tile object.
+   * @param fields The map to collect the tile's properties in.
+   * @param filename The name of the source file (used for error reporting).
+   * @param lineNumber The position of the tile in the file (used for error reporting).
+   * @param variantName The variant name read so far, or null (used for error reporting).
+   * @return The tile ID and action.
+   * @throws IOException If reading fails.
+   * @throws DataFormatException If the tile is missing required properties.
+   * @throws BoardFileException If a property has an invalid value.
+   */
+  private TileEntry readTile(JsonReader reader, Map<String, String> fields, String filename,
+      int lineNumber, String variantName) throws IOException {
+    fields.clear();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      JsonToken token = reader.peek();
+      if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+        fields.put(name, reader.nextString());
+      } else {
+        reader.skipValue();
       }
+    }
+    reader.endObject();
 
-      int id = tileJson.get("id").getAsInt();
-      Tile tile = boardGame.getBoard().getTile(id);
+    if (!fields.containsKey("id")) {
+      throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+          "Tile is missing required 'id' property");
+    }
 
-      if (tile == null) {
-        throw FileExceptionUtil.createBoardFileException(variantName, "Invalid tile ID: " + id);
-      }
+    int id = Integer.parseInt(fields.get("id"));
+    String actionType = fields.get("actionType");
+    if (actionType == null) {
+      return new TileEntry(id, null);
+    }
 
-      if (tileJson.has("actionType")) {
-        String actionType = tileJson.get("actionType").getAsString();
-
-        try {
-          switch (actionType) {
-            case "ladder":
-              if (!tileJson.has("destination")
-                  || !tileJson.has("direction")) {
-                throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                    "Ladder action missing required properties (destination and/or direction)");
-              }
-              int destination = tileJson.get("destination").getAsInt();
-              String direction = tileJson.get("direction").getAsString();
-              tile.setAction(new LadderAction(destination, direction));
-              break;
-            case "backToStart":
-              tile.setAction(new BackToStartAction());
-              break;
-            case "wait":
-              tile.setAction(new WaitAction());
-              break;
-            case "property":
-              if (!tileJson.has("propertyName") || !tileJson.has("cost")
-                  || !tileJson.has("type")) {
-                throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                    "Property action missing required properties (propertyName, cost, or type)");
-              }
-              String propertyName = tileJson.get("propertyName").getAsString();
-              int cost = tileJson.get("cost").getAsInt();
-              String type = tileJson.get("type").getAsString();
-              tile.setAction(new PropertyTileAction(propertyName, cost, type));
-              break;
-            case "start":
-              tile.setAction(new StartTileAction());
-              break;
-            case "chance":
-              tile.setAction(new ChanceTileAction());
-              break;
-            case "jail":
-              tile.setAction(new JailTileAction());
-              break;
-            case "goToJail":
-              if (!tileJson.has("jailTileId")) {
-                throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                    "GoToJail action missing required property: jailTileId");
-              }
-              int jailTileId = tileJson.get("jailTileId").getAsInt();
-              tile.setAction(new GoToJailAction(jailTileId));
-              break;
-            case "freeParking":
-              tile.setAction(new FreeParkingAction());
-              break;
-            case "tax":
-              if (!tileJson.has("percentageTax")
-                  || !tileJson.has("fixedTax")) {
-                throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                    "Tax action missing required properties (percentageTax and/or fixedTax)");
-              }
-              int percentageTax = tileJson.get("percentageTax").getAsInt();
-              int fixedTax = tileJson.get("fixedTax").getAsInt();
-              tile.setAction(new TaxTileAction(percentageTax, fixedTax));
-              break;
-            case "wealthTax":
-              if (!tileJson.has("amount")) {
-                throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                    "WealthTax action missing required property: amount");
-              }
-              int amount = tileJson.get("amount").getAsInt();
-              tile.setAction(new WealthTaxTileAction(amount));
-              break;
-            default:
-              throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
-                  "Unknown action type: " + actionType);
-          }
-        } catch (IllegalArgumentException e) {
-          throw FileExceptionUtil.createBoardFileException(variantName,
-              "Invalid value for action type '" + actionType
-                  + "' at tile " + id + ": " + e.getMessage());
-        }
-      }
+    try {
+      return new TileEntry(id, createAction(actionType, fields, filename, lineNumber));
+    } catch (DataFormatException e) {
+      throw e;
+    } catch (IllegalArgumentException e) {
+      throw FileExceptionUtil.createBoardFileException(variantName,
+          "Invalid value for action type '" + actionType
+              + "' at tile " + id + ": " + e.getMessage());
     }
+  }
 
-    return boardGame;
+  /**
+   * Creates the action of a tile from its properties.
+   *
+   * @param actionType The action type of the tile.
+   * @param fields The properties of the tile.
+   * @param filename The name of the source file (used for error reporting).
+   * @param lineNumber The position of the tile in the file (used for error reporting).
+   * @return The tile action.
+   * @throws DataFormatException If the action type is unknown or properties are missing.
+   */
+  private TileAction createAction(String actionType, Map<String, String> fields,
+      String filename, int lineNumber) {
+    switch (actionType) {
+      case "ladder":
+        if (!fields.containsKey("destination") || !fields.containsKey("direction")) {
+          throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+              "Ladder action missing required properties (destination and/or direction)");
+        }
+        return new LadderAction(Integer.parseInt(fields.get("destination")),
+            fields.get("direction"));
+      case "backToStart":
+        return BackToStartAction.INSTANCE;
+      case "wait":
+        return WaitAction.INSTANCE;
+      case "property":
+        if (!fields.containsKey("propertyName") || !fields.containsKey("cost")
+            || !fields.containsKey("type")) {
+          throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+              "Property action missing required properties (propertyName, cost, or type)");
+        }
+        return new PropertyTileAction(fields.get("propertyName"),
+            Integer.parseInt(fields.get("cost")), fields.get("type"));
+      case "start":
+        return StartTileAction.INSTANCE;
+      case "chance":
+        return ChanceTileAction.INSTANCE;
+      case "jail":
+        return JailTileAction.INSTANCE;
+      case "goToJail":
+        if (!fields.containsKey("jailTileId")) {
+          throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+              "GoToJail action missing required property: jailTileId");
+        }
+        return new GoToJailAction(Integer.parseInt(fields.get("jailTileId")));
+      case "freeParking":
+        return FreeParkingAction.INSTANCE;
+      case "tax":
+        if (!fields.containsKey("percentageTax") || !fields.containsKey("fixedTax")) {
+          throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+              "Tax action missing required properties (percentageTax and/or fixedTax)");
+        }
+        return new TaxTileAction(Integer.parseInt(fields.get("percentageTax")),
+            Integer.parseInt(fields.get("fixedTax")));
+      case "wealthTax":
+        if (!fields.containsKey("amount")) {
+          throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+              "WealthTax action missing required property: amount");
+        }
+        return new WealthTaxTileAction(Integer.parseInt(fields.get("amount")));
+      default:
+        throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+            "Unknown action type: " + actionType);
+    }
   }
 
   /**
    * Reads the content of a JSON file and converts it into a list containing a BoardGame object.
    * The JSON file is expected to have a list of tiles with their properties,
    * which are used to set up the game board and its relationships between tiles.
+   * The file is read through the JSON reader's own buffer, so no extra buffered reader is used.
    *
    * @param filename The name of the file to read from.
    * @return A list containing a single BoardGame object initialized based on the JSON file content.
@@ -326,36 +522,47 @@ public class BoardFileHandler implements FileHandler<BoardGame> {
       throw new FileReadException("Cannot read from a null or empty filename");
     }
 
-    try {
-      String json = new String(Files.readAllBytes(Paths.get(filename)));
-
-      JsonObject boardJson;
-      try {
-        boardJson = JsonParser.parseString(json).getAsJsonObject();
-      } catch (JsonSyntaxException e) {
-        throw FileExceptionUtil.createDataFormatException(filename, 1,
-            "Invalid JSON syntax: " + e.getMessage());
-      }
-
-      if (!boardJson.has("variantName")) {
-        throw FileExceptionUtil.createDataFormatException(filename, 1,
-            "Missing required property: variantName");
-      }
-
-      if (!boardJson.has("tiles")) {
-        throw FileExceptionUtil.createDataFormatException(filename, 1,
-            "Missing required property: tiles");
-      }
-
-      BoardGame boardGame = deserializeBoard(boardJson, filename);
-      return List.of(boardGame);
+    try (Reader reader = new InputStreamReader(Compression.decompressingStream(
+        Files.newInputStream(Paths.get(filename)), filename), StandardCharsets.UTF_8)) {
+      return List.of(parseBoard(reader, filename));
     } catch (IOException e) {
       throw FileExceptionUtil.wrapReadException(filename, e);
+    }
+  }
+
+  /**
+   * Parses the JSON content of a board file into a BoardGame object.
+   *
+   * @param source The JSON content of the board file.
+   * @param filename The name of the source file (used for error reporting).
+   * @return A BoardGame object initialized based on the JSON content.
+   * @throws IOException If reading the content fails.
+   * @throws DataFormatException If the content is not in the expected format.
+   * @throws BoardFileException If there is an error related to the board structure.
+   */
+  BoardGame parseBoard(Reader source, String filename)
+      throws IOException, DataFormatException, BoardFileException {
+    JsonReader reader = new JsonReader(source);
+    reader.setLenient(true);
+    try {
+      return readBoard(reader, filename);
+    } catch (MalformedJsonException | EOFException | IllegalStateException e) {
+      throw FileExceptionUtil.createDataFormatException(filename, 1,
+          "Invalid JSON syntax: " + e.getMessage());
     } catch (DataFormatException | BoardFileException e) {
       throw e;
-    } catch (Exception e) {
+    } catch (RuntimeException e) {
       throw FileExceptionUtil.createBoardFileException("Failed to parse board file: "
           + e.getMessage());
     }
   }
+
+  /**
+   * A tile read from a board file.
+   *
+   * @param id The ID of the tile.
+   * @param action The action of the tile, or null if it has none.
+   */
+  private record TileEntry(int id, TileAction action) {
+  }
 }
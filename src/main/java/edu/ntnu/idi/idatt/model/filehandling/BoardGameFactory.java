@@ -2,6 +2,7 @@ package edu.ntnu.idi.idatt.model.filehandling;
 
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.BoardFileException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileNotFoundException;
@@ -9,13 +10,32 @@ import edu.ntnu.idi.idatt.model.filehandling.exceptions.GameLoadException;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.GameSaveException;
 import edu.ntnu.idi.idatt.model.filehandling.exceptions.PlayerFileException;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardTemplate;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -35,6 +55,12 @@ import java.util.stream.Stream;
  *   <li>Loading previously saved game states</li>
  *   <li>Managing game configuration and initialization</li>
  *   <li>Handling file operations for game storage</li>
+ *   <li>Caching compiled board templates per variant and per board file</li>
+ *   <li>Appending turns to a {@link TurnJournal} between full save snapshots</li>
+ *   <li>Saving in the JSON or the compact binary {@link SaveFormat}</li>
+ *   <li>Atomic single-file saves with checksums, see {@link SaveContainer}</li>
+ *   <li>Storing only a reference to the board of a predefined variant in saves</li>
+ *   <li>Listing saves with their metadata from a {@link SaveCatalog}, without parsing them</li>
  * </ul>
  *
  * @author Ola Syrstad Berg
@@ -44,6 +70,22 @@ public class BoardGameFactory {
   //Cannot be final due to tests:
   private static String SAVE_FILES_DIRECTORY = "src/main/resources/saves";
   static Logger LOGGER = Logger.getLogger(BoardGameFactory.class.getName());
+  private static final int MAX_CACHED_BOARD_FILES = 16;
+  private static final Map<String, BoardTemplate> VARIANT_TEMPLATES = new ConcurrentHashMap<>();
+  private static final Map<String, BoardTemplate> BOARD_FILE_TEMPLATES =
+      Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_BOARD_FILES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BoardTemplate> eldest) {
+          return size() > MAX_CACHED_BOARD_FILES;
+        }
+      });
+  private static final Map<String, String> VARIANT_BOARD_HASHES = new ConcurrentHashMap<>();
+  private static final List<String> PREDEFINED_VARIANTS = List.of("ladderGame",
+      "ladderGameAdvanced", "ladderGameExtreme", "Monopoly Game");
+  private static final Map<BoardGame, TurnJournal> ACTIVE_JOURNALS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+  private static final Map<Path, SaveCatalog> CATALOGS = new ConcurrentHashMap<>();
+  private static final String TURN_NUMBER_KEY = "turnNumber";
 
   /**
    * Creates a classic ladder game.
@@ -51,12 +93,7 @@ public class BoardGameFactory {
    * @return A configured board game.
    */
   public static BoardGame createLadderGameClassic() {
-    BoardGame boardGame = new BoardGame();
-    boardGame.setVariantName("ladderGame");
-    boardGame.createLadderGameBoard();
-    boardGame.createDice();
-
-    return boardGame;
+    return getVariantTemplate("ladderGame").createBoardGame();
   }
 
   /**
@@ -65,12 +102,7 @@ public class BoardGameFactory {
    * @return A configured board game.
    */
   public static BoardGame createLadderGameAdvanced() {
-    BoardGame boardGame = new BoardGame();
-    boardGame.setVariantName("ladderGameAdvanced");
-    boardGame.createLadderGameBoard();
-    boardGame.createDice();
-
-    return boardGame;
+    return getVariantTemplate("ladderGameAdvanced").createBoardGame();
   }
 
   /**
@@ -79,12 +111,7 @@ public class BoardGameFactory {
    * @return A configured board game.
    */
   public static BoardGame createLadderGameExtreme() {
-    BoardGame boardGame = new BoardGame();
-    boardGame.setVariantName("ladderGameExtreme");
-    boardGame.createLadderGameBoard();
-    boardGame.createDice();
-
-    return boardGame;
+    return getVariantTemplate("ladderGameExtreme").createBoardGame();
   }
 
   /**
@@ -93,12 +120,7 @@ public class BoardGameFactory {
    * @return A configured board game.
    */
   public static BoardGame createMonopolyGame() {
-    BoardGame boardGame = new BoardGame();
-    boardGame.setVariantName("Monopoly Game");
-    boardGame.createMonopolyGameBoard();
-    boardGame.createDice();
-
-    return boardGame;
+    return getVariantTemplate("Monopoly Game").createBoardGame();
   }
 
   /**
@@ -127,32 +149,77 @@ public class BoardGameFactory {
   }
 
   /**
-   * Save a board game to a file.
+   * Save a board game to a file in the JSON format. If the game was saved under the same name
+   * before and its turn journal is still small, only the changes since then are appended to the
+   * journal. Otherwise a full snapshot is written and a new journal is started.
    *
    * @param boardGame The board game to save.
    * @param boardName The name to save the board game as.
    * @throws GameSaveException If an error occurs during saving the game.
    */
   public static void saveBoardGame(BoardGame boardGame, String boardName) {
+    saveBoardGame(boardGame, boardName, SaveFormat.JSON);
+  }
+
+  /**
+   * Save a board game to a file in the given format. If the game was saved under the same name
+   * and in the same format before and its turn journal is still small, only the changes since
+   * then are appended to the journal. Otherwise a full snapshot is written, the snapshot in the
+   * other format is removed and a new journal is started. Snapshots are single files that are
+   * replaced atomically, so a crash while saving never leaves a half-written save.
+   *
+   * @param boardGame The board game to save.
+   * @param boardName The name to save the board game as.
+   * @param format The format of the snapshot.
+   * @throws GameSaveException If an error occurs during saving the game.
+   */
+  public static void saveBoardGame(BoardGame boardGame, String boardName, SaveFormat format) {
     if (boardName == null) {
       throw new GameSaveException("Cannot save game with null name", null);
     }
 
+    if (format == null) {
+      throw new GameSaveException("Cannot save game with null format", null);
+    }
+
     try {
       String gameType = getGameType(boardGame);
-      String boardFilename = getBoardSaveFilePath(gameType, boardName);
-      String playerFilename = getPlayerSaveFilePath(gameType, boardName);
+      Path saveFilePath = getSaveFilePath(gameType, boardName);
+      Path binaryFilePath = getBinarySaveFilePath(gameType, boardName);
+      Path journalFilePath = getJournalFilePath(gameType, boardName);
 
-      if (!boardGame.getPlayers().isEmpty() && boardGame.getCurrentPlayer() != null) {
-        String currentPlayerName = boardGame.getCurrentPlayer().getName();
-        boardGame.getPlayers().getFirst().setProperty("currentPlayerName", currentPlayerName);
+      boolean snapshotExists = Files.exists(format == SaveFormat.BINARY
+          ? binaryFilePath : saveFilePath);
+      TurnJournal journal = ACTIVE_JOURNALS.get(boardGame);
+      if (journal != null && journal.getFile().equals(journalFilePath)
+          && !journal.needsCompaction() && snapshotExists && journal.appendTurn(boardGame)) {
+        LOGGER.log(Level.FINE, "Appended turn to journal {0}", journalFilePath);
+        updateCatalog(gameType, boardName, boardGame.getVariantName(),
+            getPlayerNames(boardGame), boardGame.getTurnNumber());
+        return;
+      }
 
-        PlayerFileHandler playerFileHandler = new PlayerFileHandler();
-        playerFileHandler.writeToFile(playerFilename, boardGame.getPlayers());
+      // The journal belongs to the old snapshot. It must be gone before the new snapshot is in
+      // place, or a crash in between would replay it onto the new snapshot.
+      if (journal != null) {
+        boardGame.removeObserver(journal);
       }
+      Files.deleteIfExists(journalFilePath);
 
-      BoardFileHandler fileHandler = new BoardFileHandler();
-      fileHandler.writeToFile(boardFilename, List.of(boardGame));
+      if (format == SaveFormat.BINARY) {
+        new BinarySaveFileHandler().writeToFile(binaryFilePath.toString(), List.of(boardGame));
+        Files.deleteIfExists(saveFilePath);
+      } else {
+        SaveContainer.write(saveFilePath, serializeSections(boardGame, saveFilePath.toString()));
+        Files.deleteIfExists(binaryFilePath);
+      }
+      Files.deleteIfExists(Paths.get(getBoardSaveFilePath(gameType, boardName)));
+      Files.deleteIfExists(Paths.get(getPlayerSaveFilePath(gameType, boardName)));
+
+      trackJournal(boardGame, TurnJournal.start(journalFilePath, boardGame));
+      boardGame.setSaveName(boardName);
+      updateCatalog(gameType, boardName, boardGame.getVariantName(), getPlayerNames(boardGame),
+          boardGame.getTurnNumber());
     } catch (IOException e) {
       throw FileExceptionUtil.createSaveException(boardName, e);
     } catch (GameSaveException e) {
@@ -168,7 +235,9 @@ public class BoardGameFactory {
    * Loads a saved game from specified save files. This method reads the board
    * configuration and player data from the corresponding save files, restores
    * the game state, initializes any missing components, and positions players
-   * on the appropriate tiles.
+   * on the appropriate tiles. The save container is loaded if it exists, otherwise the binary
+   * save, and otherwise the separate JSON board file and CSV player file written by older
+   * versions.
    *
    * @param gameType The type of game to load (monopolygame, laddergame).
    * @param saveName The name of the save file to load the game from, excluding file extensions.
@@ -187,86 +256,31 @@ public class BoardGameFactory {
     }
 
     try {
-      String boardFilename = getBoardSaveFilePath(gameType, saveName);
-      String playerFilename = getPlayerSaveFilePath(gameType, saveName);
-
-      Path boardFilePath = Paths.get(boardFilename);
-      Path playerFilePath = Paths.get(playerFilename);
-
-      if (!Files.exists(boardFilePath)) {
-        throw new FileNotFoundException(boardFilename);
-      }
-
-      if (!Files.exists(playerFilePath)) {
-        throw new FileHandlerException("Player data file does not exist: " + playerFilename);
-      }
-
-      PlayerFileHandler playerFileHandler = new PlayerFileHandler();
-      List<Player> players = playerFileHandler.readFromFile(playerFilename);
-
-      BoardFileHandler fileHandler = new BoardFileHandler();
-      List<BoardGame> loadedGames = fileHandler.readFromFile(boardFilename);
-
-      if (players.isEmpty()) {
+      BoardGame loadedGame = loadSnapshot(gameType, saveName);
+      if (loadedGame.getPlayers().isEmpty()) {
         throw FileExceptionUtil.createPlayerFileException(saveName,
             "Player file contains no valid player data");
       }
 
-      if (loadedGames.isEmpty()) {
-        throw FileExceptionUtil.createBoardFileException(gameType,
-            "Board file exists but contains no valid board game data");
-      }
-
-      BoardGame loadedGame = loadedGames.getFirst();
       loadedGame.setIsLoadedGame(true);
+      loadedGame.setSaveName(saveName);
 
       if (loadedGame.getDice() == null) {
         loadedGame.createDice();
       }
 
       int currentPlayerIndex = -1;
-
-      for (int index = 0; index < players.size(); index++) {
-        Player player = players.get(index);
-        player.setGame(loadedGame);
-
-        String savedTileIdStr = player.getProperty("savedTileId");
-        if (savedTileIdStr != null && !savedTileIdStr.trim().isEmpty()) {
-          try {
-            int tileId = Integer.parseInt(savedTileIdStr.trim());
-            Tile tile = loadedGame.getBoard().getTile(tileId);
-            if (tile != null) {
-              player.placeOnTile(tile);
-              LOGGER.log(Level.INFO, "Player {0} placed on tile {1}",
-                  new Object[]{player.getName(), tileId});
-            } else {
-              LOGGER.log(Level.WARNING, "Could not find saved tile ID {0}", tileId);
-              player.placeOnTile(loadedGame.getBoard().getTile(1));
-            }
-          } catch (NumberFormatException e) {
-            LOGGER.log(Level.WARNING, "Could not parse saved tile ID: {0}", savedTileIdStr);
-            player.placeOnTile(loadedGame.getBoard().getTile(1));
-          }
-        } else {
-          LOGGER.log(Level.INFO, "No saved tile ID found for player {0}", player.getName());
-          player.placeOnTile(loadedGame.getBoard().getTile(1));
-        }
-
-        String savedPropertiesStr = player.getProperty("savedProperties");
-        if (savedPropertiesStr != null && !savedPropertiesStr.trim().isEmpty()) {
-          String[] propertyNames = savedPropertiesStr.split(";");
-          for (String propertyName : propertyNames) {
-            if (!propertyName.trim().isEmpty()) {
-              addPropertyToPlayer(loadedGame, player, propertyName.trim());
-            }
-          }
-        }
-
-        if ("true".equals(player.getProperty("isCurrentPlayer"))) {
+      List<Player> players = loadedGame.getPlayers();
+      for (int index = 0; index < players.size() && currentPlayerIndex < 0; index++) {
+        if (players.get(index).hasStatus(Player.STATUS_CURRENT_PLAYER)) {
           currentPlayerIndex = index;
         }
+      }
 
-        loadedGame.addPlayer(player);
+      Path journalFilePath = getJournalFilePath(gameType, saveName);
+      TurnJournal.ReplayResult replayed = TurnJournal.replay(journalFilePath, loadedGame);
+      if (replayed.currentPlayerIndex() >= 0) {
+        currentPlayerIndex = replayed.currentPlayerIndex();
       }
 
       if (currentPlayerIndex >= 0 && currentPlayerIndex < players.size()) {
@@ -276,7 +290,9 @@ public class BoardGameFactory {
             + " starting with first player instead.");
         loadedGame.initializeGame();
       }
+      loadedGame.setTurnNumber(loadedGame.getTurnNumber() + replayed.turns());
 
+      trackJournal(loadedGame, TurnJournal.resume(journalFilePath, loadedGame, replayed));
       return loadedGame;
     } catch (FileNotFoundException e) {
       throw FileExceptionUtil.createLoadException(saveName, gameType, "Save file not found: "
@@ -291,26 +307,677 @@ public class BoardGameFactory {
   }
 
   /**
-   * Associates a property with a player in a Monopoly game.
+   * Loads the latest snapshot of a save, without replaying its turn journal. The save container
+   * is loaded if it exists, otherwise the binary save, and otherwise the legacy JSON and CSV
+   * pair.
+   *
+   * @param gameType The type of game to load (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return The game with its players placed on their saved tiles.
+   * @throws IOException If the save files cannot be resolved or read.
+   * @throws FileHandlerException If the save is missing or damaged.
+   */
+  private static BoardGame loadSnapshot(String gameType, String saveName) throws IOException {
+    Path saveFilePath = getSaveFilePath(gameType, saveName);
+    Path binaryFilePath = getBinarySaveFilePath(gameType, saveName);
+    if (Files.exists(saveFilePath)) {
+      return loadContainerSnapshot(saveFilePath);
+    } else if (Files.exists(binaryFilePath)) {
+      return new BinarySaveFileHandler().readFromFile(binaryFilePath.toString()).getFirst();
+    }
+    return loadJsonSnapshot(gameType, saveName);
+  }
+
+  /**
+   * Lists the saves of a game type with their metadata, the most recently saved first. The
+   * metadata is read from the save catalog of the game type, so no save is parsed; the catalog
+   * is only rebuilt from the saves if its index file is missing.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @return The catalog entries of the saves.
+   */
+  public static List<SaveCatalog.Entry> listSavedGames(String gameType) {
+    return getCatalog(gameType).list();
+  }
+
+  /**
+   * Gets the metadata of a save from the save catalog of its game type.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return The catalog entry, or an empty optional if there is no such save.
+   */
+  public static Optional<SaveCatalog.Entry> getSavedGameInfo(String gameType, String saveName) {
+    return getCatalog(gameType).find(saveName);
+  }
+
+  /**
+   * Checks whether a save exists, in any of the save formats.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return True if the save can be loaded.
+   */
+  public static boolean hasSavedGame(String gameType, String saveName) {
+    try {
+      return Files.exists(getSaveFilePath(gameType, saveName))
+          || Files.exists(getBinarySaveFilePath(gameType, saveName))
+          || (Files.exists(Paths.get(getBoardSaveFilePath(gameType, saveName)))
+          && Files.exists(Paths.get(getPlayerSaveFilePath(gameType, saveName))));
+    } catch (IOException | FileHandlerException e) {
+      LOGGER.log(Level.WARNING, "Could not check for save " + saveName, e);
+      return false;
+    }
+  }
+
+  /**
+   * Deletes all files of a save, including its turn journal.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return True if the save was deleted, false if a file could not be deleted.
+   */
+  public static boolean deleteSavedGame(String gameType, String saveName) {
+    try {
+      Files.deleteIfExists(getSaveFilePath(gameType, saveName));
+      Files.deleteIfExists(getBinarySaveFilePath(gameType, saveName));
+      Files.deleteIfExists(Paths.get(getBoardSaveFilePath(gameType, saveName)));
+      Files.deleteIfExists(Paths.get(getPlayerSaveFilePath(gameType, saveName)));
+      Files.deleteIfExists(getJournalFilePath(gameType, saveName));
+      getCatalog(gameType).remove(saveName);
+      return true;
+    } catch (IOException | FileHandlerException e) {
+      LOGGER.log(Level.WARNING, "Could not delete save " + saveName, e);
+      return false;
+    }
+  }
+
+  /**
+   * Loads the board and players of a save written by older versions as two separate files, with
+   * the board read from the JSON board file and the players from the CSV player file.
+   *
+   * @param gameType The type of game to load.
+   * @param saveName The name of the save.
+   * @return The game with its players placed on their saved tiles.
+   * @throws IOException If the save files cannot be resolved.
+   * @throws FileNotFoundException If the board file does not exist.
+   * @throws FileHandlerException If the player file does not exist or cannot be read.
+   */
+  private static BoardGame loadJsonSnapshot(String gameType, String saveName) throws IOException {
+    String boardFilename = getBoardSaveFilePath(gameType, saveName);
+    String playerFilename = getPlayerSaveFilePath(gameType, saveName);
+
+    Path boardFilePath = Paths.get(boardFilename);
+    Path playerFilePath = Paths.get(playerFilename);
+
+    if (!Files.exists(boardFilePath)) {
+      throw new FileNotFoundException(boardFilename);
+    }
+
+    if (!Files.exists(playerFilePath)) {
+      throw new FileHandlerException("Player data file does not exist: " + playerFilename);
+    }
+
+    PlayerFileHandler playerFileHandler = new PlayerFileHandler();
+    List<Player> players = playerFileHandler.readFromFile(playerFilename);
+
+    BoardGame loadedGame = readBoardFile(boardFilename);
+    addSavedPlayers(loadedGame, players);
+    return loadedGame;
+  }
+
+  /**
+   * Loads the board and players of a save container. The checksums of both sections are
+   * verified before anything is parsed.
+   *
+   * @param saveFilePath The path of the save container.
+   * @return The game with its players placed on their saved tiles.
+   * @throws IOException If a section cannot be read.
+   * @throws FileHandlerException If the container is damaged or misses a section.
+   */
+  private static BoardGame loadContainerSnapshot(Path saveFilePath) throws IOException {
+    String filename = saveFilePath.toString();
+    Map<SaveContainer.Section, byte[]> sections = SaveContainer.read(saveFilePath);
+    byte[] board = sections.get(SaveContainer.Section.BOARD);
+    byte[] boardReference = sections.get(SaveContainer.Section.BOARD_REFERENCE);
+    byte[] players = sections.get(SaveContainer.Section.PLAYERS);
+    if ((board == null && boardReference == null) || players == null) {
+      throw new FileHandlerException("Save file is missing board or player data: " + filename);
+    }
+
+    BoardGame loadedGame = board != null ? readBoard(board, filename)
+        : resolveBoardReference(new String(boardReference, StandardCharsets.UTF_8), filename);
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        new ByteArrayInputStream(players), StandardCharsets.UTF_8))) {
+      addSavedPlayers(loadedGame, new PlayerFileHandler().readPlayers(reader, filename));
+    }
+
+    byte[] metadata = sections.get(SaveContainer.Section.METADATA);
+    if (metadata != null) {
+      readMetadata(loadedGame, new String(metadata, StandardCharsets.UTF_8), filename);
+    }
+    return loadedGame;
+  }
+
+  /**
+   * Restores the game state held in the metadata section of a save container. Unknown keys are
+   * ignored, so newer saves can add keys without breaking older readers.
+   *
+   * @param loadedGame The loaded game.
+   * @param metadata The metadata as {@code key=value} lines.
+   * @param filename The name of the save file (used for error reporting).
+   * @throws DataFormatException If a known value is invalid.
+   */
+  private static void readMetadata(BoardGame loadedGame, String metadata, String filename) {
+    int lineNumber = 0;
+    for (String line : metadata.split("\n")) {
+      lineNumber++;
+      int separator = line.indexOf('=');
+      if (separator < 0 || !TURN_NUMBER_KEY.equals(line.substring(0, separator))) {
+        continue;
+      }
+
+      try {
+        loadedGame.setTurnNumber(Integer.parseInt(line.substring(separator + 1)));
+      } catch (IllegalArgumentException e) {
+        throw FileExceptionUtil.createDataFormatException(filename, lineNumber,
+            "Invalid turn number: " + line.substring(separator + 1));
+      }
+    }
+  }
+
+  /**
+   * Creates a new game from a reference to the board of a predefined variant. The reference
+   * holds the variant name and the hash of the board, so a save is not loaded onto a board that
+   * has changed since the game was saved.
+   *
+   * @param reference The variant name and board hash, separated by a line break.
+   * @param filename The name of the save file (used for error reporting).
+   * @return A new board game with the board of the variant.
+   * @throws DataFormatException If the reference is invalid or the board has changed.
+   */
+  private static BoardGame resolveBoardReference(String reference, String filename) {
+    int separator = reference.indexOf('\n');
+    String variantName = separator < 0 ? reference : reference.substring(0, separator);
+    if (separator < 0 || !PREDEFINED_VARIANTS.contains(variantName)) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "Invalid board reference: " + variantName);
+    }
+
+    if (!reference.substring(separator + 1).equals(getVariantBoardHash(variantName))) {
+      throw FileExceptionUtil.createDataFormatException(filename, 0,
+          "The board of " + variantName + " has changed since the game was saved");
+    }
+    return getVariantTemplate(variantName).createBoardGame();
+  }
+
+  /**
+   * Gets the hash of the board of a predefined variant, computed from its compact JSON form on
+   * first use.
+   *
+   * @param variantName The name of the variant.
+   * @return The board hash.
+   */
+  private static String getVariantBoardHash(String variantName) {
+    return VARIANT_BOARD_HASHES.computeIfAbsent(variantName,
+        key -> contentHash(serializeBoard(getVariantTemplate(key).createBoardGame())));
+  }
+
+  /**
+   * Serializes a board to compact JSON.
+   *
+   * @param boardGame The game with the board.
+   * @return The UTF-8 encoded JSON.
+   * @throws FileHandlerException If the board cannot be serialized.
+   */
+  private static byte[] serializeBoard(BoardGame boardGame) {
+    StringWriter board = new StringWriter();
+    try {
+      new BoardFileHandler(false).write(boardGame, board);
+    } catch (IOException e) {
+      throw FileExceptionUtil.createBoardFileException("Error serializing board: "
+          + e.getMessage());
+    }
+    return board.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Serializes the board and the players of a game into the sections of a save container. The
+   * board of a predefined variant never changes during play, so for those boards only a
+   * reference to the variant is stored and the save holds little more than the player state.
+   *
+   * @param boardGame The game to serialize.
+   * @param filename The name of the save file (used for error reporting).
+   * @return The content of each section.
+   * @throws GameSaveException If the game has no players or no current player.
+   */
+  private static Map<SaveContainer.Section, byte[]> serializeSections(BoardGame boardGame,
+      String filename) {
+    return serializeSections(captureSnapshot(boardGame, filename));
+  }
+
+  /**
+   * Completes the sections of a captured snapshot. Boards that were not recognized as a
+   * predefined variant when the snapshot was captured are serialized here, which is safe outside
+   * the game thread as the board layout does not change during play.
+   *
+   * @param snapshot The captured snapshot.
+   * @return The content of each section.
+   */
+  private static Map<SaveContainer.Section, byte[]> serializeSections(SaveSnapshot snapshot) {
+    Map<SaveContainer.Section, byte[]> sections = new EnumMap<>(SaveContainer.Section.class);
+    byte[] boardReference = snapshot.boardReference();
+    byte[] board = null;
+    if (boardReference == null) {
+      String variantName = snapshot.boardGame().getVariantName();
+      board = serializeBoard(snapshot.boardGame());
+      if (PREDEFINED_VARIANTS.contains(variantName)
+          && contentHash(board).equals(getVariantBoardHash(variantName))) {
+        boardReference = createBoardReference(variantName);
+      }
+    }
+
+    if (boardReference != null) {
+      sections.put(SaveContainer.Section.BOARD_REFERENCE, boardReference);
+    } else {
+      sections.put(SaveContainer.Section.BOARD, board);
+    }
+    sections.put(SaveContainer.Section.PLAYERS, snapshot.players());
+    sections.put(SaveContainer.Section.METADATA, (TURN_NUMBER_KEY + "=" + snapshot.turnNumber())
+        .getBytes(StandardCharsets.UTF_8));
+    return sections;
+  }
+
+  /**
+   * Captures the mutable state of a game for saving. Only the players are serialized, and the
+   * board is checked against its variant template by identity, so capturing is cheap enough to
+   * do on the game thread every turn.
+   *
+   * @param boardGame The game to capture.
+   * @param filename The name of the save file (used for error reporting).
+   * @return The snapshot.
+   * @throws GameSaveException If the game has no players or no current player.
+   */
+  static SaveSnapshot captureSnapshot(BoardGame boardGame, String filename) {
+    if (boardGame.getPlayers().isEmpty() || boardGame.getCurrentPlayer() == null) {
+      throw new GameSaveException("Cannot save a game without players", null);
+    }
+
+    String currentPlayerName = boardGame.getCurrentPlayer().getName();
+    boardGame.getPlayers().getFirst().setCurrentPlayerName(currentPlayerName);
+
+    StringWriter players = new StringWriter();
+    try {
+      new PlayerFileHandler().writePlayers(boardGame.getPlayers(), players, filename);
+    } catch (IOException e) {
+      throw FileExceptionUtil.createSaveException(filename, e);
+    }
+
+    String variantName = boardGame.getVariantName();
+    byte[] boardReference = null;
+    if (PREDEFINED_VARIANTS.contains(variantName)
+        && getVariantTemplate(variantName).matches(boardGame.getBoard())) {
+      boardReference = createBoardReference(variantName);
+    }
+    return new SaveSnapshot(getGameType(boardGame), boardGame, boardReference,
+        players.toString().getBytes(StandardCharsets.UTF_8), getPlayerNames(boardGame),
+        boardGame.getTurnNumber());
+  }
+
+  /**
+   * Writes a captured snapshot as the save container of a save. The turn journal of the save is
+   * deleted first, as it holds turns relative to the previous snapshot; a crash in between then
+   * leaves the previous snapshot without its latest turns rather than an inconsistent save.
+   *
+   * @param snapshot The captured snapshot.
+   * @param saveName The name of the save.
+   * @throws GameSaveException If the save cannot be written.
+   */
+  static void writeSnapshot(SaveSnapshot snapshot, String saveName) {
+    String gameType = snapshot.gameType();
+    try {
+      Path saveFilePath = getSaveFilePath(gameType, saveName);
+      Files.deleteIfExists(getJournalFilePath(gameType, saveName));
+      SaveContainer.write(saveFilePath, serializeSections(snapshot));
+      Files.deleteIfExists(getBinarySaveFilePath(gameType, saveName));
+      Files.deleteIfExists(Paths.get(getBoardSaveFilePath(gameType, saveName)));
+      Files.deleteIfExists(Paths.get(getPlayerSaveFilePath(gameType, saveName)));
+    } catch (IOException e) {
+      throw FileExceptionUtil.createSaveException(saveName, e);
+    } catch (GameSaveException e) {
+      throw e;
+    } catch (FileHandlerException e) {
+      throw FileExceptionUtil.createSaveException(saveName, snapshot.boardGame().getVariantName(),
+          e.getMessage());
+    }
+    updateCatalog(gameType, saveName, snapshot.boardGame().getVariantName(),
+        snapshot.playerNames(), snapshot.turnNumber());
+  }
+
+  /**
+   * Gets the save catalog of a game type, creating it on first use.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @return The save catalog.
+   */
+  private static SaveCatalog getCatalog(String gameType) {
+    Path directory = ensureSavesDirectory(gameType).toAbsolutePath().normalize();
+    return CATALOGS.computeIfAbsent(directory,
+        key -> new SaveCatalog(key, saveName -> describeSave(gameType, saveName)));
+  }
+
+  /**
+   * Records a written save in the save catalog of its game type. The save itself is already
+   * complete at this point, so a catalog that cannot be written is only logged; it is rebuilt
+   * from the saves once its index file is removed.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @param variantName The variant of the saved game.
+   * @param playerNames The names of the players.
+   * @param turnNumber The turn number of the saved game.
+   */
+  static void updateCatalog(String gameType, String saveName, String variantName,
+      List<String> playerNames, int turnNumber) {
+    try {
+      getCatalog(gameType).put(new SaveCatalog.Entry(saveName, variantName, playerNames,
+          turnNumber, System.currentTimeMillis(), getSaveSize(gameType, saveName)));
+    } catch (FileHandlerException e) {
+      LOGGER.log(Level.WARNING, "Could not update save catalog for " + saveName, e);
+    }
+  }
+
+  /**
+   * Describes a save for a catalog that is being rebuilt. The latest snapshot is loaded without
+   * replaying the journal, and each turn in the journal is counted from its turn markers.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return The catalog entry of the save.
+   * @throws FileHandlerException If the save cannot be read.
+   */
+  private static SaveCatalog.Entry describeSave(String gameType, String saveName) {
+    try {
+      BoardGame snapshot = loadSnapshot(gameType, saveName);
+      List<Path> files = getSaveFiles(gameType, saveName);
+      long savedAt = 0;
+      for (Path file : files) {
+        savedAt = Math.max(savedAt, Files.getLastModifiedTime(file).toMillis());
+      }
+
+      int journalTurns = 0;
+      Path journalFilePath = getJournalFilePath(gameType, saveName);
+      if (Files.exists(journalFilePath)) {
+        try (Stream<String> lines = Files.lines(journalFilePath, StandardCharsets.UTF_8)) {
+          journalTurns = (int) lines.filter(line -> line.startsWith("T,")).count();
+        }
+      }
+      return new SaveCatalog.Entry(saveName, snapshot.getVariantName(),
+          getPlayerNames(snapshot), snapshot.getTurnNumber() + journalTurns, savedAt,
+          getSaveSize(gameType, saveName));
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(saveName, e);
+    }
+  }
+
+  /**
+   * Gets the existing files of a save, including its turn journal.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return The paths of the files that exist.
+   * @throws IOException If the save paths cannot be resolved.
+   */
+  private static List<Path> getSaveFiles(String gameType, String saveName) throws IOException {
+    List<Path> files = new ArrayList<>();
+    for (Path file : List.of(getSaveFilePath(gameType, saveName),
+        getBinarySaveFilePath(gameType, saveName),
+        Paths.get(getBoardSaveFilePath(gameType, saveName)),
+        Paths.get(getPlayerSaveFilePath(gameType, saveName)),
+        getJournalFilePath(gameType, saveName))) {
+      if (Files.exists(file)) {
+        files.add(file);
+      }
+    }
+    return files;
+  }
+
+  /**
+   * Gets the total size of the files of a save, including its turn journal.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save.
+   * @return The size in bytes, or 0 if it cannot be determined.
+   */
+  private static long getSaveSize(String gameType, String saveName) {
+    long size = 0;
+    try {
+      for (Path file : getSaveFiles(gameType, saveName)) {
+        size += Files.size(file);
+      }
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not determine size of save " + saveName, e);
+    }
+    return size;
+  }
+
+  /**
+   * Gets the names of the players of a game, in turn order.
+   *
+   * @param boardGame The game.
+   * @return The player names.
+   */
+  static List<String> getPlayerNames(BoardGame boardGame) {
+    return boardGame.getPlayers().stream().map(Player::getName).toList();
+  }
+
+  /**
+   * Hands the turn journal following a game over to the caller, for games saved through the
+   * {@link AutosaveService}. The journal no longer appends turns on its own.
+   *
+   * @param boardGame The game.
+   * @return The journal of the game, or null if the game has none.
+   */
+  static TurnJournal detachJournal(BoardGame boardGame) {
+    TurnJournal journal = ACTIVE_JOURNALS.remove(boardGame);
+    if (journal != null) {
+      boardGame.removeObserver(journal);
+    }
+    return journal;
+  }
+
+  /**
+   * Creates the board reference section for a predefined variant.
+   *
+   * @param variantName The name of the variant.
+   * @return The variant name and board hash, separated by a line break.
+   */
+  private static byte[] createBoardReference(String variantName) {
+    return (variantName + "\n" + getVariantBoardHash(variantName))
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Adds players read from a save to a loaded game, placing them on their saved tiles and giving
+   * them their saved properties.
+   *
+   * @param loadedGame The loaded game.
+   * @param players The players read from the save.
+   */
+  private static void addSavedPlayers(BoardGame loadedGame, List<Player> players) {
+    for (Player player : players) {
+      player.setGame(loadedGame);
+
+      int tileId = player.getSavedTileId();
+      if (tileId > 0) {
+        Tile tile = loadedGame.getBoard().getTile(tileId);
+        if (tile != null) {
+          player.placeOnTile(tile);
+          LOGGER.log(Level.INFO, "Player {0} placed on tile {1}",
+              new Object[]{player.getName(), tileId});
+        } else {
+          LOGGER.log(Level.WARNING, "Could not find saved tile ID {0}", tileId);
+          player.placeOnTile(loadedGame.getBoard().getTile(1));
+        }
+      } else {
+        LOGGER.log(Level.INFO, "No saved tile ID found for player {0}", player.getName());
+        player.placeOnTile(loadedGame.getBoard().getTile(1));
+      }
+
+      String savedProperties = player.getSavedPropertyNames();
+      if (savedProperties != null) {
+        int start = 0;
+        while (start <= savedProperties.length()) {
+          int end = savedProperties.indexOf(';', start);
+          if (end < 0) {
+            end = savedProperties.length();
+          }
+          String propertyName = savedProperties.substring(start, end).strip();
+          if (!propertyName.isEmpty()) {
+            addPropertyToPlayer(loadedGame, player, propertyName);
+          }
+          start = end + 1;
+        }
+      }
+
+      loadedGame.addPlayer(player);
+    }
+  }
+
+  /**
+   * Gets the board template of a predefined game variant, compiling it on first use.
+   *
+   * @param variantName The name of the variant.
+   * @return The board template of the variant.
+   */
+  private static BoardTemplate getVariantTemplate(String variantName) {
+    return VARIANT_TEMPLATES.computeIfAbsent(variantName, key -> {
+      BoardGame boardGame = new BoardGame();
+      boardGame.setVariantName(variantName);
+      if (BoardGame.isMonopolyVariant(variantName)) {
+        boardGame.createMonopolyGameBoard();
+      } else {
+        boardGame.createLadderGameBoard();
+      }
+      return BoardTemplate.compile(boardGame);
+    });
+  }
+
+  /**
+   * Reads a board file and creates a new board game from it. Board files are cached as templates
+   * keyed by their path, size and modification time, so a board file that has already been
+   * parsed is neither read nor parsed again. A file that is not cached is parsed while it is
+   * streamed from disk. Only the most recently used board files are kept in the cache.
+   *
+   * @param boardFilename The path of the board file.
+   * @return A new board game with the board described by the file.
+   * @throws FileHandlerException If the file cannot be read or parsed.
+   */
+  private static BoardGame readBoardFile(String boardFilename) {
+    Path boardFile = Paths.get(boardFilename);
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(boardFile, BasicFileAttributes.class);
+      String key = "file:" + boardFile.toAbsolutePath().normalize() + ":" + attributes.size()
+          + ":" + attributes.lastModifiedTime().toMillis();
+      BoardTemplate template = BOARD_FILE_TEMPLATES.get(key);
+      if (template == null) {
+        try (Reader reader = Files.newBufferedReader(boardFile, StandardCharsets.UTF_8)) {
+          template = compileBoard(reader, boardFilename);
+        }
+        BOARD_FILE_TEMPLATES.put(key, template);
+      } else {
+        LOGGER.log(Level.FINE, "Using cached board template for {0}", boardFilename);
+      }
+      return template.createBoardGame();
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(boardFilename, e);
+    }
+  }
+
+  /**
+   * Creates a new board game from the board section of a save container, using the cached
+   * template if the same content has been parsed before. The section is already in memory, so
+   * it is keyed by a hash of its content.
+   *
+   * @param content The JSON content of the board section.
+   * @param boardFilename The name of the source (used for error reporting).
+   * @return A new board game with the board described by the content.
+   * @throws FileHandlerException If the content cannot be parsed.
+   */
+  private static BoardGame readBoard(byte[] content, String boardFilename) {
+    String key = "content:" + contentHash(content);
+    BoardTemplate template = BOARD_FILE_TEMPLATES.get(key);
+    if (template == null) {
+      try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content),
+          StandardCharsets.UTF_8)) {
+        template = compileBoard(reader, boardFilename);
+      } catch (IOException e) {
+        throw FileExceptionUtil.wrapReadException(boardFilename, e);
+      }
+      BOARD_FILE_TEMPLATES.put(key, template);
+    } else {
+      LOGGER.log(Level.FINE, "Using cached board template for {0}", boardFilename);
+    }
+    return template.createBoardGame();
+  }
+
+  /**
+   * Parses a board and compiles it into a template.
+   *
+   * @param reader The reader of the board JSON.
+   * @param boardFilename The name of the source (used for error reporting).
+   * @return The compiled template.
+   * @throws IOException If the board cannot be read.
+   * @throws FileHandlerException If the board cannot be parsed.
+   */
+  private static BoardTemplate compileBoard(Reader reader, String boardFilename)
+      throws IOException {
+    return BoardTemplate.compile(new BoardFileHandler().parseBoard(reader, boardFilename));
+  }
+
+  /**
+   * Computes a SHA-256 hash of file content, used as key for cached board templates.
+   *
+   * @param content The file content.
+   * @return The hash as a hexadecimal string.
+   */
+  private static String contentHash(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Makes a turn journal follow a game, so finished turns are appended automatically.
+   *
+   * @param boardGame The game.
+   * @param journal The journal of the game.
+   */
+  private static void trackJournal(BoardGame boardGame, TurnJournal journal) {
+    boardGame.addObserver(journal);
+    ACTIVE_JOURNALS.put(boardGame, journal);
+  }
+
+  /**
+   * Associates a property with a player in a Monopoly game. The property is looked up in the
+   * name index of the board, so boards of any size are supported.
    *
    * @param game The game containing the properties.
    * @param player The player to assign the property to.
    * @param propertyName The name of the property to assign.
    */
-  private static void addPropertyToPlayer(BoardGame game, Player player, String propertyName) {
-    if (!game.getVariantName().contains("Monopoly")) {
+  static void addPropertyToPlayer(BoardGame game, Player player, String propertyName) {
+    if (!BoardGame.isMonopolyVariant(game.getVariantName())) {
       return;
     }
 
-    for (int i = 1; i <= 40; i++) {
-      Tile tile = game.getBoard().getTile(i);
-      if (tile != null && tile.getAction() instanceof PropertyTileAction propertyAction) {
-        if (propertyAction.getPropertyName().equals(propertyName)) {
-          player.addProperty(propertyAction);
-          propertyAction.setOwner(player);
-          break;
-        }
-      }
+    PropertyTileAction propertyAction = game.getBoard().getPropertyByName(propertyName);
+    if (propertyAction != null) {
+      player.addProperty(propertyAction);
+    } else {
+      LOGGER.log(Level.WARNING, "Could not find saved property {0}", propertyName);
     }
   }
 
@@ -348,13 +1015,13 @@ public class BoardGameFactory {
    * @param boardGame The board game to get the game type from.
    * @return A string identifying the game type (monopoly or ladder).
    */
-  private static String getGameType(BoardGame boardGame) {
+  static String getGameType(BoardGame boardGame) {
     if (boardGame == null) {
       throw new IllegalArgumentException("Board game cannot be null");
     }
 
     String variantName = boardGame.getVariantName();
-    if (variantName != null && variantName.toLowerCase().contains("monopoly")) {
+    if (BoardGame.isMonopolyVariant(variantName)) {
       return "monopolygame";
     } else {
       return "laddergame";
@@ -388,4 +1055,52 @@ public class BoardGameFactory {
     Path savesDir = ensureSavesDirectory(gameType);
     return savesDir.resolve(saveName + "_players.csv").toString();
   }
-}
\ No newline at end of file
+
+  /**
+   * Resolves the path of the save container belonging to a save.
+   *
+   * @param gameType The type of game to get the save path for.
+   * @param saveName The name of the save file (without extension).
+   * @return The path to the save container.
+   */
+  static Path getSaveFilePath(String gameType, String saveName) {
+    return ensureSavesDirectory(gameType).resolve(saveName + "_save.bgs");
+  }
+
+  /**
+   * Resolves the path of the turn journal belonging to a save.
+   *
+   * @param gameType The type of game to get the journal path for.
+   * @param saveName The name of the save file (without extension).
+   * @return The path to the journal file.
+   */
+  static Path getJournalFilePath(String gameType, String saveName) {
+    return ensureSavesDirectory(gameType).resolve(saveName + "_journal.log");
+  }
+
+  /**
+   * Resolves the path of the binary save file belonging to a save.
+   *
+   * @param gameType The type of game to get the save path for.
+   * @param saveName The name of the save file (without extension).
+   * @return The path to the binary save file.
+   */
+  static Path getBinarySaveFilePath(String gameType, String saveName) {
+    return ensureSavesDirectory(gameType).resolve(saveName + "_save.bin");
+  }
+
+  /**
+   * The state of a game captured for saving.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param boardGame The game, used for its board layout only.
+   * @param boardReference The reference to the board of a predefined variant, or null if the
+   *     board has to be checked and serialized when the snapshot is written.
+   * @param players The players in the CSV player file format.
+   * @param playerNames The names of the players, for the save catalog.
+   * @param turnNumber The turn number of the game.
+   */
+  record SaveSnapshot(String gameType, BoardGame boardGame, byte[] boardReference,
+      byte[] players, List<String> playerNames, int turnNumber) {
+  }
+}
@@ -0,0 +1,490 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * <h1>Compression</h1>
+ *
+ * <p>Transparent Deflate compression for saves and game event logs, using only the
+ * {@link Deflater} and {@link Inflater} of the JDK. Small files such as saves compress poorly on
+ * their own, so board data is compressed with a preset dictionary built from the boards of the
+ * predefined variants and typical player data. The zlib header of every compressed stream holds
+ * the Adler-32 ID of its dictionary, so each file names the dictionary it needs and readers pick
+ * it from the known dictionaries.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>A configurable compression level, where level 0 turns compression off</li>
+ *   <li>Preset dictionaries, identified per file by their Adler-32 ID</li>
+ *   <li>Streams that compress while writing and detect compressed files while reading</li>
+ *   <li>Statistics of the compression ratio and the throughput</li>
+ *   <li>A limit on the decompressed size, so damaged data cannot exhaust the memory</li>
+ * </ul>
+ *
+ * <h2>Compressed file format</h2>
+ *
+ * <p>A compressed standalone file starts with the magic bytes {@code BGZ1}, followed by a zlib
+ * stream. Files without the magic bytes are read as they are.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public final class Compression {
+  public static final String LEVEL_PROPERTY = "boardgame.compression.level";
+  public static final String FILE_EXTENSION = ".bgz";
+  public static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+  private static final Logger LOGGER = Logger.getLogger(Compression.class.getName());
+  private static final byte[] MAGIC = {'B', 'G', 'Z', '1'};
+  private static final int BUFFER_SIZE = 8192;
+  private static final LongAdder COMPRESSED_IN = new LongAdder();
+  private static final LongAdder COMPRESSED_OUT = new LongAdder();
+  private static final LongAdder COMPRESSION_NANOS = new LongAdder();
+  private static final LongAdder DECOMPRESSED_IN = new LongAdder();
+  private static final LongAdder DECOMPRESSED_OUT = new LongAdder();
+  private static final LongAdder DECOMPRESSION_NANOS = new LongAdder();
+  private static volatile int level = readLevelProperty();
+
+  /**
+   * <h2>Dictionary</h2>
+   *
+   * <p>The preset dictionaries data can be compressed with.</p>
+   */
+  public enum Dictionary {
+    /** No dictionary, for data unlike the board and player files. */
+    NONE(null),
+    /** The boards of the predefined variants in compact JSON, and typical player data. */
+    BOARD_JSON("/compression/board-json.dict");
+
+    private final byte[] content;
+    private final int id;
+
+    Dictionary(String resource) {
+      this.content = resource == null ? null : loadResource(resource);
+      Adler32 adler = new Adler32();
+      if (content != null) {
+        adler.update(content);
+      }
+      this.id = (int) adler.getValue();
+    }
+
+    /**
+     * Gets the ID of the dictionary, as written in the zlib header of compressed streams.
+     *
+     * @return The Adler-32 checksum of the dictionary.
+     */
+    public int getId() {
+      return id;
+    }
+
+    /**
+     * Finds the dictionary with an ID.
+     *
+     * @param id The dictionary ID.
+     * @return The dictionary, or null if the ID is unknown.
+     */
+    private static Dictionary fromId(int id) {
+      for (Dictionary dictionary : values()) {
+        if (dictionary.content != null && dictionary.id == id) {
+          return dictionary;
+        }
+      }
+      return null;
+    }
+  }
+
+  private Compression() {
+  }
+
+  /**
+   * Gets the compression level used for new files.
+   *
+   * @return The level, from 0 (off) to 9 (smallest files).
+   */
+  public static int getLevel() {
+    return level;
+  }
+
+  /**
+   * Sets the compression level used for new files. Existing files are read regardless of the
+   * level they were written with.
+   *
+   * @param newLevel The level, from 0 (off) to 9 (smallest files).
+   * @throws IllegalArgumentException If the level is outside 0 to 9.
+   */
+  public static void setLevel(int newLevel) {
+    if (newLevel < Deflater.NO_COMPRESSION || newLevel > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Compression level must be between 0 and 9");
+    }
+    level = newLevel;
+  }
+
+  /**
+   * Checks whether new files are compressed.
+   *
+   * @return False if the compression level is 0.
+   */
+  public static boolean isEnabled() {
+    return level != Deflater.NO_COMPRESSION;
+  }
+
+  /**
+   * Reads the compression level from the system property, or uses the default level.
+   *
+   * @return The compression level.
+   */
+  private static int readLevelProperty() {
+    String property = System.getProperty(LEVEL_PROPERTY);
+    if (property != null) {
+      try {
+        int configured = Integer.parseInt(property.trim());
+        if (configured >= Deflater.NO_COMPRESSION && configured <= Deflater.BEST_COMPRESSION) {
+          return configured;
+        }
+      } catch (NumberFormatException e) {
+        // Fall through to the default level
+      }
+      LOGGER.log(Level.WARNING, "Ignoring invalid compression level {0}", property);
+    }
+    return 6;
+  }
+
+  /**
+   * Compresses data into a zlib stream.
+   *
+   * @param data The data.
+   * @param dictionary The preset dictionary.
+   * @return The compressed data.
+   */
+  public static byte[] compress(byte[] data, Dictionary dictionary) {
+    long start = System.nanoTime();
+    Deflater deflater = newDeflater(dictionary);
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + 64);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+      byte[] compressed = output.toByteArray();
+      recordCompression(data.length, compressed.length, System.nanoTime() - start);
+      return compressed;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Decompresses a zlib stream, looking up the dictionary it names.
+   *
+   * @param data The compressed data.
+   * @param source The name of the source (used for error reporting).
+   * @return The decompressed data.
+   * @throws DataFormatException If the data is not a valid zlib stream, needs an unknown
+   *     dictionary or decompresses to more than {@value #MAX_DECOMPRESSED_SIZE} bytes.
+   */
+  public static byte[] decompress(byte[] data, String source) {
+    long start = System.nanoTime();
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(data);
+      ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 4);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int inflated = inflater.inflate(buffer);
+        if (inflated == 0 && !inflater.finished()) {
+          if (!inflater.needsDictionary()) {
+            throw FileExceptionUtil.createDataFormatException(source, 0,
+                "Compressed data is truncated");
+          }
+          inflater.setDictionary(findDictionary(inflater.getAdler(), source));
+        }
+        output.write(buffer, 0, inflated);
+        if (output.size() > MAX_DECOMPRESSED_SIZE) {
+          throw FileExceptionUtil.createDataFormatException(source, 0,
+              "Compressed data is too large");
+        }
+      }
+      recordDecompression(data.length, output.size(), System.nanoTime() - start);
+      return output.toByteArray();
+    } catch (java.util.zip.DataFormatException e) {
+      throw FileExceptionUtil.createDataFormatException(source, 0,
+          "Invalid compressed data: " + e.getMessage());
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Opens a stream that writes a compressed file: the magic bytes followed by a zlib stream.
+   * Closing the returned stream finishes the zlib stream and closes the underlying stream.
+   *
+   * @param output The underlying stream.
+   * @param dictionary The preset dictionary.
+   * @return The compressing stream.
+   * @throws IOException If the magic bytes cannot be written.
+   */
+  public static OutputStream compressingStream(OutputStream output, Dictionary dictionary)
+      throws IOException {
+    CountingOutputStream counter = new CountingOutputStream(output);
+    counter.write(MAGIC);
+    Deflater deflater = newDeflater(dictionary);
+    long start = System.nanoTime();
+    return new DeflaterOutputStream(counter, deflater, BUFFER_SIZE) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          recordCompression(deflater.getBytesRead(), counter.count - MAGIC.length,
+              System.nanoTime() - start);
+          deflater.end();
+        }
+      }
+    };
+  }
+
+  /**
+   * Opens a stream that reads a file that may be compressed. Files starting with the magic
+   * bytes are decompressed, using the dictionary named in their zlib header; any other file is
+   * read as it is.
+   *
+   * @param input The underlying stream.
+   * @param source The name of the source (used for error reporting).
+   * @return The stream of the decompressed content.
+   * @throws IOException If the start of the file cannot be read.
+   */
+  public static InputStream decompressingStream(InputStream input, String source)
+      throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(input, BUFFER_SIZE);
+    buffered.mark(MAGIC.length);
+    byte[] magic = buffered.readNBytes(MAGIC.length);
+    if (!Arrays.equals(magic, MAGIC)) {
+      buffered.reset();
+      return buffered;
+    }
+    return new DictionaryInflaterInputStream(buffered, source);
+  }
+
+  /**
+   * Checks whether a file name asks for a compressed file.
+   *
+   * @param filename The file name.
+   * @return True if the name ends with {@value #FILE_EXTENSION}.
+   */
+  public static boolean isCompressedFileName(String filename) {
+    return filename != null && filename.endsWith(FILE_EXTENSION);
+  }
+
+  /**
+   * Creates a deflater with the configured level and a preset dictionary. A level of 0 still
+   * produces a valid zlib stream, with stored blocks.
+   *
+   * @param dictionary The preset dictionary.
+   * @return The deflater.
+   */
+  static Deflater newDeflater(Dictionary dictionary) {
+    Deflater deflater = new Deflater(level);
+    if (dictionary != null && dictionary.content != null) {
+      deflater.setDictionary(dictionary.content);
+    }
+    return deflater;
+  }
+
+  /**
+   * Finds the dictionary a zlib stream names in its header.
+   *
+   * @param id The dictionary ID from the header.
+   * @param source The name of the source (used for error reporting).
+   * @return The dictionary content.
+   * @throws DataFormatException If the dictionary is unknown.
+   */
+  private static byte[] findDictionary(int id, String source) {
+    Dictionary dictionary = Dictionary.fromId(id);
+    if (dictionary == null) {
+      throw FileExceptionUtil.createDataFormatException(source, 0,
+          "Unknown compression dictionary " + Integer.toHexString(id));
+    }
+    return dictionary.content;
+  }
+
+  /**
+   * Loads a dictionary from the resources.
+   *
+   * @param resource The resource path.
+   * @return The dictionary content.
+   */
+  private static byte[] loadResource(String resource) {
+    try (InputStream input = Compression.class.getResourceAsStream(resource)) {
+      if (input == null) {
+        throw new IllegalStateException("Missing compression dictionary " + resource);
+      }
+      return input.readAllBytes();
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not read compression dictionary " + resource, e);
+    }
+  }
+
+  /**
+   * Adds a compression to the statistics.
+   *
+   * @param uncompressedBytes The size of the data before compression.
+   * @param compressedBytes The size of the compressed data.
+   * @param nanos The time spent compressing.
+   */
+  static void recordCompression(long uncompressedBytes, long compressedBytes, long nanos) {
+    COMPRESSED_IN.add(uncompressedBytes);
+    COMPRESSED_OUT.add(compressedBytes);
+    COMPRESSION_NANOS.add(nanos);
+  }
+
+  /**
+   * Adds a decompression to the statistics.
+   *
+   * @param compressedBytes The size of the compressed data.
+   * @param uncompressedBytes The size of the decompressed data.
+   * @param nanos The time spent decompressing.
+   */
+  static void recordDecompression(long compressedBytes, long uncompressedBytes, long nanos) {
+    DECOMPRESSED_IN.add(compressedBytes);
+    DECOMPRESSED_OUT.add(uncompressedBytes);
+    DECOMPRESSION_NANOS.add(nanos);
+  }
+
+  /**
+   * Gets the statistics of all compression since the application started.
+   *
+   * @return The compression statistics.
+   */
+  public static Statistics getCompressionStatistics() {
+    return new Statistics(COMPRESSED_IN.sum(), COMPRESSED_OUT.sum(), COMPRESSION_NANOS.sum());
+  }
+
+  /**
+   * Gets the statistics of all decompression since the application started.
+   *
+   * @return The decompression statistics.
+   */
+  public static Statistics getDecompressionStatistics() {
+    return new Statistics(DECOMPRESSED_OUT.sum(), DECOMPRESSED_IN.sum(),
+        DECOMPRESSION_NANOS.sum());
+  }
+
+  /**
+   * The ratio and throughput of compressing or decompressing data.
+   *
+   * @param uncompressedBytes The size of the uncompressed data.
+   * @param compressedBytes The size of the compressed data.
+   * @param nanos The time spent.
+   */
+  public record Statistics(long uncompressedBytes, long compressedBytes, long nanos) {
+    /**
+     * Gets the compression ratio.
+     *
+     * @return The uncompressed size divided by the compressed size, or 1 if nothing was
+     *     compressed.
+     */
+    public double ratio() {
+      return compressedBytes == 0 ? 1 : (double) uncompressedBytes / compressedBytes;
+    }
+
+    /**
+     * Gets the throughput, measured on the uncompressed data.
+     *
+     * @return Megabytes of uncompressed data per second, or 0 if no time was spent.
+     */
+    public double megabytesPerSecond() {
+      return nanos == 0 ? 0 : uncompressedBytes / (nanos / 1e9) / (1024 * 1024);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d -> %d bytes, ratio %.2f, %.1f MB/s", uncompressedBytes,
+          compressedBytes, ratio(), megabytesPerSecond());
+    }
+  }
+
+  /**
+   * An inflater stream that sets the dictionary named in the zlib header, which
+   * {@link InflaterInputStream} does not do on its own, and counts the statistics.
+   */
+  private static final class DictionaryInflaterInputStream extends InflaterInputStream {
+    private final String source;
+    private final long start = System.nanoTime();
+    private boolean recorded;
+
+    DictionaryInflaterInputStream(InputStream input, String source) {
+      super(input, new Inflater(), BUFFER_SIZE);
+      this.source = source;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read < 0 && inf.needsDictionary()) {
+        inf.setDictionary(findDictionary(inf.getAdler(), source));
+        read = super.read(buffer, offset, length);
+      }
+
+      if (inf.getBytesWritten() > MAX_DECOMPRESSED_SIZE) {
+        throw FileExceptionUtil.createDataFormatException(source, 0,
+            "Compressed data is too large");
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!recorded) {
+        recorded = true;
+        recordDecompression(inf.getBytesRead(), inf.getBytesWritten(),
+            System.nanoTime() - start);
+      }
+      try {
+        super.close();
+      } finally {
+        inf.end();
+      }
+    }
+  }
+
+  /**
+   * An output stream counting the bytes written through it.
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    CountingOutputStream(OutputStream output) {
+      super(output);
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+      out.write(value);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+      out.write(buffer, offset, length);
+      count += length;
+    }
+  }
+}
@@ -0,0 +1,474 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.GameEventJournal;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <h1>Game Event Log Writer</h1>
+ *
+ * <p>A background writer that drains the {@link GameEventJournal} of a game into a compact
+ * binary log file, as a permanent record of everything that happened in the game. The game
+ * thread only records events into the journal, which never blocks, and a daemon thread copies
+ * them into a large direct buffer that is written to the file through a {@link FileChannel}.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Non-blocking producer side, as the game only writes into its bounded journal</li>
+ *   <li>Drop-oldest policy: if the writer falls more than the journal capacity behind, the
+ *   overwritten events are skipped and a lost-events record is written in their place</li>
+ *   <li>Batched writes through a direct buffer and a file channel</li>
+ *   <li>Periodic fsync, so at most about a second of events is lost in a crash</li>
+ *   <li>Idle backoff: the writer sleeps longer the longer the journal stays empty</li>
+ *   <li>Optional Deflate compression of the records, see {@link Compression}</li>
+ *   <li>Reading a log back for audits and analytics</li>
+ * </ul>
+ *
+ * <h2>File format</h2>
+ *
+ * <p>The file starts with the magic bytes {@code BGLG} and a two-byte format version, followed
+ * by fixed-size big-endian records of {@value #RECORD_SIZE} bytes:</p>
+ * <ul>
+ *   <li>Sequence number of the event (8 bytes)</li>
+ *   <li>Event type, see the {@link GameEventJournal} type constants (1 byte)</li>
+ *   <li>Player index (4 bytes)</li>
+ *   <li>First, second and third value (4 bytes each)</li>
+ * </ul>
+ *
+ * <p>A record of type {@value #TYPE_LOST} marks events that were dropped; its first value holds
+ * the number of dropped events.</p>
+ *
+ * <p>Logs of format version 2 are compressed: the records are written in independent chunks,
+ * each a four-byte length followed by a zlib stream of whole records. A chunk is written once a
+ * second while events arrive, so a crash loses at most the last chunk, and a chunk cut short by
+ * a crash is ignored when the log is read. An existing log is appended to in the format it was
+ * started with.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class GameEventLogWriter implements AutoCloseable {
+  public static final int TYPE_LOST = 0;
+  public static final int RECORD_SIZE = 25;
+
+  private static final Logger LOGGER = Logger.getLogger(GameEventLogWriter.class.getName());
+  private static final String LOG_FILES_DIRECTORY = "src/main/resources/logs";
+  private static final byte[] MAGIC = {'B', 'G', 'L', 'G'};
+  private static final short FORMAT_VERSION = 1;
+  private static final short COMPRESSED_FORMAT_VERSION = 2;
+  private static final int HEADER_SIZE = MAGIC.length + Short.BYTES;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_EVENTS_PER_POLL = 256;
+  private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+  private static final long FSYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Path file;
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private final GameEventJournal.Cursor cursor;
+  private final Thread thread;
+  private final boolean compressed;
+  private volatile boolean running = true;
+  private long reportedLost;
+  private long writtenRecords;
+  private boolean unsynced;
+  private long lastSync = System.nanoTime();
+  private long bufferedSince;
+  private long uncompressedBytes;
+  private long compressedBytes;
+  private long compressionNanos;
+
+  /**
+   * Creates a writer for a journal and starts its background thread. Only events recorded after
+   * the writer was created are written.
+   *
+   * @param file The log file, appended to in its own format if it exists. A new log is
+   *     compressed unless compression is turned off.
+   * @param journal The journal to drain.
+   * @throws FileHandlerException If the log file cannot be opened.
+   */
+  public GameEventLogWriter(Path file, GameEventJournal journal) {
+    this.file = file;
+    this.cursor = journal.newCursor();
+
+    try {
+      short existingVersion = readExistingVersion(file);
+      this.compressed = existingVersion == 0 ? Compression.isEnabled()
+          : existingVersion == COMPRESSED_FORMAT_VERSION;
+      this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+      if (channel.size() == 0) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).putShort(compressed ? COMPRESSED_FORMAT_VERSION : FORMAT_VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+      }
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    }
+
+    this.thread = new Thread(this::run, "game-event-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Reads the format version of an existing log. The file channel of the writer is opened for
+   * appending and cannot read, so the header is read before it is opened.
+   *
+   * @param file The log file.
+   * @return The format version, or 0 if the file is missing, empty or not a game event log.
+   * @throws IOException If the file cannot be read.
+   */
+  private static short readExistingVersion(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return 0;
+    }
+
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] header = input.readNBytes(HEADER_SIZE);
+      if (header.length < HEADER_SIZE
+          || !Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)) {
+        return 0;
+      }
+      return ByteBuffer.wrap(header).getShort(MAGIC.length);
+    }
+  }
+
+  /**
+   * Starts logging the events of a game to a new file in the log directory. Failing to create
+   * the log does not stop the game, so errors are logged and null is returned.
+   *
+   * @param game The game to log.
+   * @return The writer, or null if the log could not be created.
+   */
+  public static GameEventLogWriter startForGame(BoardGame game) {
+    try {
+      Path directory = Paths.get(LOG_FILES_DIRECTORY);
+      Files.createDirectories(directory);
+      String timestamp = LocalDateTime.now()
+          .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+      String gameType = game.getVariantName() == null ? "game"
+          : game.getVariantName().replace(' ', '_');
+      return new GameEventLogWriter(directory.resolve(gameType + "_" + timestamp + ".bglog"),
+          game.getJournal());
+    } catch (IOException | FileHandlerException e) {
+      LOGGER.log(Level.WARNING, "Could not start the game event log", e);
+      return null;
+    }
+  }
+
+  /**
+   * Drains the journal until the writer is closed, then writes the remaining events. While the
+   * journal is empty the thread sleeps, doubling the sleep each time up to the fsync interval,
+   * so an idle game does not keep waking it up.
+   */
+  private void run() {
+    try {
+      long idlePark = MIN_IDLE_PARK_NANOS;
+      while (running) {
+        if (drainJournal() > 0) {
+          idlePark = MIN_IDLE_PARK_NANOS;
+        } else {
+          if (!compressed || System.nanoTime() - bufferedSince >= FSYNC_INTERVAL_NANOS) {
+            flushBuffer();
+          }
+          syncIfDue(false);
+          LockSupport.parkNanos(this, parkTime(idlePark));
+          idlePark = Math.min(idlePark * 2, FSYNC_INTERVAL_NANOS);
+        }
+      }
+      while (drainJournal() > 0) {
+        // Write the events recorded before the writer was closed
+      }
+      flushBuffer();
+      syncIfDue(true);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, "Game event log " + file + " stopped after a write error", e);
+    }
+  }
+
+  /**
+   * Gets how long the idle writer may sleep, cut short if buffered records or an fsync come due
+   * before the idle backoff runs out.
+   *
+   * @param idlePark The current idle backoff in nanoseconds.
+   * @return The time to sleep in nanoseconds.
+   */
+  private long parkTime(long idlePark) {
+    long now = System.nanoTime();
+    long park = idlePark;
+    if (buffer.position() > 0) {
+      park = Math.min(park, bufferedSince + FSYNC_INTERVAL_NANOS - now);
+    }
+    if (unsynced) {
+      park = Math.min(park, lastSync + FSYNC_INTERVAL_NANOS - now);
+    }
+    return Math.max(park, MIN_IDLE_PARK_NANOS);
+  }
+
+  /**
+   * Copies the next events of the journal into the buffer, writing the buffer to the file when
+   * it is full.
+   *
+   * @return The number of events copied.
+   * @throws IOException If writing to the file fails.
+   */
+  private int drainJournal() throws IOException {
+    int read = cursor.poll(this::putRecord, MAX_EVENTS_PER_POLL);
+    if (cursor.getLostCount() != reportedLost) {
+      long lost = cursor.getLostCount() - reportedLost;
+      reportedLost = cursor.getLostCount();
+      putRecord(cursor.getPosition(), TYPE_LOST, -1, (int) Math.min(lost, Integer.MAX_VALUE),
+          0, 0);
+    }
+    if (buffer.remaining() < RECORD_SIZE * MAX_EVENTS_PER_POLL + RECORD_SIZE) {
+      flushBuffer();
+    }
+    return read;
+  }
+
+  /**
+   * Appends one record to the buffer.
+   *
+   * @param sequence The sequence number of the event.
+   * @param type The event type.
+   * @param playerIndex The index of the player.
+   * @param first The first value.
+   * @param second The second value.
+   * @param third The third value.
+   */
+  private void putRecord(long sequence, int type, int playerIndex, int first, int second,
+      int third) {
+    if (buffer.position() == 0) {
+      bufferedSince = System.nanoTime();
+    }
+    buffer.putLong(sequence).put((byte) type).putInt(playerIndex)
+        .putInt(first).putInt(second).putInt(third);
+    writtenRecords++;
+  }
+
+  /**
+   * Writes the buffered records to the file, as one compressed chunk if the log is compressed.
+   *
+   * @throws IOException If writing fails.
+   */
+  private void flushBuffer() throws IOException {
+    if (buffer.position() == 0) {
+      return;
+    }
+
+    buffer.flip();
+    ByteBuffer output = buffer;
+    if (compressed) {
+      byte[] records = new byte[buffer.remaining()];
+      buffer.get(records);
+      long start = System.nanoTime();
+      byte[] chunk = Compression.compress(records, Compression.Dictionary.NONE);
+      compressionNanos += System.nanoTime() - start;
+      uncompressedBytes += records.length;
+      compressedBytes += Integer.BYTES + chunk.length;
+      output = ByteBuffer.allocate(Integer.BYTES + chunk.length).putInt(chunk.length).put(chunk);
+      output.flip();
+    }
+    while (output.hasRemaining()) {
+      channel.write(output);
+    }
+    buffer.clear();
+    unsynced = true;
+  }
+
+  /**
+   * Forces written records to the storage device if the fsync interval has passed.
+   *
+   * @param force True to sync regardless of the interval.
+   * @throws IOException If syncing fails.
+   */
+  private void syncIfDue(boolean force) throws IOException {
+    long now = System.nanoTime();
+    if (unsynced && (force || now - lastSync >= FSYNC_INTERVAL_NANOS)) {
+      channel.force(false);
+      unsynced = false;
+      lastSync = now;
+    }
+  }
+
+  /**
+   * Gets the log file.
+   *
+   * @return The path of the log file.
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Gets the number of records written, including lost-events records. Only exact after the
+   * writer is closed.
+   *
+   * @return The number of records.
+   */
+  public long getWrittenRecordCount() {
+    return writtenRecords;
+  }
+
+  /**
+   * Checks whether the log is compressed.
+   *
+   * @return True if the records are written in compressed chunks.
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Gets the compression ratio and throughput of the records written so far. Only exact after
+   * the writer is closed.
+   *
+   * @return The compression statistics, empty if the log is not compressed.
+   */
+  public Compression.Statistics getCompressionStatistics() {
+    return new Compression.Statistics(uncompressedBytes, compressedBytes, compressionNanos);
+  }
+
+  /**
+   * Stops the writer after writing all events recorded so far, syncs the file and closes it.
+   *
+   * @throws FileHandlerException If the log file cannot be closed.
+   */
+  @Override
+  public void close() {
+    if (!running) {
+      return;
+    }
+
+    running = false;
+    LockSupport.unpark(thread);
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    }
+
+    if (compressed && uncompressedBytes > 0) {
+      LOGGER.log(Level.INFO, "Wrote {0} events to {1}: {2}",
+          new Object[]{writtenRecords, file, getCompressionStatistics()});
+    }
+  }
+
+  /**
+   * Reads a binary game event log, passing every record to a reader.
+   *
+   * @param file The log file.
+   * @param reader The reader receiving the records.
+   * @return The number of records read.
+   * @throws FileHandlerException If the file cannot be read or is not a game event log.
+   */
+  public static long read(Path file, GameEventJournal.EventReader reader) {
+    try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      readBuffer.limit(HEADER_SIZE);
+      while (readBuffer.hasRemaining() && input.read(readBuffer) >= 0) {
+        // Read the complete header
+      }
+      readBuffer.flip();
+      byte[] magic = new byte[MAGIC.length];
+      if (readBuffer.remaining() == HEADER_SIZE) {
+        readBuffer.get(magic);
+      }
+      short version = readBuffer.remaining() >= Short.BYTES ? readBuffer.getShort() : 0;
+      if (!Arrays.equals(magic, MAGIC)
+          || (version != FORMAT_VERSION && version != COMPRESSED_FORMAT_VERSION)) {
+        throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+            "Not a game event log");
+      }
+
+      if (version == COMPRESSED_FORMAT_VERSION) {
+        return readChunks(file, input, reader);
+      }
+
+      long records = 0;
+      readBuffer.clear();
+      while (input.read(readBuffer) >= 0) {
+        readBuffer.flip();
+        while (readBuffer.remaining() >= RECORD_SIZE) {
+          reader.onEvent(readBuffer.getLong(), readBuffer.get(), readBuffer.getInt(),
+              readBuffer.getInt(), readBuffer.getInt(), readBuffer.getInt());
+          records++;
+        }
+        readBuffer.compact();
+      }
+      return records;
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Reads the compressed chunks of a log of format version 2. A chunk cut short by a crash ends
+   * the log.
+   *
+   * @param file The log file (used for error reporting).
+   * @param input The file channel, positioned after the header.
+   * @param reader The reader receiving the records.
+   * @return The number of records read.
+   * @throws IOException If the file cannot be read.
+   */
+  private static long readChunks(Path file, FileChannel input,
+      GameEventJournal.EventReader reader) throws IOException {
+    DataInputStream chunks = new DataInputStream(
+        new BufferedInputStream(Channels.newInputStream(input), BUFFER_SIZE));
+    long records = 0;
+    while (true) {
+      byte[] chunk;
+      try {
+        int length = chunks.readInt();
+        if (length < 0 || length > input.size()) {
+          LOGGER.log(Level.WARNING, "Ignoring damaged chunk at the end of {0}", file);
+          return records;
+        }
+        chunk = chunks.readNBytes(length);
+        if (chunk.length < length) {
+          throw new EOFException();
+        }
+      } catch (EOFException e) {
+        return records;
+      }
+
+      ByteBuffer recordBuffer = ByteBuffer.wrap(Compression.decompress(chunk, file.toString()));
+      while (recordBuffer.remaining() >= RECORD_SIZE) {
+        reader.onEvent(recordBuffer.getLong(), recordBuffer.get(), recordBuffer.getInt(),
+            recordBuffer.getInt(), recordBuffer.getInt(), recordBuffer.getInt());
+        records++;
+      }
+    }
+  }
+}
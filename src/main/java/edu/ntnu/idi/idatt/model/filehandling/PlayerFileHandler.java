@@ -9,13 +9,19 @@ import edu.ntnu.idi.idatt.model.filehandling.exceptions.PlayerFileWriteException
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +36,8 @@ import java.util.stream.Collectors;
  *   <li>Support for tracking the current active player in saved games</li>
  *   <li>Preservation of player properties, money and game positions</li>
  *   <li>Complete player state reconstruction during loading</li>
+ *   <li>Transparent compression: files named {@code *.bgz} are written compressed, and
+ *   compressed files are detected when read, see {@link Compression}</li>
  * </ul>
  *
  * <h2>CSV format structure</h2>
@@ -37,16 +45,24 @@ import java.util.stream.Collectors;
  * <p>The CSV file format used by this handler follows this pattern:</p>
  * <ul>
  *   <li>CURRENT_PLAYER: [player name]</li>
- *   <li>[name], [token], [current tile ID], [money], [owned properties]</li>
- *   <li>[name], [token], [current tile ID], [money], [owned properties]</li>
+ *   <li>[name], [token], [current tile ID], [money], [owned properties], [status flags],
+ *   [jail turns]</li>
+ *   <li>[name], [token], [current tile ID], [money], [owned properties], [status flags],
+ *   [jail turns]</li>
  *   <li>...</li>
  * </ul>
  *
+ * <p>The status flags are the persisted status flags of the player as a bitmask, see
+ * {@link Player#PERSISTED_STATUS_FLAGS}. Files written before the status fields were added
+ * are still read, with all status flags cleared.</p>
+ *
  * @author Ola Syrstad Berg
  * @since v1.1.0
  */
 public class PlayerFileHandler implements FileHandler<Player> {
 
+  private static final Logger LOGGER = Logger.getLogger(PlayerFileHandler.class.getName());
+
   /**
    * Writes a list of players to a CSV file. Each player is written on a new line with the format:
    * playerName, game.
@@ -72,42 +88,71 @@ public class PlayerFileHandler implements FileHandler<Player> {
           filename, "null", "Player list cannot be empty");
     }
 
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-      String currentPlayerName = null;
-      for (Player player : players) {
-        if (player.getProperty("currentPlayerName") != null) {
-          currentPlayerName = player.getProperty("currentPlayerName");
-          break;
-        }
-      }
+    try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+        openOutputStream(filename), StandardCharsets.UTF_8))) {
+      writePlayers(players, writer, filename);
+    } catch (IOException e) {
+      throw FileExceptionUtil.createPlayerFileWriteException(filename, e);
+    }
+  }
 
-      if (currentPlayerName != null) {
-        writer.write("CURRENT_PLAYER:" + currentPlayerName);
-        writer.newLine();
+  /**
+   * Opens the output stream of a player file, compressing the file if its name asks for it.
+   *
+   * @param filename The name of the file.
+   * @return The output stream.
+   * @throws IOException If the file cannot be opened.
+   */
+  private static OutputStream openOutputStream(String filename) throws IOException {
+    OutputStream output = Files.newOutputStream(Paths.get(filename));
+    return Compression.isCompressedFileName(filename)
+        ? Compression.compressingStream(output, Compression.Dictionary.BOARD_JSON) : output;
+  }
+
+  /**
+   * Writes players in the CSV format to a character stream.
+   *
+   * @param players The players to write.
+   * @param writer The stream to write to.
+   * @param filename The name of the destination (used for error reporting).
+   * @throws IOException If writing fails.
+   * @throws PlayerFileWriteException If the data of a player cannot be formatted.
+   */
+  void writePlayers(List<Player> players, Writer writer, String filename) throws IOException {
+    String currentPlayerName = null;
+    for (Player player : players) {
+      if (player.getCurrentPlayerName() != null) {
+        currentPlayerName = player.getCurrentPlayerName();
+        break;
       }
+    }
 
-      for (Player player : players) {
-        try {
-          int currentTileId =
-              (player.getCurrentTile() != null) ? player.getCurrentTile().getTileId() : 1;
-          String properties = player.getOwnedProperties().stream().map(
-              PropertyTileAction::getPropertyName).collect(
-              Collectors.joining(";"));
-
-          writer.write(player.getName() + ", "
-              + player.getToken() + ", "
-              + currentTileId + ", "
-              + player.getMoney() + ", "
-              + properties);
-
-          writer.newLine();
-        } catch (Exception e) {
-          throw FileExceptionUtil.createPlayerFileWriteException(
-              filename, player.getName(), "Failed to format player data: " + e.getMessage());
-        }
+    if (currentPlayerName != null) {
+      writer.write("CURRENT_PLAYER:" + currentPlayerName);
+      writer.write(System.lineSeparator());
+    }
+
+    for (Player player : players) {
+      try {
+        int currentTileId =
+            (player.getCurrentTile() != null) ? player.getCurrentTile().getTileId() : 1;
+        String properties = player.getOwnedProperties().stream().map(
+            PropertyTileAction::getPropertyName).collect(
+            Collectors.joining(";"));
+
+        writer.write(player.getName() + ", "
+            + player.getToken() + ", "
+            + currentTileId + ", "
+            + player.getMoney() + ", "
+            + properties + ", "
+            + (player.getStatusFlags() & Player.PERSISTED_STATUS_FLAGS) + ", "
+            + player.getJailTurnCount());
+
+        writer.write(System.lineSeparator());
+      } catch (Exception e) {
+        throw FileExceptionUtil.createPlayerFileWriteException(
+            filename, player.getName(), "Failed to format player data: " + e.getMessage());
       }
-    } catch (IOException e) {
-      throw FileExceptionUtil.createPlayerFileWriteException(filename, e);
     }
   }
 
@@ -137,92 +182,129 @@ public class PlayerFileHandler implements FileHandler<Player> {
           filename, "null", "Player data file does not exist");
     }
 
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        Compression.decompressingStream(Files.newInputStream(Paths.get(filename)), filename),
+        StandardCharsets.UTF_8))) {
+      return readPlayers(reader, filename);
+    } catch (IOException e) {
+      throw FileExceptionUtil.createPlayerFileReadException(filename, e);
+    }
+  }
+
+  /**
+   * Reads players in the CSV format from a character stream.
+   *
+   * @param reader The stream to read from.
+   * @param filename The name of the source (used for error reporting).
+   * @return A list of player objects.
+   * @throws IOException If reading fails.
+   * @throws PlayerFileReadException If a line cannot be processed.
+   * @throws PlayerDataFormatException If the player data format is invalid.
+   */
+  List<Player> readPlayers(BufferedReader reader, String filename) throws IOException {
     List<Player> players = new ArrayList<>();
+    LineTokenizer tokens = new LineTokenizer();
     String currentPlayerName = null;
     int lineNumber = 0;
 
-    try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-      String line;
-      boolean hasContent = false;
+    String line;
+    boolean hasContent = false;
 
-      while ((line = reader.readLine()) != null) {
-        hasContent = true;
-        lineNumber++;
+    while ((line = reader.readLine()) != null) {
+      hasContent = true;
+      lineNumber++;
 
-        if (line.trim().isEmpty()) {
-          continue;
-        }
+      if (line.isBlank()) {
+        continue;
+      }
 
-        if (line.startsWith("CURRENT_PLAYER:")) {
-          currentPlayerName = line.substring("CURRENT_PLAYER:".length()).trim();
-          System.out.println("Current player from file: " + currentPlayerName);
-          continue;
+      if (line.startsWith("CURRENT_PLAYER:")) {
+        String fileCurrentPlayer = line.substring("CURRENT_PLAYER:".length()).trim();
+        currentPlayerName = fileCurrentPlayer;
+        if (LOGGER.isLoggable(Level.FINE)) {
+          LOGGER.log(Level.FINE, "Current player from file: " + fileCurrentPlayer);
         }
+        continue;
+      }
+
+      tokens.reset(line);
+      if (tokens.count() < 4) {
+        throw FileExceptionUtil.createPlayerDataFormatException(filename, lineNumber,
+            "Invalid player data format. Expected at least 4 fields but found "
+                + tokens.count());
+      }
+
+      try {
+        String name = tokens.get(0);
+        String token = tokens.get(1);
 
-        String[] tokens = line.split(",");
-        if (tokens.length < 4) {
-          throw FileExceptionUtil.createPlayerDataFormatException(filename, lineNumber,
-              "Invalid player data format. Expected at least 4 fields but found " + tokens.length);
+        int money;
+        try {
+          money = tokens.getInt(3);
+        } catch (NumberFormatException e) {
+          throw FileExceptionUtil.createPlayerDataFormatException(filename, name,
+              "Invalid money value: " + tokens.get(3));
         }
 
+        Player player = new Player(name, token, null, money);
         try {
-          String name = tokens[0].trim();
-          String token = tokens[1].trim();
-          String tileId = tokens[2].trim();
+          player.setSavedTileId(tokens.getInt(2));
+        } catch (NumberFormatException e) {
+          String tileId = tokens.get(2);
+          LOGGER.log(Level.WARNING, () -> "Invalid tile ID for " + name + ": " + tileId);
+        }
+
+        if (tokens.count() >= 5 && !tokens.isEmpty(4)) {
+          player.setSavedPropertyNames(tokens.get(4));
+        }
 
-          int money;
+        if (tokens.count() >= 7) {
           try {
-            money = Integer.parseInt(tokens[3].trim());
+            player.setStatusFlags(tokens.getInt(5) & Player.PERSISTED_STATUS_FLAGS);
+            player.setJailTurnCount(tokens.getInt(6));
           } catch (NumberFormatException e) {
             throw FileExceptionUtil.createPlayerDataFormatException(filename, name,
-                "Invalid money value: " + tokens[3].trim());
-          }
-
-          Player player = new Player(name, token, null, money);
-          player.setProperty("savedTileId", tileId);
-
-          if (tokens.length >= 5 && !tokens[4].trim().isEmpty()) {
-            player.setProperty("savedProperties", tokens[4].trim());
+                "Invalid status values: " + tokens.get(5) + ", " + tokens.get(6));
           }
+        }
 
-          if (name.equals(currentPlayerName)) {
-            player.setProperty("isCurrentPlayer", "true");
-          } else {
-            player.setProperty("isCurrentPlayer", "false");
-          }
+        player.setStatus(Player.STATUS_CURRENT_PLAYER, name.equals(currentPlayerName));
 
-          players.add(player);
-          System.out.println("Read player: " + name
+        players.add(player);
+        if (LOGGER.isLoggable(Level.FINE)) {
+          LOGGER.log(Level.FINE, "Read player: " + name
               + ", Token: " + token
-              + ", tileId: " + tileId
+              + ", tileId: " + player.getSavedTileId()
               + ", money: " + money
-              + (tokens.length >= 5 ? ", properties: " + tokens[4].trim() : ""));
-        } catch (Exception e) {
-          if (e instanceof PlayerDataFormatException) {
-            throw e;
-          } else {
-            throw FileExceptionUtil.createPlayerFileReadException("Error processing line "
-                + lineNumber
-                + ": " + e.getMessage());
-          }
+              + (player.getSavedPropertyNames() != null
+                  ? ", properties: " + player.getSavedPropertyNames() : "")
+              + ", status: " + player.getStatusFlags());
+        }
+      } catch (Exception e) {
+        if (e instanceof PlayerDataFormatException) {
+          throw e;
+        } else {
+          throw FileExceptionUtil.createPlayerFileReadException("Error processing line "
+              + lineNumber
+              + ": " + e.getMessage());
         }
       }
+    }
 
-      if (!hasContent) {
-        throw FileExceptionUtil.createPlayerDataFormatException(filename, 0,
-            "File is empty, no player data found");
-      }
+    if (!hasContent) {
+      throw FileExceptionUtil.createPlayerDataFormatException(filename, 0,
+          "File is empty, no player data found");
+    }
 
-      if (currentPlayerName == null && !players.isEmpty()) {
-        players.getFirst().setProperty("isCurrentPlayer", "true");
-        for (int i = 1; i < players.size(); i++) {
-          players.get(i).setProperty("isCurrentPlayer", "false");
-        }
-        System.out.println("No current player found, defaulting to first player: "
+    if (currentPlayerName == null && !players.isEmpty()) {
+      players.getFirst().setStatus(Player.STATUS_CURRENT_PLAYER, true);
+      for (int i = 1; i < players.size(); i++) {
+        players.get(i).setStatus(Player.STATUS_CURRENT_PLAYER, false);
+      }
+      if (LOGGER.isLoggable(Level.FINE)) {
+        LOGGER.log(Level.FINE, "No current player found, defaulting to first player: "
             + players.getFirst().getName());
       }
-    } catch (IOException e) {
-      throw FileExceptionUtil.createPlayerFileReadException(filename, e);
     }
 
     if (players.isEmpty()) {
@@ -232,4 +314,96 @@ public class PlayerFileHandler implements FileHandler<Player> {
 
     return players;
   }
-}
\ No newline at end of file
+
+  /**
+   * Splits a CSV line into trimmed fields without allocating a string per field. The field
+   * bounds are recorded in reusable arrays, numbers are parsed directly from the line, and a
+   * string is only created for fields that are kept as text.
+   */
+  private static final class LineTokenizer {
+    private String line;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private int count;
+
+    /**
+     * Finds the fields of a line.
+     *
+     * @param line The line to split at commas.
+     */
+    void reset(String line) {
+      this.line = line;
+      count = 0;
+      int fieldStart = 0;
+      for (int i = 0; i <= line.length(); i++) {
+        if (i == line.length() || line.charAt(i) == ',') {
+          addField(fieldStart, i);
+          fieldStart = i + 1;
+        }
+      }
+    }
+
+    /**
+     * Records the bounds of a field, without surrounding whitespace.
+     *
+     * @param start The index of the first character of the field.
+     * @param end The index after the last character of the field.
+     */
+    private void addField(int start, int end) {
+      while (start < end && line.charAt(start) <= ' ') {
+        start++;
+      }
+      while (end > start && line.charAt(end - 1) <= ' ') {
+        end--;
+      }
+
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, count * 2);
+        ends = Arrays.copyOf(ends, count * 2);
+      }
+      starts[count] = start;
+      ends[count] = end;
+      count++;
+    }
+
+    /**
+     * Gets the number of fields in the line.
+     *
+     * @return The number of fields.
+     */
+    int count() {
+      return count;
+    }
+
+    /**
+     * Checks whether a field is empty.
+     *
+     * @param index The index of the field.
+     * @return True if the field has no characters other than whitespace.
+     */
+    boolean isEmpty(int index) {
+      return starts[index] == ends[index];
+    }
+
+    /**
+     * Gets a field as text.
+     *
+     * @param index The index of the field.
+     * @return The field without surrounding whitespace.
+     */
+    String get(int index) {
+      return line.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Parses a field as an integer.
+     *
+     * @param index The index of the field.
+     * @return The integer value.
+     * @throws NumberFormatException If the field is not an integer.
+     */
+    int getInt(int index) {
+      return Integer.parseInt(line, starts[index], ends[index], 10);
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Save Catalog</h1>
+ *
+ * <p>An index of the saves in a save directory, with the metadata needed to list them: the
+ * variant, the players, the turn number, when the game was saved and the size of the save. The
+ * index is kept in a single file next to the saves and updated whenever a save is written or
+ * deleted, so listing saves reads one small file instead of opening and parsing every save.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Listing thousands of saves without parsing any of them</li>
+ *   <li>Updating the index on every save and delete, replacing the file atomically</li>
+ *   <li>Rebuilding the index from the saves if the index file is missing or damaged</li>
+ *   <li>Sharing the index between processes: updates are made under a file lock and an index
+ *   changed by another process is read again before use</li>
+ * </ul>
+ *
+ * <h2>Index format</h2>
+ *
+ * <p>The first line is the header {@value #HEADER}. Each following line describes one save with
+ * tab-separated fields:</p>
+ * <ul>
+ *   <li>[save name] [variant] [player names, comma-separated] [turn number]
+ *   [saved at, epoch milliseconds] [size in bytes]</li>
+ * </ul>
+ *
+ * <p>Commas and backslashes in player names are escaped with a backslash.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class SaveCatalog {
+  public static final String CATALOG_FILE_NAME = "catalog.idx";
+  public static final String LOCK_FILE_NAME = "catalog.lock";
+
+  private static final Logger LOGGER = Logger.getLogger(SaveCatalog.class.getName());
+  private static final String HEADER = "BGCATALOG\t2";
+  private static final List<String> SAVE_FILE_SUFFIXES = List.of("_save.bgs", "_save.bin",
+      "_board.json");
+  private static final int FIELD_COUNT = 6;
+
+  private final Path directory;
+  private final Path file;
+  private final Path lockFile;
+  private final Function<String, Entry> describer;
+  private Map<String, Entry> entries;
+  private List<Object> loadedVersion;
+
+  /**
+   * Creates a catalog for a save directory. The index is read on first use.
+   *
+   * @param directory The save directory.
+   * @param describer Reads the metadata of a save by name, used when the index is rebuilt.
+   */
+  public SaveCatalog(Path directory, Function<String, Entry> describer) {
+    this.directory = directory;
+    this.file = directory.resolve(CATALOG_FILE_NAME);
+    this.lockFile = directory.resolve(LOCK_FILE_NAME);
+    this.describer = describer;
+  }
+
+  /**
+   * Lists the saves in the catalog, the most recently saved first.
+   *
+   * @return The catalog entries.
+   */
+  public synchronized List<Entry> list() {
+    List<Entry> list = new ArrayList<>(getEntries().values());
+    list.sort(Comparator.comparingLong(Entry::savedAt).reversed());
+    return list;
+  }
+
+  /**
+   * Finds the entry of a save.
+   *
+   * @param saveName The name of the save.
+   * @return The entry, or an empty optional if the save is not in the catalog.
+   */
+  public synchronized Optional<Entry> find(String saveName) {
+    return Optional.ofNullable(getEntries().get(saveName));
+  }
+
+  /**
+   * Adds or replaces the entry of a save and writes the index.
+   *
+   * @param entry The entry.
+   * @throws FileHandlerException If the index cannot be written.
+   */
+  public synchronized void put(Entry entry) {
+    update(() -> {
+      getEntries().put(entry.saveName(), entry);
+      write();
+    });
+  }
+
+  /**
+   * Removes the entry of a save and writes the index.
+   *
+   * @param saveName The name of the save.
+   * @throws FileHandlerException If the index cannot be written.
+   */
+  public synchronized void remove(String saveName) {
+    update(() -> {
+      if (getEntries().remove(saveName) != null) {
+        write();
+      }
+    });
+  }
+
+  /**
+   * Runs an update of the index while holding the lock file, so updates from other processes
+   * sharing the save directory are not lost. The index is read again inside the lock if another
+   * process changed it.
+   *
+   * @param update The update.
+   * @throws FileHandlerException If the lock cannot be taken or the index cannot be written.
+   */
+  private void update(Runnable update) {
+    try {
+      Files.createDirectories(directory);
+      try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE);
+          FileLock lock = channel.lock()) {
+        update.run();
+      }
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Gets the entries, reading the index on first use or when another process changed it, and
+   * rebuilding it if the index file is missing or damaged.
+   *
+   * @return The entries by save name.
+   */
+  private Map<String, Entry> getEntries() {
+    List<Object> version = readVersion();
+    if (version != null && entries != null && version.equals(loadedVersion)) {
+      return entries;
+    }
+
+    entries = version != null ? read() : null;
+    loadedVersion = version;
+    if (entries == null) {
+      entries = rebuild();
+      try {
+        write();
+      } catch (FileHandlerException e) {
+        LOGGER.log(Level.WARNING, "Could not write rebuilt save catalog " + file, e);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Reads the version of the index file: its modification time, size and file key. The index is
+   * replaced by renaming a new file over it, so the file key changes on every write on platforms
+   * that have one.
+   *
+   * @return The version, or null if the index file does not exist.
+   */
+  private List<Object> readVersion() {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return List.of(attributes.lastModifiedTime(), attributes.size(),
+          Objects.toString(attributes.fileKey()));
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not read attributes of save catalog " + file, e);
+      return null;
+    }
+  }
+
+  /**
+   * Reads the index file.
+   *
+   * @return The entries by save name, or null if the index is damaged and must be rebuilt.
+   */
+  private Map<String, Entry> read() {
+    Map<String, Entry> read = new LinkedHashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      if (!HEADER.equals(reader.readLine())) {
+        LOGGER.log(Level.WARNING, "Rebuilding save catalog {0} with unknown header", file);
+        return null;
+      }
+
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELD_COUNT) {
+          LOGGER.log(Level.WARNING, "Rebuilding damaged save catalog {0}", file);
+          return null;
+        }
+
+        read.put(fields[0], new Entry(fields[0], fields[1], splitNames(fields[2]),
+            Integer.parseInt(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5])));
+      }
+    } catch (IOException | NumberFormatException e) {
+      LOGGER.log(Level.WARNING, "Rebuilding unreadable save catalog " + file, e);
+      return null;
+    }
+    return read;
+  }
+
+  /**
+   * Rebuilds the index from the save files in the directory. Saves that cannot be read are left
+   * out.
+   *
+   * @return The entries by save name.
+   */
+  private Map<String, Entry> rebuild() {
+    Map<String, Entry> rebuilt = new LinkedHashMap<>();
+    if (!Files.isDirectory(directory)) {
+      return rebuilt;
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      files.map(path -> path.getFileName().toString())
+          .map(SaveCatalog::toSaveName)
+          .filter(name -> name != null)
+          .distinct()
+          .sorted()
+          .forEach(name -> {
+            try {
+              rebuilt.put(name, describer.apply(name));
+            } catch (RuntimeException e) {
+              LOGGER.log(Level.WARNING, "Leaving unreadable save " + name + " out of catalog", e);
+            }
+          });
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not list saves in " + directory, e);
+    }
+    LOGGER.log(Level.INFO, "Rebuilt save catalog {0} with {1} saves",
+        new Object[]{file, rebuilt.size()});
+    return rebuilt;
+  }
+
+  /**
+   * Gets the save name of a save file.
+   *
+   * @param fileName The file name.
+   * @return The save name, or null if the file is not a save file.
+   */
+  private static String toSaveName(String fileName) {
+    for (String suffix : SAVE_FILE_SUFFIXES) {
+      if (fileName.endsWith(suffix)) {
+        return fileName.substring(0, fileName.length() - suffix.length());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Writes the index file, atomically replacing the old one.
+   *
+   * @throws FileHandlerException If the file cannot be written.
+   */
+  private void write() {
+    StringBuilder content = new StringBuilder(HEADER).append('\n');
+    for (Entry entry : entries.values()) {
+      content.append(clean(entry.saveName())).append('\t')
+          .append(clean(entry.variantName())).append('\t')
+          .append(joinNames(entry.playerNames())).append('\t')
+          .append(entry.turnNumber()).append('\t')
+          .append(entry.savedAt()).append('\t')
+          .append(entry.sizeBytes()).append('\n');
+    }
+
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(directory.toString(), e);
+    }
+    SaveContainer.writeAtomically(file,
+        ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+    loadedVersion = readVersion();
+  }
+
+  /**
+   * Replaces the characters used as separators in the index file.
+   *
+   * @param value The value to write.
+   * @return The value without tabs and line breaks.
+   */
+  private static String clean(String value) {
+    return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+  }
+
+  /**
+   * Joins player names into one field, escaping the commas and backslashes in the names.
+   *
+   * @param names The player names.
+   * @return The field.
+   */
+  private static String joinNames(List<String> names) {
+    StringBuilder joined = new StringBuilder();
+    for (int i = 0; i < names.size(); i++) {
+      if (i > 0) {
+        joined.append(',');
+      }
+      String name = clean(names.get(i));
+      for (int j = 0; j < name.length(); j++) {
+        char c = name.charAt(j);
+        if (c == ',' || c == '\\') {
+          joined.append('\\');
+        }
+        joined.append(c);
+      }
+    }
+    return joined.toString();
+  }
+
+  /**
+   * Splits a field written by {@link #joinNames} back into player names.
+   *
+   * @param field The field.
+   * @return The player names.
+   */
+  private static List<String> splitNames(String field) {
+    List<String> names = new ArrayList<>();
+    if (field.isEmpty()) {
+      return names;
+    }
+
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < field.length(); i++) {
+      char c = field.charAt(i);
+      if (c == '\\' && i + 1 < field.length()) {
+        name.append(field.charAt(++i));
+      } else if (c == ',') {
+        names.add(name.toString());
+        name.setLength(0);
+      } else {
+        name.append(c);
+      }
+    }
+    names.add(name.toString());
+    return names;
+  }
+
+  /**
+   * The metadata of one save.
+   *
+   * @param saveName The name of the save.
+   * @param variantName The variant of the saved game.
+   * @param playerNames The names of the players.
+   * @param turnNumber The number of turns played when the game was saved.
+   * @param savedAt When the game was saved, in epoch milliseconds.
+   * @param sizeBytes The size of the save files in bytes.
+   */
+  public record Entry(String saveName, String variantName, List<String> playerNames,
+      int turnNumber, long savedAt, long sizeBytes) {
+  }
+}
@@ -0,0 +1,258 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * <h1>Save Container</h1>
+ *
+ * <p>A single save file holding the sections of a save, such as the board and the players, each
+ * protected by a CRC32C checksum. Files are replaced atomically: the new content is written to
+ * a temporary file in the same directory, forced to the storage device and then renamed over the
+ * old file, so a crash while saving leaves either the complete old save or the complete new
+ * one.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>One file per save, so the board and the players can never come from different saves</li>
+ *   <li>Atomic replacement through a temporary file, fsync and rename</li>
+ *   <li>A CRC32C checksum per section, verified when the save is read</li>
+ *   <li>Reading and verifying the whole file in a single sequential read</li>
+ *   <li>Sections compressed with the board dictionary of {@link Compression} when that makes
+ *   them smaller</li>
+ * </ul>
+ *
+ * <h2>File format</h2>
+ *
+ * <p>The file starts with the magic bytes {@code BGSC}, a two-byte format version and a two-byte
+ * section count. Each section follows as a one-byte section ID, a four-byte length, a four-byte
+ * CRC32C checksum of the content and the content itself. All numbers are big-endian. From
+ * version 2, the highest bit of the section ID marks content stored as a zlib stream; the
+ * checksum covers the stored bytes, so damage is found before anything is decompressed.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public final class SaveContainer {
+  public static final short FORMAT_VERSION = 2;
+
+  private static final Logger LOGGER = Logger.getLogger(SaveContainer.class.getName());
+  private static final byte[] MAGIC = {'B', 'G', 'S', 'C'};
+  private static final int HEADER_SIZE = MAGIC.length + 2 * Short.BYTES;
+  private static final int SECTION_HEADER_SIZE = Byte.BYTES + 2 * Integer.BYTES;
+  private static final int COMPRESSED_FLAG = 0x80;
+  private static final int MIN_COMPRESSED_SIZE = 64;
+
+  /**
+   * <h2>Section</h2>
+   *
+   * <p>The sections a save container can hold.</p>
+   */
+  public enum Section {
+    /** The board in the JSON board file format. */
+    BOARD(1),
+    /** The players in the CSV player file format. */
+    PLAYERS(2),
+    /** A reference to the board of a predefined variant, used instead of the board. */
+    BOARD_REFERENCE(3),
+    /** Game state outside the board and players, as {@code key=value} lines. */
+    METADATA(4);
+
+    private final int id;
+
+    Section(int id) {
+      this.id = id;
+    }
+
+    /**
+     * Finds the section with an ID.
+     *
+     * @param id The section ID.
+     * @return The section, or null if the ID is unknown.
+     */
+    private static Section fromId(int id) {
+      for (Section section : values()) {
+        if (section.id == id) {
+          return section;
+        }
+      }
+      return null;
+    }
+  }
+
+  private SaveContainer() {
+  }
+
+  /**
+   * Writes the sections to a save container, atomically replacing an existing file.
+   *
+   * @param file The save file.
+   * @param sections The content of each section.
+   * @throws FileHandlerException If the file cannot be written.
+   */
+  public static void write(Path file, Map<Section, byte[]> sections) {
+    Map<Section, byte[]> stored = new EnumMap<>(Section.class);
+    Map<Section, Boolean> compressed = new EnumMap<>(Section.class);
+    int size = HEADER_SIZE;
+    for (Map.Entry<Section, byte[]> entry : sections.entrySet()) {
+      byte[] content = entry.getValue();
+      byte[] deflated = content.length >= MIN_COMPRESSED_SIZE && Compression.isEnabled()
+          ? Compression.compress(content, Compression.Dictionary.BOARD_JSON) : null;
+      boolean smaller = deflated != null && deflated.length < content.length;
+      stored.put(entry.getKey(), smaller ? deflated : content);
+      compressed.put(entry.getKey(), smaller);
+      size += SECTION_HEADER_SIZE + stored.get(entry.getKey()).length;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.put(MAGIC).putShort(FORMAT_VERSION).putShort((short) stored.size());
+    CRC32C checksum = new CRC32C();
+    for (Map.Entry<Section, byte[]> entry : stored.entrySet()) {
+      checksum.reset();
+      checksum.update(entry.getValue());
+      int id = entry.getKey().id | (compressed.get(entry.getKey()) ? COMPRESSED_FLAG : 0);
+      buffer.put((byte) id).putInt(entry.getValue().length)
+          .putInt((int) checksum.getValue()).put(entry.getValue());
+    }
+    buffer.flip();
+    writeAtomically(file, buffer);
+  }
+
+  /**
+   * Reads a save container and verifies the checksum of every section.
+   *
+   * @param file The save file.
+   * @return The content of each section in the file.
+   * @throws DataFormatException If the file is not a save container, is truncated or a section
+   *     does not match its checksum.
+   * @throws FileHandlerException If the file cannot be read.
+   */
+  public static Map<Section, byte[]> read(Path file) {
+    ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(file.toString(), e);
+    }
+
+    Map<Section, byte[]> sections = new EnumMap<>(Section.class);
+    try {
+      byte[] magic = new byte[MAGIC.length];
+      buffer.get(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+            "Not a save file");
+      }
+
+      short version = buffer.getShort();
+      if (version < 1 || version > FORMAT_VERSION) {
+        throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+            "Unsupported save format version " + version);
+      }
+
+      int sectionCount = buffer.getShort();
+      CRC32C checksum = new CRC32C();
+      for (int i = 0; i < sectionCount; i++) {
+        int id = buffer.get() & 0xFF;
+        int length = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+          throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+              "Save file is truncated");
+        }
+
+        byte[] content = new byte[length];
+        buffer.get(content);
+        checksum.reset();
+        checksum.update(content);
+        if ((int) checksum.getValue() != expectedChecksum) {
+          throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+              "Checksum mismatch in section " + id);
+        }
+
+        Section section = Section.fromId(id & ~COMPRESSED_FLAG);
+        if (section != null) {
+          boolean compressed = version >= 2 && (id & COMPRESSED_FLAG) != 0;
+          sections.put(section, compressed
+              ? Compression.decompress(content, file.toString()) : content);
+        }
+      }
+    } catch (BufferUnderflowException e) {
+      throw FileExceptionUtil.createDataFormatException(file.toString(), 0,
+          "Save file is truncated");
+    }
+    return sections;
+  }
+
+  /**
+   * Replaces a file with new content. The content is written to a temporary file in the same
+   * directory and forced to the storage device before it is renamed over the target, so readers
+   * never see a partly written file.
+   *
+   * @param file The file to replace.
+   * @param content The new content of the file.
+   * @throws FileHandlerException If the file cannot be written.
+   */
+  public static void writeAtomically(Path file, ByteBuffer content) {
+    Path directory = file.toAbsolutePath().getParent();
+    Path temporaryFile = null;
+    try {
+      temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+        channel.force(true);
+      }
+
+      try {
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      temporaryFile = null;
+      syncDirectory(directory);
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    } finally {
+      if (temporaryFile != null) {
+        try {
+          Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+          LOGGER.log(Level.WARNING, "Could not delete temporary file " + temporaryFile, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Forces a directory entry change, such as a rename, to the storage device. Not all platforms
+   * allow opening a directory, so this is best effort.
+   *
+   * @param directory The directory.
+   */
+  private static void syncDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // Directories cannot be opened on every platform; the rename is still atomic
+    }
+  }
+}
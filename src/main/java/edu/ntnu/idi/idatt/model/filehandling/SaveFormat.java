@@ -0,0 +1,22 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+/**
+ * <h1>Save Format</h1>
+ *
+ * <p>The file formats a game can be saved in. Both formats are loaded by
+ * {@link BoardGameFactory#loadSavedGame(String, String)}.</p>
+ *
+ * <h2>Formats</h2>
+ * <ul>
+ *   <li>{@link #JSON}: the JSON board and the CSV players as text sections of a
+ *   {@link SaveContainer}</li>
+ *   <li>{@link #BINARY}: a single compact binary file, see {@link BinarySaveFileHandler}</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public enum SaveFormat {
+  JSON,
+  BINARY
+}
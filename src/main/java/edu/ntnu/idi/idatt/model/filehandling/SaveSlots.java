@@ -0,0 +1,302 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h1>Save Slots</h1>
+ *
+ * <p>The save slots of one table, that is one running game. Each table has a ring of rotating
+ * autosave slots, so the latest few states of the game are kept and the oldest one is
+ * overwritten by the next autosave. Named slots are chosen by the players and kept until they
+ * are deleted. All slots are looked up in the {@link SaveCatalog}, so no save directory is
+ * scanned.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Rotating autosave slots per table, named {@code <table>-auto-<index>}</li>
+ *   <li>Named slots, validated so they cannot collide with autosave slots</li>
+ *   <li>A {@link RetentionPolicy} for the number of autosave slots per table and the age of
+ *   autosaves left behind by other tables</li>
+ *   <li>Continuing the autosave ring of a table when one of its autosaves is loaded</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class SaveSlots {
+  public static final String AUTOSAVE_MARKER = "-auto-";
+
+  private static final Logger LOGGER = Logger.getLogger(SaveSlots.class.getName());
+  private static final Pattern AUTOSAVE_PATTERN = Pattern.compile("(.+)-auto-(\\d{1,9})");
+  private static final Pattern SAVE_NAME_PATTERN = Pattern.compile("[\\p{L}\\p{N} _-]{1,64}");
+  private static final DateTimeFormatter TABLE_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final String gameType;
+  private final String tableName;
+  private final RetentionPolicy policy;
+  private int lastAutosaveSlot = -1;
+  private boolean retentionApplied;
+
+  /**
+   * Creates the save slots of a table.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @param tableName The name of the table, used as prefix of its autosave slots.
+   * @param policy The retention policy.
+   * @throws IllegalArgumentException If an argument is null or the table name is invalid.
+   */
+  public SaveSlots(String gameType, String tableName, RetentionPolicy policy) {
+    if (gameType == null || policy == null) {
+      throw new IllegalArgumentException("Game type and retention policy cannot be null");
+    }
+
+    this.gameType = gameType;
+    this.tableName = validateSaveName(tableName);
+    this.policy = policy;
+  }
+
+  /**
+   * Creates the save slots for a game. A game loaded from an autosave slot continues the
+   * autosave ring of its table; any other game gets a new table.
+   *
+   * @param boardGame The game.
+   * @param policy The retention policy.
+   * @return The save slots of the game.
+   */
+  public static SaveSlots forGame(BoardGame boardGame, RetentionPolicy policy) {
+    String gameType = BoardGameFactory.getGameType(boardGame);
+    String saveName = boardGame.getSaveName();
+    Matcher matcher = saveName != null ? AUTOSAVE_PATTERN.matcher(saveName) : null;
+    String tableName = matcher != null && matcher.matches() ? matcher.group(1)
+        : createTableName(gameType);
+    return new SaveSlots(gameType, tableName, policy);
+  }
+
+  /**
+   * Creates a table name that is not used by any save of a game type. The name holds the time
+   * the table was created and a random suffix, so tables created at the same time by different
+   * processes do not collide.
+   *
+   * @param gameType The type of game (monopolygame, laddergame).
+   * @return The table name.
+   */
+  static String createTableName(String gameType) {
+    List<SaveCatalog.Entry> saves = BoardGameFactory.listSavedGames(gameType);
+    String tableName;
+    do {
+      byte[] suffix = new byte[2];
+      RANDOM.nextBytes(suffix);
+      tableName = "table-" + LocalDateTime.now().format(TABLE_TIME_FORMAT) + "-"
+          + HexFormat.of().formatHex(suffix);
+    } while (usesTable(saves, tableName));
+    return tableName;
+  }
+
+  /**
+   * Checks whether any save belongs to a table.
+   *
+   * @param saves The saves.
+   * @param tableName The table name.
+   * @return True if a save of the table exists.
+   */
+  private static boolean usesTable(List<SaveCatalog.Entry> saves, String tableName) {
+    return saves.stream().anyMatch(entry -> entry.saveName().startsWith(tableName + "-"));
+  }
+
+  /**
+   * Checks a save name chosen for a named slot.
+   *
+   * @param saveName The save name.
+   * @return The save name without surrounding whitespace.
+   * @throws IllegalArgumentException If the name is empty, too long, contains characters other
+   *     than letters, digits, spaces, dashes and underscores, or is an autosave slot name.
+   */
+  public static String validateSaveName(String saveName) {
+    String trimmed = saveName == null ? "" : saveName.trim();
+    if (!SAVE_NAME_PATTERN.matcher(trimmed).matches()) {
+      throw new IllegalArgumentException("Save names must be 1 to 64 letters, digits, spaces,"
+          + " dashes or underscores");
+    }
+
+    if (isAutosave(trimmed)) {
+      throw new IllegalArgumentException("Save names cannot end with " + AUTOSAVE_MARKER
+          + "<number>");
+    }
+    return trimmed;
+  }
+
+  /**
+   * Checks whether a save is an autosave slot.
+   *
+   * @param saveName The save name.
+   * @return True if the save is an autosave slot of a table.
+   */
+  public static boolean isAutosave(String saveName) {
+    return saveName != null && AUTOSAVE_PATTERN.matcher(saveName).matches();
+  }
+
+  /**
+   * Gets the name of the table.
+   *
+   * @return The table name.
+   */
+  public String getTableName() {
+    return tableName;
+  }
+
+  /**
+   * Gets the type of game the slots are for.
+   *
+   * @return The game type (monopolygame, laddergame).
+   */
+  public String getGameType() {
+    return gameType;
+  }
+
+  /**
+   * Gets the retention policy.
+   *
+   * @return The retention policy.
+   */
+  public RetentionPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Chooses the autosave slot for the next autosave: the slot after the one written last, or
+   * the first slot once the ring is full. On first use the ring continues after the most recent
+   * autosave of the table in the catalog.
+   *
+   * @return The save name of the slot.
+   */
+  public synchronized String nextAutosaveSlot() {
+    if (lastAutosaveSlot < 0) {
+      lastAutosaveSlot = listAutosaves().stream()
+          .mapToInt(entry -> slotIndex(entry.saveName()))
+          .filter(index -> index >= 0 && index < policy.autosaveSlots())
+          .findFirst()
+          .orElse(-1);
+    }
+
+    lastAutosaveSlot = (lastAutosaveSlot + 1) % policy.autosaveSlots();
+    return autosaveSlotName(lastAutosaveSlot);
+  }
+
+  /**
+   * Lists the autosaves of the table, the most recent first.
+   *
+   * @return The catalog entries of the autosave slots.
+   */
+  public List<SaveCatalog.Entry> listAutosaves() {
+    return BoardGameFactory.listSavedGames(gameType).stream()
+        .filter(entry -> tableName.equals(tableOf(entry.saveName())))
+        .toList();
+  }
+
+  /**
+   * Applies the retention policy once per table: autosave slots of the table beyond the number
+   * of slots in the policy are deleted, as are autosaves of other tables older than the maximum
+   * age. Named slots are never deleted.
+   *
+   * @return The number of deleted saves.
+   */
+  public synchronized int applyRetention() {
+    if (retentionApplied) {
+      return 0;
+    }
+
+    retentionApplied = true;
+    long oldestKept = policy.maxAutosaveAge() == null ? Long.MIN_VALUE
+        : System.currentTimeMillis() - policy.maxAutosaveAge().toMillis();
+    int deleted = 0;
+    for (SaveCatalog.Entry entry : BoardGameFactory.listSavedGames(gameType)) {
+      String table = tableOf(entry.saveName());
+      if (table == null) {
+        continue;
+      }
+
+      boolean expired = table.equals(tableName)
+          ? slotIndex(entry.saveName()) >= policy.autosaveSlots()
+          : entry.savedAt() < oldestKept;
+      if (expired && BoardGameFactory.deleteSavedGame(gameType, entry.saveName())) {
+        deleted++;
+      }
+    }
+
+    if (deleted > 0) {
+      LOGGER.log(Level.INFO, "Deleted {0} expired autosaves", deleted);
+    }
+    return deleted;
+  }
+
+  /**
+   * Gets the save name of an autosave slot of the table.
+   *
+   * @param index The slot index.
+   * @return The save name.
+   */
+  String autosaveSlotName(int index) {
+    return tableName + AUTOSAVE_MARKER + index;
+  }
+
+  /**
+   * Gets the table an autosave slot belongs to.
+   *
+   * @param saveName The save name.
+   * @return The table name, or null if the save is not an autosave slot.
+   */
+  private static String tableOf(String saveName) {
+    Matcher matcher = AUTOSAVE_PATTERN.matcher(saveName);
+    return matcher.matches() ? matcher.group(1) : null;
+  }
+
+  /**
+   * Gets the index of an autosave slot.
+   *
+   * @param saveName The save name of the slot.
+   * @return The slot index, or -1 if the save is not an autosave slot.
+   */
+  private static int slotIndex(String saveName) {
+    Matcher matcher = AUTOSAVE_PATTERN.matcher(saveName);
+    return matcher.matches() ? Integer.parseInt(matcher.group(2)) : -1;
+  }
+
+  /**
+   * How long autosaves are kept.
+   *
+   * @param autosaveSlots The number of rotating autosave slots per table.
+   * @param maxAutosaveAge How long autosaves of other tables are kept, or null to keep them
+   *     until they are deleted.
+   */
+  public record RetentionPolicy(int autosaveSlots, Duration maxAutosaveAge) {
+    /** Five autosave slots per table, with autosaves of other tables kept for 30 days. */
+    public static final RetentionPolicy DEFAULT = new RetentionPolicy(5, Duration.ofDays(30));
+
+    /**
+     * Creates a retention policy.
+     *
+     * @throws IllegalArgumentException If there are no slots or the age is not positive.
+     */
+    public RetentionPolicy {
+      if (autosaveSlots < 1) {
+        throw new IllegalArgumentException("There must be at least one autosave slot");
+      }
+
+      if (maxAutosaveAge != null && (maxAutosaveAge.isNegative() || maxAutosaveAge.isZero())) {
+        throw new IllegalArgumentException("Maximum autosave age must be positive");
+      }
+    }
+  }
+}
@@ -0,0 +1,463 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileExceptionUtil;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGameObserver;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <h1>Turn Journal</h1>
+ *
+ * <p>An append-only journal of the changes made to a saved game since its last snapshot. The
+ * snapshot is the regular board and player save files; the journal holds the changes of every
+ * turn played after it. Loading a game replays the journal on top of the snapshot, so a save only
+ * has to write what changed since the previous save, and a crash loses at most the turn that was
+ * being played.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Appends the changes of each turn automatically when the current player changes</li>
+ *   <li>Writes only the players whose state changed since the last append</li>
+ *   <li>Ignores a turn that was only partly written, for instance after a crash</li>
+ *   <li>Reports when the journal has grown large enough to be folded into a new snapshot</li>
+ *   <li>Collecting a turn apart from writing it, so the {@link AutosaveService} can collect on
+ *   the game thread and write in the background</li>
+ * </ul>
+ *
+ * <h2>Journal format structure</h2>
+ *
+ * <p>Each line holds one record, with comma-separated fields:</p>
+ * <ul>
+ *   <li>P,[player index],[tile ID],[money],[status flags],[jail turns]</li>
+ *   <li>O,[player index],[property name] - the player acquired a property</li>
+ *   <li>B,[player index] - the player went bankrupt</li>
+ *   <li>C,[player index] - the player is the current player</li>
+ *   <li>T,[turn number] - the records since the previous T line form a complete turn</li>
+ * </ul>
+ *
+ * <p>The journal records resulting states rather than dice rolls, as tile actions such as chance
+ * cards are random and could not be replayed.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class TurnJournal implements BoardGameObserver {
+  private static final Logger LOGGER = Logger.getLogger(TurnJournal.class.getName());
+  private static final int COMPACTION_THRESHOLD = 500;
+
+  private Path file;
+  private final WeakReference<BoardGame> followedGame;
+  private int[] tileIds;
+  private int[] money;
+  private int[] statusFlags;
+  private int[] jailTurns;
+  private int[] propertyCounts;
+  private boolean[] bankrupt;
+  private int currentPlayerIndex;
+  private int recordCount;
+  private long turnCount;
+
+  /**
+   * Creates a journal for a file, with the current state of a game as the baseline.
+   *
+   * @param file The journal file.
+   * @param game The game the journal follows.
+   */
+  private TurnJournal(Path file, BoardGame game) {
+    this.file = file;
+    this.followedGame = new WeakReference<>(game);
+    captureBaseline(game);
+  }
+
+  /**
+   * Starts a new, empty journal after a snapshot of the game has been written.
+   *
+   * @param file The journal file, replaced if it exists.
+   * @param game The game that was just saved.
+   * @return The new journal.
+   * @throws edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException If the journal
+   *     file cannot be written.
+   */
+  public static TurnJournal start(Path file, BoardGame game) {
+    try {
+      Files.write(file, new byte[0]);
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    }
+    return new TurnJournal(file, game);
+  }
+
+  /**
+   * Creates a journal that is not yet bound to a file, with the current state of a game as the
+   * baseline. Used when the snapshot the journal belongs to is written later, in the background.
+   *
+   * @param game The game about to be saved.
+   * @return The journal, to be bound with {@link #bind(Path)} once the snapshot is written.
+   */
+  static TurnJournal capture(BoardGame game) {
+    return new TurnJournal(null, game);
+  }
+
+  /**
+   * Binds a captured journal to its file after its snapshot has been written, replacing the
+   * file if it exists.
+   *
+   * @param journalFile The journal file.
+   * @throws edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException If the journal
+   *     file cannot be written.
+   */
+  void bind(Path journalFile) {
+    try {
+      Files.write(journalFile, new byte[0]);
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(journalFile.toString(), e);
+    }
+    this.file = journalFile;
+  }
+
+  /**
+   * Continues an existing journal after the game has been loaded and the journal replayed.
+   *
+   * @param file The journal file.
+   * @param game The loaded game.
+   * @param replayed The result of replaying the journal.
+   * @return The journal.
+   */
+  public static TurnJournal resume(Path file, BoardGame game, ReplayResult replayed) {
+    TurnJournal journal = new TurnJournal(file, game);
+    journal.recordCount = replayed.recordCount();
+    journal.turnCount = replayed.turns();
+    return journal;
+  }
+
+  /**
+   * Appends the changes made to the game since the last append as one turn. Nothing is written
+   * if nothing changed.
+   *
+   * @param game The game the journal follows.
+   * @return False if the players of the game changed, so the game needs a new snapshot.
+   * @throws edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException If the journal
+   *     file cannot be written.
+   */
+  public boolean appendTurn(BoardGame game) {
+    String records = collectTurn(game);
+    if (records == null) {
+      return false;
+    }
+
+    if (!records.isEmpty()) {
+      write(records);
+    }
+    return true;
+  }
+
+  /**
+   * Collects the records of the changes made to the game since the last collected turn, and
+   * takes the new state as the baseline. Only reads the game and builds a string, so it is cheap
+   * enough for the game thread.
+   *
+   * @param game The game the journal follows.
+   * @return The records of the turn, an empty string if nothing changed, or null if the players
+   *     of the game changed, so the game needs a new snapshot.
+   */
+  String collectTurn(BoardGame game) {
+    List<Player> players = game.getPlayers();
+    if (players.size() != tileIds.length) {
+      return null;
+    }
+
+    StringBuilder records = new StringBuilder();
+    int firstRecord = recordCount;
+    for (int i = 0; i < players.size(); i++) {
+      appendPlayerChanges(records, i, players.get(i));
+    }
+
+    int current = players.indexOf(game.getCurrentPlayer());
+    if (current != currentPlayerIndex) {
+      records.append("C,").append(current).append('\n');
+      currentPlayerIndex = current;
+      recordCount++;
+    }
+
+    if (recordCount == firstRecord) {
+      return "";
+    }
+
+    turnCount++;
+    records.append("T,").append(turnCount).append('\n');
+    recordCount++;
+    return records.toString();
+  }
+
+  /**
+   * Appends collected records to the journal file.
+   *
+   * @param records The records, as returned by {@link #collectTurn(BoardGame)}.
+   * @throws edu.ntnu.idi.idatt.model.filehandling.exceptions.FileWriteException If the journal
+   *     file cannot be written.
+   * @throws IllegalStateException If the journal is not bound to a file.
+   */
+  void write(String records) {
+    if (file == null) {
+      throw new IllegalStateException("The journal is not bound to a file");
+    }
+
+    try {
+      Files.writeString(file, records, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapWriteException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Appends the records for a player whose state differs from the last written state.
+   *
+   * @param records The records being built.
+   * @param index The index of the player.
+   * @param player The player.
+   */
+  private void appendPlayerChanges(StringBuilder records, int index, Player player) {
+    int tileId = player.getCurrentTile() != null ? player.getCurrentTile().getTileId() : 1;
+    int flags = player.getStatusFlags() & Player.PERSISTED_STATUS_FLAGS;
+    if (tileId != tileIds[index] || player.getMoney() != money[index]
+        || flags != statusFlags[index] || player.getJailTurnCount() != jailTurns[index]) {
+      records.append("P,").append(index).append(',').append(tileId).append(',')
+          .append(player.getMoney()).append(',').append(flags).append(',')
+          .append(player.getJailTurnCount()).append('\n');
+      tileIds[index] = tileId;
+      money[index] = player.getMoney();
+      statusFlags[index] = flags;
+      jailTurns[index] = player.getJailTurnCount();
+      recordCount++;
+    }
+
+    List<PropertyTileAction> owned = player.getOwnedProperties();
+    for (int i = propertyCounts[index]; i < owned.size(); i++) {
+      records.append("O,").append(index).append(',')
+          .append(owned.get(i).getPropertyName()).append('\n');
+      recordCount++;
+    }
+    propertyCounts[index] = owned.size();
+
+    if (player.isBankrupt() && !bankrupt[index]) {
+      records.append("B,").append(index).append('\n');
+      bankrupt[index] = true;
+      recordCount++;
+    }
+  }
+
+  /**
+   * Records the current state of the game as the state already written.
+   *
+   * @param game The game.
+   */
+  private void captureBaseline(BoardGame game) {
+    List<Player> players = game.getPlayers();
+    int count = players.size();
+    tileIds = new int[count];
+    money = new int[count];
+    statusFlags = new int[count];
+    jailTurns = new int[count];
+    propertyCounts = new int[count];
+    bankrupt = new boolean[count];
+
+    for (int i = 0; i < count; i++) {
+      Player player = players.get(i);
+      tileIds[i] = player.getCurrentTile() != null ? player.getCurrentTile().getTileId() : 1;
+      money[i] = player.getMoney();
+      statusFlags[i] = player.getStatusFlags() & Player.PERSISTED_STATUS_FLAGS;
+      jailTurns[i] = player.getJailTurnCount();
+      propertyCounts[i] = player.getOwnedPropertyCount();
+      bankrupt[i] = player.isBankrupt();
+    }
+    currentPlayerIndex = players.indexOf(game.getCurrentPlayer());
+  }
+
+  /**
+   * Replays the complete turns of a journal file on a game loaded from the matching snapshot.
+   * Records after the last complete turn are ignored.
+   *
+   * @param file The journal file.
+   * @param game The game loaded from the snapshot.
+   * @return The result of the replay.
+   * @throws edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException If the
+   *     journal cannot be read or a complete turn contains an invalid record.
+   */
+  public static ReplayResult replay(Path file, BoardGame game) {
+    if (!Files.exists(file)) {
+      return new ReplayResult(-1, 0, 0);
+    }
+
+    List<String[]> pendingTurn = new ArrayList<>();
+    int currentPlayerIndex = -1;
+    int recordCount = 0;
+    int turns = 0;
+    int lineNumber = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+
+        String[] fields = line.split(",", 3);
+        if (!"T".equals(fields[0])) {
+          pendingTurn.add(fields);
+          continue;
+        }
+
+        for (String[] record : pendingTurn) {
+          int index = applyRecord(record, game, file, lineNumber);
+          if (index >= 0) {
+            currentPlayerIndex = index;
+          }
+        }
+        recordCount += pendingTurn.size() + 1;
+        pendingTurn.clear();
+        turns++;
+      }
+    } catch (IOException e) {
+      throw FileExceptionUtil.wrapReadException(file.toString(), e);
+    }
+
+    if (!pendingTurn.isEmpty()) {
+      LOGGER.log(Level.WARNING, "Ignoring {0} records of an incomplete turn in {1}",
+          new Object[]{pendingTurn.size(), file});
+    }
+    return new ReplayResult(currentPlayerIndex, recordCount, turns);
+  }
+
+  /**
+   * Applies a single record to a game.
+   *
+   * @param fields The fields of the record.
+   * @param game The game.
+   * @param file The journal file, for error messages.
+   * @param lineNumber The line number of the turn marker, for error messages.
+   * @return The index of the current player if the record sets it, otherwise -1.
+   */
+  private static int applyRecord(String[] fields, BoardGame game, Path file, int lineNumber) {
+    try {
+      Player player = game.getPlayers().get(Integer.parseInt(fields[1].trim()));
+      switch (fields[0]) {
+        case "P" -> {
+          String[] values = fields[2].split(",");
+          Tile tile = game.getBoard().getTile(Integer.parseInt(values[0]));
+          if (tile != null) {
+            player.placeOnTile(tile);
+          }
+          player.setMoney(Integer.parseInt(values[1]));
+          int flags = Integer.parseInt(values[2]) & Player.PERSISTED_STATUS_FLAGS;
+          player.setStatusFlags(
+              (player.getStatusFlags() & ~Player.PERSISTED_STATUS_FLAGS) | flags);
+          player.setJailTurnCount(Integer.parseInt(values[3]));
+        }
+        case "O" -> BoardGameFactory.addPropertyToPlayer(game, player, fields[2]);
+        case "B" -> {
+          if (!player.isBankrupt()) {
+            player.declareBankrupt();
+          }
+        }
+        case "C" -> {
+          return game.getPlayers().indexOf(player);
+        }
+        default -> throw new IllegalArgumentException("Unknown record type " + fields[0]);
+      }
+      return -1;
+    } catch (RuntimeException e) {
+      throw FileExceptionUtil.createDataFormatException(file.toString(), lineNumber,
+          "Invalid journal record: " + String.join(",", fields));
+    }
+  }
+
+  /**
+   * Checks whether the journal has grown large enough that the next save should write a new
+   * snapshot instead.
+   *
+   * @return True if the journal should be compacted.
+   */
+  public boolean needsCompaction() {
+    return recordCount >= COMPACTION_THRESHOLD;
+  }
+
+  /**
+   * Gets the journal file.
+   *
+   * @return The path of the journal file, or null if the journal is not bound to a file yet.
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Gets the number of records in the journal.
+   *
+   * @return The number of records.
+   */
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Appends the finished turn when the current player changes, so the journal is up to date
+   * even if the game is never saved manually again. The game is only weakly referenced, as the
+   * factory keeps its journals in a map weakly keyed by game.
+   *
+   * @param player The new current player.
+   */
+  @Override
+  public void onCurrentPlayerChanged(Player player) {
+    BoardGame game = followedGame.get();
+    if (game == null) {
+      return;
+    }
+
+    try {
+      appendTurn(game);
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Failed to append turn to journal " + file, e);
+    }
+  }
+
+  @Override
+  public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
+  }
+
+  @Override
+  public void onGameWon(Player player) {
+  }
+
+  @Override
+  public void onPlayerSkipTurn(Player player) {
+  }
+
+  @Override
+  public void onPlayerBankrupt(Player player) {
+  }
+
+  /**
+   * The result of replaying a journal.
+   *
+   * @param currentPlayerIndex The index of the current player set by the journal, or -1.
+   * @param recordCount The number of records in the complete turns.
+   * @param turns The number of complete turns replayed.
+   */
+  public record ReplayResult(int currentPlayerIndex, int recordCount, int turns) {
+  }
+}
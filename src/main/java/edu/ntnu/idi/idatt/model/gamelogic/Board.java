@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.model.gamelogic;
 
+import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.BackToStartAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.LadderAction;
 import edu.ntnu.idi.idatt.model.actions.laddergame.WaitAction;
@@ -11,8 +12,14 @@ import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.StartTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.TaxTileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.WealthTaxTileAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <h1>Board Class</h1>
@@ -34,6 +41,11 @@ import java.util.Map;
  */
 public class Board {
   private final Map<Integer, Tile> tiles = new HashMap<>();
+  private final Map<String, Integer> propertyTypeCounts = new HashMap<>();
+  private final Map<String, int[]> nextTileOfKind = new HashMap<>();
+  private final Map<String, int[]> nearestTileOfKind = new HashMap<>();
+  private final Map<String, Integer> propertyTileIds = new HashMap<>();
+  private boolean indexed = false;
 
   /**
    * Adds a tile to the board.
@@ -42,6 +54,366 @@ public class Board {
    */
   public void addTile(Tile tile) {
     tiles.put(tile.getTileId(), tile);
+    tile.setBoard(this);
+    invalidateIndex();
+  }
+
+  /**
+   * Gets a tile read from a board or save file, extending the board if the tile lies beyond its
+   * layout. A new tile is inserted on the path after the tile with the previous ID, so files
+   * listing tiles in ascending order can extend a board by any number of tiles.
+   *
+   * @param tileId The ID of the tile.
+   * @return The tile, or null if the board has neither the tile nor the one before it.
+   */
+  public Tile getOrAppendTile(int tileId) {
+    Tile tile = tiles.get(tileId);
+    Tile previous = tile == null ? tiles.get(tileId - 1) : null;
+    if (previous != null) {
+      tile = new Tile(tileId);
+      addTile(tile);
+      tile.setNextTile(previous.getNextTile());
+      previous.setNextTile(tile);
+    }
+    return tile;
+  }
+
+  /**
+   * Marks the precomputed tile index as outdated. Called whenever a tile is added or a tile
+   * action changes, so the index is rebuilt on the next lookup.
+   */
+  void invalidateIndex() {
+    indexed = false;
+  }
+
+  /**
+   * Rebuilds the precomputed tile index. Counts the number of properties of each type, maps
+   * property names to their tiles, and for every tile finds the next and the nearest tile of each
+   * kind by following the board path. Lookups in the index are constant time.
+   *
+   * <p>The boards of the game are paths and rings, which are indexed with one backward and one
+   * forward pass per tile kind, going around a ring twice so lookups wrap past its first tile.
+   * Boards where several tiles lead to the same tile are indexed by walking the path from every
+   * tile instead.</p>
+   */
+  public void buildIndex() {
+    propertyTypeCounts.clear();
+    nextTileOfKind.clear();
+    nearestTileOfKind.clear();
+    propertyTileIds.clear();
+
+    Set<String> kinds = new HashSet<>();
+    int maxTileId = 0;
+    for (Tile tile : tiles.values()) {
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+
+      String kind = getTileKind(tile);
+      if (kind != null) {
+        kinds.add(kind);
+      }
+
+      if (tile.getAction() instanceof PropertyTileAction propertyAction) {
+        propertyTypeCounts.merge(propertyAction.getPropertyType(), 1, Integer::sum);
+        propertyTileIds.putIfAbsent(propertyAction.getPropertyName(), tile.getTileId());
+      }
+    }
+
+    int arraySize = maxTileId + 1;
+    Map<String, int[]> nextDistances = new HashMap<>();
+    Map<String, int[]> previousTiles = new HashMap<>();
+    Map<String, int[]> previousDistances = new HashMap<>();
+    for (String kind : kinds) {
+      nextTileOfKind.put(kind, new int[arraySize]);
+      nextDistances.put(kind, new int[arraySize]);
+      previousTiles.put(kind, new int[arraySize]);
+      previousDistances.put(kind, new int[arraySize]);
+    }
+
+    List<List<Tile>> segments = traceSegments(arraySize);
+    if (segments != null) {
+      for (List<Tile> segment : segments) {
+        indexSegment(segment, kinds, nextDistances, previousTiles, previousDistances);
+      }
+    } else {
+      indexByWalking(nextDistances, previousTiles, previousDistances);
+    }
+
+    for (String kind : kinds) {
+      int[] next = nextTileOfKind.get(kind);
+      int[] nextDistance = nextDistances.get(kind);
+      int[] previous = previousTiles.get(kind);
+      int[] previousDistance = previousDistances.get(kind);
+      int[] nearest = new int[arraySize];
+
+      for (int tileId = 1; tileId < arraySize; tileId++) {
+        if (next[tileId] != 0
+            && (previous[tileId] == 0 || nextDistance[tileId] <= previousDistance[tileId])) {
+          nearest[tileId] = next[tileId];
+        } else {
+          nearest[tileId] = previous[tileId];
+        }
+      }
+
+      nearestTileOfKind.put(kind, nearest);
+    }
+
+    indexed = true;
+  }
+
+  /**
+   * Splits the board into paths and rings of tiles in path order. Paths start at the tiles no
+   * other tile leads to; the tiles left over lie on rings.
+   *
+   * @param arraySize One more than the highest tile ID.
+   * @return The paths and rings, or null if several tiles lead to the same tile or a tile leads
+   *     off the board.
+   */
+  private List<List<Tile>> traceSegments(int arraySize) {
+    int[] incoming = new int[arraySize];
+    for (Tile tile : tiles.values()) {
+      Tile next = tile.getNextTile();
+      if (next != null && (next.getTileId() >= arraySize || tiles.get(next.getTileId()) != next
+          || ++incoming[next.getTileId()] > 1)) {
+        return null;
+      }
+    }
+
+    boolean[] visited = new boolean[arraySize];
+    List<List<Tile>> segments = new ArrayList<>();
+    for (Tile tile : tiles.values()) {
+      if (incoming[tile.getTileId()] == 0) {
+        segments.add(followPath(tile, visited));
+      }
+    }
+    for (Tile tile : tiles.values()) {
+      if (!visited[tile.getTileId()]) {
+        segments.add(followPath(tile, visited));
+      }
+    }
+    return segments;
+  }
+
+  /**
+   * Follows the board path from a tile until it ends or reaches a tile already visited.
+   *
+   * @param first The tile to start from.
+   * @param visited The tiles already visited, updated with the tiles followed.
+   * @return The tiles followed, in path order.
+   */
+  private static List<Tile> followPath(Tile first, boolean[] visited) {
+    List<Tile> segment = new ArrayList<>();
+    for (Tile tile = first; tile != null && !visited[tile.getTileId()];
+        tile = tile.getNextTile()) {
+      visited[tile.getTileId()] = true;
+      segment.add(tile);
+    }
+    return segment;
+  }
+
+  /**
+   * Indexes the next and previous tile of each kind on a path or ring. A backward pass carries
+   * the closest tile of the kind ahead, and a forward pass the closest tile of the kind behind.
+   * On a ring both passes go around twice, and a tile is never its own next or previous tile.
+   *
+   * @param segment The tiles of the path or ring, in path order.
+   * @param kinds The tile kinds on the board.
+   * @param nextDistances The distances to the next tile of each kind, filled in.
+   * @param previousTiles The previous tile of each kind, filled in.
+   * @param previousDistances The distances to the previous tile of each kind, filled in.
+   */
+  private void indexSegment(List<Tile> segment, Set<String> kinds,
+      Map<String, int[]> nextDistances, Map<String, int[]> previousTiles,
+      Map<String, int[]> previousDistances) {
+    int size = segment.size();
+    boolean ring = segment.getLast().getNextTile() == segment.getFirst();
+    int length = ring ? 2 * size : size;
+    String[] segmentKinds = new String[size];
+    for (int i = 0; i < size; i++) {
+      segmentKinds[i] = getTileKind(segment.get(i));
+    }
+
+    for (String kind : kinds) {
+      int[] next = nextTileOfKind.get(kind);
+      int[] nextDistance = nextDistances.get(kind);
+      int found = 0;
+      int foundAt = 0;
+      for (int i = length - 1; i >= 0; i--) {
+        int tileId = segment.get(i % size).getTileId();
+        if (i < size && found != 0 && found != tileId) {
+          next[tileId] = found;
+          nextDistance[tileId] = foundAt - i;
+        }
+        if (kind.equals(segmentKinds[i % size])) {
+          found = tileId;
+          foundAt = i;
+        }
+      }
+
+      int[] previous = previousTiles.get(kind);
+      int[] previousDistance = previousDistances.get(kind);
+      found = 0;
+      for (int i = 0; i < length; i++) {
+        int tileId = segment.get(i % size).getTileId();
+        if (i >= length - size && found != 0 && found != tileId) {
+          previous[tileId] = found;
+          previousDistance[tileId] = i - foundAt;
+        }
+        if (kind.equals(segmentKinds[i % size])) {
+          found = tileId;
+          foundAt = i;
+        }
+      }
+    }
+  }
+
+  /**
+   * Indexes the next and previous tile of each kind by walking the board path from every tile.
+   * Only used for boards where several tiles lead to the same tile.
+   *
+   * @param nextDistances The distances to the next tile of each kind, filled in.
+   * @param previousTiles The previous tile of each kind, filled in.
+   * @param previousDistances The distances to the previous tile of each kind, filled in.
+   */
+  private void indexByWalking(Map<String, int[]> nextDistances, Map<String, int[]> previousTiles,
+      Map<String, int[]> previousDistances) {
+    for (Tile start : tiles.values()) {
+      String startKind = getTileKind(start);
+      Tile current = start.getNextTile();
+      int distance = 1;
+
+      while (current != null && current != start && distance <= tiles.size()) {
+        String kind = getTileKind(current);
+        if (kind != null) {
+          int[] next = nextTileOfKind.get(kind);
+          if (next[start.getTileId()] == 0) {
+            next[start.getTileId()] = current.getTileId();
+            nextDistances.get(kind)[start.getTileId()] = distance;
+          }
+        }
+
+        if (startKind != null) {
+          int[] previous = previousTiles.get(startKind);
+          int[] previousDistance = previousDistances.get(startKind);
+          int tileId = current.getTileId();
+          if (previous[tileId] == 0 || distance < previousDistance[tileId]) {
+            previous[tileId] = start.getTileId();
+            previousDistance[tileId] = distance;
+          }
+        }
+
+        current = current.getNextTile();
+        distance++;
+      }
+    }
+  }
+
+  /**
+   * Determines the kind of tile used as key in the tile index. Property tiles are identified by
+   * their property type (e.g. "blue" or "landmark"), while other action tiles use the same action
+   * type names as the board save files (e.g. "start", "jail" or "chance").
+   *
+   * @param tile The tile to get the kind of.
+   * @return The kind of the tile, or null if the tile has no action.
+   */
+  private static String getTileKind(Tile tile) {
+    TileAction action = tile.getAction();
+    if (action instanceof PropertyTileAction propertyAction) {
+      return propertyAction.getPropertyType();
+    } else if (action instanceof StartTileAction) {
+      return "start";
+    } else if (action instanceof JailTileAction) {
+      return "jail";
+    } else if (action instanceof FreeParkingAction) {
+      return "freeParking";
+    } else if (action instanceof GoToJailAction) {
+      return "goToJail";
+    } else if (action instanceof TaxTileAction) {
+      return "tax";
+    } else if (action instanceof WealthTaxTileAction) {
+      return "wealthTax";
+    } else if (action instanceof ChanceTileAction) {
+      return "chance";
+    } else if (action instanceof LadderAction) {
+      return "ladder";
+    } else if (action instanceof WaitAction) {
+      return "wait";
+    } else if (action instanceof BackToStartAction) {
+      return "backToStart";
+    }
+    return null;
+  }
+
+  /**
+   * Gets the total number of properties of a specific type on this board.
+   *
+   * @param propertyType The property type (color or landmark).
+   * @return The number of properties of the type, or 0 if the board has none.
+   */
+  public int getPropertyTypeCount(String propertyType) {
+    if (!indexed) {
+      buildIndex();
+    }
+    return propertyTypeCounts.getOrDefault(propertyType, 0);
+  }
+
+  /**
+   * Finds a property on this board by its name.
+   *
+   * @param propertyName The name of the property.
+   * @return The property, or null if the board has no property with the name.
+   */
+  public PropertyTileAction getPropertyByName(String propertyName) {
+    if (!indexed) {
+      buildIndex();
+    }
+
+    Integer tileId = propertyTileIds.get(propertyName);
+    Tile tile = tileId != null ? tiles.get(tileId) : null;
+    return tile != null && tile.getAction() instanceof PropertyTileAction propertyAction
+        ? propertyAction : null;
+  }
+
+  /**
+   * Gets the first tile of a specific kind reached by moving forward from a tile.
+   *
+   * @param tileId The ID of the tile to start from.
+   * @param kind The kind of tile to look for, see {@link #buildIndex()}.
+   * @return The next tile of the kind, or null if no such tile can be reached.
+   */
+  public Tile getNextTileOfKind(int tileId, String kind) {
+    return lookupTileOfKind(nextTileOfKind, tileId, kind);
+  }
+
+  /**
+   * Gets the closest tile of a specific kind from a tile, either forward or backward along the
+   * board path. Ties are resolved in favour of the tile ahead.
+   *
+   * @param tileId The ID of the tile to start from.
+   * @param kind The kind of tile to look for, see {@link #buildIndex()}.
+   * @return The nearest tile of the kind, or null if the board has no such tile.
+   */
+  public Tile getNearestTileOfKind(int tileId, String kind) {
+    return lookupTileOfKind(nearestTileOfKind, tileId, kind);
+  }
+
+  /**
+   * Looks up a tile in one of the precomputed tile kind tables.
+   *
+   * @param table The table to look in.
+   * @param tileId The ID of the tile to start from.
+   * @param kind The kind of tile to look for.
+   * @return The tile found in the table, or null if there is none.
+   */
+  private Tile lookupTileOfKind(Map<String, int[]> table, int tileId, String kind) {
+    if (!indexed) {
+      buildIndex();
+    }
+
+    int[] tileIds = table.get(kind);
+    if (tileIds == null || tileId < 0 || tileId >= tileIds.length || tileIds[tileId] == 0) {
+      return null;
+    }
+    return tiles.get(tileIds[tileId]);
   }
 
   /**
@@ -54,6 +426,37 @@ public class Board {
     return tiles.get(tileId);
   }
 
+  /**
+   * Gets all tiles on the board.
+   *
+   * @return An unmodifiable view of the tiles on the board.
+   */
+  public Collection<Tile> getTiles() {
+    return Collections.unmodifiableCollection(tiles.values());
+  }
+
+  /**
+   * Reuses the tile index of another board with the same layout instead of building a new one.
+   * The index tables are never modified after they are built, so they can safely be shared.
+   *
+   * @param source The board to share the index of.
+   */
+  void shareIndex(Board source) {
+    if (!source.indexed) {
+      source.buildIndex();
+    }
+
+    propertyTypeCounts.clear();
+    propertyTypeCounts.putAll(source.propertyTypeCounts);
+    nextTileOfKind.clear();
+    nextTileOfKind.putAll(source.nextTileOfKind);
+    nearestTileOfKind.clear();
+    nearestTileOfKind.putAll(source.nearestTileOfKind);
+    propertyTileIds.clear();
+    propertyTileIds.putAll(source.propertyTileIds);
+    indexed = true;
+  }
+
   /**
    * Sets up the common actions for all ladder game tiles.
    *
@@ -68,12 +471,12 @@ public class Board {
     board.getTile(89).setAction(new LadderAction(53, "down"));
 
 
-    board.getTile(37).setAction(new WaitAction());
-    board.getTile(54).setAction(new WaitAction());
-    board.getTile(71).setAction(new WaitAction());
+    board.getTile(37).setAction(WaitAction.INSTANCE);
+    board.getTile(54).setAction(WaitAction.INSTANCE);
+    board.getTile(71).setAction(WaitAction.INSTANCE);
 
-    board.getTile(10).setAction(new BackToStartAction());
-    board.getTile(81).setAction(new BackToStartAction());
+    board.getTile(10).setAction(BackToStartAction.INSTANCE);
+    board.getTile(81).setAction(BackToStartAction.INSTANCE);
   }
 
   /**
@@ -112,16 +515,16 @@ public class Board {
     board.getTile(46).setAction(new LadderAction(15, "down"));
     board.getTile(64).setAction(new LadderAction(24, "down"));
 
-    board.getTile(18).setAction(new WaitAction());
-    board.getTile(28).setAction(new WaitAction());
-    board.getTile(45).setAction(new WaitAction());
-    board.getTile(58).setAction(new WaitAction());
-    board.getTile(75).setAction(new WaitAction());
-    board.getTile(88).setAction(new WaitAction());
+    board.getTile(18).setAction(WaitAction.INSTANCE);
+    board.getTile(28).setAction(WaitAction.INSTANCE);
+    board.getTile(45).setAction(WaitAction.INSTANCE);
+    board.getTile(58).setAction(WaitAction.INSTANCE);
+    board.getTile(75).setAction(WaitAction.INSTANCE);
+    board.getTile(88).setAction(WaitAction.INSTANCE);
 
-    board.getTile(34).setAction(new BackToStartAction());
-    board.getTile(56).setAction(new BackToStartAction());
-    board.getTile(68).setAction(new BackToStartAction());
+    board.getTile(34).setAction(BackToStartAction.INSTANCE);
+    board.getTile(56).setAction(BackToStartAction.INSTANCE);
+    board.getTile(68).setAction(BackToStartAction.INSTANCE);
 
     setupCommonTileActions(board);
   }
@@ -148,16 +551,16 @@ public class Board {
     board.getTile(84).setAction(new LadderAction(65, "down"));
     board.getTile(87).setAction(new LadderAction(55, "down"));
 
-    board.getTile(18).setAction(new WaitAction());
-    board.getTile(28).setAction(new WaitAction());
-    board.getTile(45).setAction(new WaitAction());
-    board.getTile(58).setAction(new WaitAction());
-    board.getTile(75).setAction(new WaitAction());
-    board.getTile(88).setAction(new WaitAction());
+    board.getTile(18).setAction(WaitAction.INSTANCE);
+    board.getTile(28).setAction(WaitAction.INSTANCE);
+    board.getTile(45).setAction(WaitAction.INSTANCE);
+    board.getTile(58).setAction(WaitAction.INSTANCE);
+    board.getTile(75).setAction(WaitAction.INSTANCE);
+    board.getTile(88).setAction(WaitAction.INSTANCE);
 
-    board.getTile(34).setAction(new BackToStartAction());
-    board.getTile(56).setAction(new BackToStartAction());
-    board.getTile(68).setAction(new BackToStartAction());
+    board.getTile(34).setAction(BackToStartAction.INSTANCE);
+    board.getTile(56).setAction(BackToStartAction.INSTANCE);
+    board.getTile(68).setAction(BackToStartAction.INSTANCE);
 
     setupCommonTileActions(board);
   }
@@ -169,7 +572,7 @@ public class Board {
    */
   public static void setupTileActionsMonopolyGame(Board board) {
     //Start tile.
-    board.getTile(1).setAction(new StartTileAction());
+    board.getTile(1).setAction(StartTileAction.INSTANCE);
 
     //Property Tiles - Blue.
     board.getTile(2).setAction(new PropertyTileAction("Skolegata", 6000, "blue"));
@@ -215,20 +618,20 @@ public class Board {
     board.getTile(26).setAction(new PropertyTileAction("Kristiansen Festning", 20000, "landmark"));
     board.getTile(36).setAction(new PropertyTileAction("Gloshaugen", 20000, "landmark"));
 
-    board.getTile(3).setAction(new ChanceTileAction());
-    board.getTile(8).setAction(new ChanceTileAction());
-    board.getTile(13).setAction(new ChanceTileAction());
-    board.getTile(18).setAction(new ChanceTileAction());
-    board.getTile(23).setAction(new ChanceTileAction());
-    board.getTile(29).setAction(new ChanceTileAction());
-    board.getTile(34).setAction(new ChanceTileAction());
-    board.getTile(39).setAction(new ChanceTileAction());
+    board.getTile(3).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(8).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(13).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(18).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(23).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(29).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(34).setAction(ChanceTileAction.INSTANCE);
+    board.getTile(39).setAction(ChanceTileAction.INSTANCE);
 
     board.getTile(5).setAction(new TaxTileAction(10, 20000));
 
-    board.getTile(11).setAction(new JailTileAction());
+    board.getTile(11).setAction(JailTileAction.INSTANCE);
 
-    board.getTile(21).setAction(new FreeParkingAction());
+    board.getTile(21).setAction(FreeParkingAction.INSTANCE);
 
     board.getTile(31).setAction(new GoToJailAction(11));
 
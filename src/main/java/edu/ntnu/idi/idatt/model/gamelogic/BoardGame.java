@@ -2,8 +2,15 @@ package edu.ntnu.idi.idatt.model.gamelogic;
 
 import static edu.ntnu.idi.idatt.model.gamelogic.Board.setupTileActionsMonopolyGame;
 
+import edu.ntnu.idi.idatt.controllers.BoardGameController;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 
 /**
@@ -21,6 +28,8 @@ import java.util.List;
  *   <li>Supports Observer pattern for UI updates and game event notifications</li>
  *   <li>Provides game initialization, turn processing and win condition checking</li>
  *   <li>Manages special game conditions like bankruptcy and passing start</li>
+ *   <li>Keeps per-game state such as property ownership, so tile actions can be shared</li>
+ *   <li>Maintains a live leaderboard of the players' standings</li>
  * </ul>
  *
  * <h2>Observer implementation</h2>
@@ -28,21 +37,47 @@ import java.util.List;
  * <p>The class uses the Observer pattern to notify registered listeners about important
  *  game events such as player movements, turn skipping, player bankruptcy, and game completion.</p>
  *
+ * <p>Every event, including each change of a player's balance, is first recorded in the game's
+ *  {@link GameEventJournal}. The journal is the single source of the events: the game reads it
+ *  back to call the observers synchronously on the thread that changed the game, and to publish
+ *  the events as {@link GameEvent}s on the game's {@link GameEventBus}, for subscribers such as
+ *  the views that must not block the game engine. Other consumers read the journal at their own
+ *  pace.</p>
+ *
+ * <p>Observers can be registered strongly with {@link #addObserver} or weakly with
+ *  {@link #addWeakObserver}, and are removed with {@link #removeObserver}. The observer list is a
+ *  copy-on-write list, so observers may register or unregister while an event is delivered.</p>
+ *
  * @author Ola Syrstad Berg
  * @author Markus Øyen Lund
  * @since v1.1.0
  */
 public class BoardGame {
 
+  private static final Logger LOGGER = Logger.getLogger(BoardGame.class.getName());
+  private static final int DISPATCH_BATCH_SIZE = 64;
+
   private Board board;
   private Player currentPlayer;
   private final List<Player> players = new ArrayList<>();
   private Dice dice;
   private String variantName;
-  private final List<BoardGameObserver> observers = new ArrayList<>();
+  private final List<BoardGameObserver> observers = new CopyOnWriteArrayList<>();
   private int currentPlayerIndex;
+  private int turnNumber;
+  private String saveName;
   private boolean gameOver;
   private boolean isLoadedGame = false;
+  private BoardGameController controller;
+  private final Map<Integer, Player> propertyOwners = new HashMap<>();
+  private final MoneyLedger ledger = new MoneyLedger(this);
+  private final Leaderboard leaderboard = new Leaderboard();
+  private final GameEventBus eventBus = new GameEventBus();
+  private final GameEventJournal journal = new GameEventJournal(1024);
+  private final GameEventJournal.Cursor dispatchCursor = journal.newCursor();
+  private final GameEventJournal.EventReader dispatcher = this::deliverEvent;
+  private final List<Player> pendingMoneyChanges = new ArrayList<>();
+  private boolean dispatching;
 
   /**
    * The constructor for the BoardGame class.
@@ -62,9 +97,53 @@ public class BoardGame {
       throw new NullPointerException("Observer cannot be null");
     }
 
+    removeClearedObservers();
     observers.add(observer);
   }
 
+  /**
+   * Registers an observer that is only weakly referenced by the game. The observer is removed
+   * automatically once it is no longer reachable elsewhere, so a forgotten view cannot keep
+   * itself alive through the game.
+   *
+   * @param observer The observer to register.
+   */
+  public void addWeakObserver(BoardGameObserver observer) {
+    if (observer == null) {
+      throw new NullPointerException("Observer cannot be null");
+    }
+
+    removeClearedObservers();
+    observers.add(new WeakObserver(observer));
+  }
+
+  /**
+   * Removes an observer registered with {@link #addObserver} or {@link #addWeakObserver}.
+   *
+   * @param observer The observer to remove.
+   * @return True if the observer was registered.
+   */
+  public boolean removeObserver(BoardGameObserver observer) {
+    return observers.removeIf(registered -> registered == observer
+        || (registered instanceof WeakObserver weak && weak.refersTo(observer)));
+  }
+
+  /**
+   * Gets the number of registered observers, including weak observers not yet removed.
+   *
+   * @return The number of observers.
+   */
+  int getObserverCount() {
+    return observers.size();
+  }
+
+  /**
+   * Removes weak observers whose observer has been garbage collected.
+   */
+  private void removeClearedObservers() {
+    observers.removeIf(registered -> registered instanceof WeakObserver weak && weak.isCleared());
+  }
+
   /**
    * Notifies all observers when a player has moved.
    *
@@ -74,9 +153,8 @@ public class BoardGame {
    * @param diceValue The value rolled on the die.
    */
   public void notifyPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
-    for (BoardGameObserver observer : observers) {
-      observer.onPlayerMove(player, fromTileId, toTileId, diceValue);
-    }
+    journal.recordMove(players.indexOf(player), fromTileId, toTileId, diceValue);
+    dispatchEvents();
   }
 
   /**
@@ -85,9 +163,8 @@ public class BoardGame {
    * @param player The player that won the game.
    */
   public void notifyGameWon(Player player) {
-    for (BoardGameObserver observer : observers) {
-      observer.onGameWon(player);
-    }
+    journal.record(GameEventJournal.TYPE_GAME_WON, players.indexOf(player));
+    dispatchEvents();
   }
 
   /**
@@ -96,9 +173,8 @@ public class BoardGame {
    * @param player The player who skipped their turn.
    */
   public void notifyPlayerSkipTurn(Player player) {
-    for (BoardGameObserver observer : observers) {
-      observer.onPlayerSkipTurn(player);
-    }
+    journal.record(GameEventJournal.TYPE_SKIP_TURN, players.indexOf(player));
+    dispatchEvents();
   }
 
   /**
@@ -107,8 +183,140 @@ public class BoardGame {
    * @param player The new current player.
    */
   public void notifyCurrentPlayerChanged(Player player) {
+    journal.record(GameEventJournal.TYPE_CURRENT_PLAYER, players.indexOf(player));
+    dispatchEvents();
+  }
+
+  /**
+   * Notifies all observers once after the money of one or more players has changed.
+   *
+   * @param players The players whose money changed.
+   */
+  public void notifyMoneyChanged(List<Player> players) {
+    for (int i = 0; i < players.size(); i++) {
+      recordMoneyChange(players.get(i));
+    }
+    dispatchEvents();
+  }
+
+  /**
+   * Records that the balance of a player changed and notifies the observers.
+   *
+   * @param player The player whose money changed.
+   */
+  void moneyChanged(Player player) {
+    recordMoneyChange(player);
+    dispatchEvents();
+  }
+
+  /**
+   * Records that the balance of a player changed, without notifying the observers yet. Used by
+   * the ledger, which notifies once after a whole batch is settled.
+   *
+   * @param player The player whose money changed.
+   */
+  void recordMoneyChange(Player player) {
+    journal.recordMoney(players.indexOf(player), player.getMoney());
+  }
+
+  /**
+   * Delivers the events recorded in the journal since the last dispatch to the observers and the
+   * event bus. Consecutive money events are delivered as one money change. Events recorded by
+   * an observer while an event is delivered are delivered after it, by the same dispatch.
+   */
+  void dispatchEvents() {
+    if (dispatching) {
+      return;
+    }
+
+    dispatching = true;
+    try {
+      while (dispatchCursor.getPendingCount() > 0) {
+        dispatchCursor.poll(dispatcher, DISPATCH_BATCH_SIZE);
+      }
+      deliverMoneyChanges();
+    } finally {
+      dispatching = false;
+    }
+  }
+
+  /**
+   * Delivers a single journal event. Events of players that are not part of the game are
+   * skipped, and no event object is created while nobody is listening.
+   *
+   * @param sequence The sequence number of the event.
+   * @param type The event type.
+   * @param playerIndex The index of the player in the game.
+   * @param first The first value of the event.
+   * @param second The second value of the event.
+   * @param third The third value of the event.
+   */
+  private void deliverEvent(long sequence, int type, int playerIndex, int first, int second,
+      int third) {
+    if (playerIndex < 0 || playerIndex >= players.size()) {
+      return;
+    }
+
+    Player player = players.get(playerIndex);
+    if (type == GameEventJournal.TYPE_MONEY) {
+      if (!pendingMoneyChanges.contains(player)) {
+        pendingMoneyChanges.add(player);
+      }
+      return;
+    }
+
+    deliverMoneyChanges();
+    if (!hasListeners()) {
+      return;
+    }
+
+    GameEvent event = switch (type) {
+      case GameEventJournal.TYPE_MOVE -> new GameEvent.PlayerMoved(player, first, second, third);
+      case GameEventJournal.TYPE_SKIP_TURN -> new GameEvent.PlayerSkippedTurn(player);
+      case GameEventJournal.TYPE_BANKRUPT -> new GameEvent.PlayerBankrupt(player);
+      case GameEventJournal.TYPE_GAME_WON -> new GameEvent.GameWon(player);
+      case GameEventJournal.TYPE_CURRENT_PLAYER -> new GameEvent.CurrentPlayerChanged(player);
+      default -> null;
+    };
+    if (event != null) {
+      deliver(event);
+    }
+  }
+
+  /**
+   * Delivers the money events collected so far as one money change.
+   */
+  private void deliverMoneyChanges() {
+    if (pendingMoneyChanges.isEmpty()) {
+      return;
+    }
+
+    if (hasListeners()) {
+      deliver(new GameEvent.MoneyChanged(pendingMoneyChanges));
+    }
+    pendingMoneyChanges.clear();
+  }
+
+  /**
+   * Checks if any observer or event bus subscriber is registered.
+   *
+   * @return True if an event would be delivered to someone.
+   */
+  private boolean hasListeners() {
+    return !observers.isEmpty() || eventBus.hasSubscribers();
+  }
+
+  /**
+   * Delivers an event to the observers and publishes it on the event bus.
+   *
+   * @param event The event to deliver.
+   */
+  private void deliver(GameEvent event) {
     for (BoardGameObserver observer : observers) {
-      observer.onCurrentPlayerChanged(player);
+      event.deliverTo(observer);
+    }
+    if (eventBus.hasSubscribers()) {
+      eventBus.publish(event);
     }
   }
 
@@ -122,6 +330,17 @@ public class BoardGame {
       throw new NullPointerException("Player cannot be null.");
     }
     players.add(player);
+    leaderboard.add(player);
+  }
+
+  /**
+   * Updates the place of a player on the leaderboard after their money, properties or position
+   * changed.
+   *
+   * @param player The player whose standing changed.
+   */
+  void updateStanding(Player player) {
+    leaderboard.update(player);
   }
 
   /**
@@ -168,7 +387,7 @@ public class BoardGame {
           Board.setupTileActionsLadderGameExtreme(board);
           break;
         default:
-          System.out.println("Unknown game variant: " + variantName);
+          LOGGER.log(Level.WARNING, () -> "Unknown game variant: " + variantName);
       }
     }
   }
@@ -194,6 +413,7 @@ public class BoardGame {
       }
     }
     setupTileActionsMonopolyGame(board);
+    leaderboard.setRanking(Leaderboard.Ranking.NET_WORTH);
   }
 
   /**
@@ -241,6 +461,7 @@ public class BoardGame {
     }
 
     if (!isLoadedGame) {
+      turnNumber = 0;
       for (Player player : players) {
         player.placeOnTile(board.getTile(1));
       }
@@ -259,13 +480,13 @@ public class BoardGame {
    */
   public void initializeGameWithCurrentPlayer(int playerIndex) {
     if (playerIndex < 0 || playerIndex >= players.size()) {
-      System.out.println("Invalid player index: " + playerIndex
+      LOGGER.log(Level.WARNING, () -> "Invalid player index: " + playerIndex
           + ", defaulting to regular initialization");
       initializeGame();
       return;
     }
 
-    System.out.println("Initializing game with player at index "
+    LOGGER.log(Level.INFO, () -> "Initializing game with player at index "
         + playerIndex + " as current player.");
     gameOver = false;
     currentPlayerIndex = playerIndex;
@@ -289,7 +510,7 @@ public class BoardGame {
     }
 
     if (currentPlayer.willWaitTurn()) {
-      System.out.println(currentPlayer.getName() + " will skip their turn");
+      LOGGER.log(Level.INFO, () -> currentPlayer.getName() + " will skip their turn");
       notifyPlayerSkipTurn(currentPlayer);
       currentPlayer.setWaitTurn(false);
       return;
@@ -297,7 +518,7 @@ public class BoardGame {
 
     int steps = dice.roll();
     int fromTileId = currentPlayer.getCurrentTile().getTileId();
-    System.out.println(currentPlayer.getName() + " rolled " + steps);
+    LOGGER.log(Level.INFO, () -> currentPlayer.getName() + " rolled " + steps);
 
     movePlayer(currentPlayer, steps, fromTileId);
   }
@@ -312,7 +533,7 @@ public class BoardGame {
   private void checkPassedStart(Player player, int fromTileId, int toTileId) {
     if (fromTileId > toTileId && toTileId != 1) {
       player.addMoney(20000);
-      System.out.println(player.getName() + " passed start and received 20000");
+      LOGGER.log(Level.INFO, () -> player.getName() + " passed start and received 20000");
     }
   }
 
@@ -337,9 +558,8 @@ public class BoardGame {
    * @param player The player who went bankrupt.
    */
   public void notifyPlayerBankrupt(Player player) {
-    for (BoardGameObserver observer : observers) {
-      observer.onPlayerBankrupt(player);
-    }
+    journal.record(GameEventJournal.TYPE_BANKRUPT, players.indexOf(player));
+    dispatchEvents();
   }
 
   /**
@@ -389,7 +609,9 @@ public class BoardGame {
 
     notifyPlayerMove(player, fromTileId, toTileId, steps);
 
-    System.out.println(player.getName() + " is now on tile " + toTileId);
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(Level.FINE, player.getName() + " is now on tile " + toTileId);
+    }
 
     if (getWinner() != null) {
       gameOver = true;
@@ -440,6 +662,7 @@ public class BoardGame {
     if (!players.get(currentPlayerIndex).isBankrupt()) {
       currentPlayer = players.get(currentPlayerIndex);
     }
+    turnNumber++;
 
     if (previousPlayer != currentPlayer) {
       notifyCurrentPlayerChanged(currentPlayer);
@@ -458,7 +681,8 @@ public class BoardGame {
     initializeGame();
 
     while (getWinner() == null) {
-      System.out.println("Round " + roundNumber);
+      int round = roundNumber;
+      LOGGER.log(Level.INFO, () -> "Round " + round);
 
       for (int i = 0; i < players.size() && !gameOver; i++) {
         processTurn();
@@ -472,6 +696,46 @@ public class BoardGame {
     }
   }
 
+  /**
+   * Gets the number of turns finished in the game, counted across saves.
+   *
+   * @return The turn number.
+   */
+  public int getTurnNumber() {
+    return turnNumber;
+  }
+
+  /**
+   * Sets the number of turns finished in the game, used when a saved game is restored.
+   *
+   * @param turnNumber The turn number.
+   * @throws IllegalArgumentException If the turn number is negative.
+   */
+  public void setTurnNumber(int turnNumber) {
+    if (turnNumber < 0) {
+      throw new IllegalArgumentException("Turn number cannot be negative");
+    }
+    this.turnNumber = turnNumber;
+  }
+
+  /**
+   * Gets the name of the save the game was loaded from or last saved to.
+   *
+   * @return The save name, or null if the game has not been saved.
+   */
+  public String getSaveName() {
+    return saveName;
+  }
+
+  /**
+   * Sets the name of the save the game was loaded from or last saved to.
+   *
+   * @param saveName The save name.
+   */
+  public void setSaveName(String saveName) {
+    this.saveName = saveName;
+  }
+
   /**
    * Checks whether the initialized game is a loaded game.
    *
@@ -519,6 +783,105 @@ public class BoardGame {
     return board;
   }
 
+  /**
+   * Sets the controller of this game. Tile actions are shared between games, so they look up
+   * the controller of the game the player belongs to instead of storing it themselves.
+   *
+   * @param controller The controller of the game.
+   */
+  public void setController(BoardGameController controller) {
+    this.controller = controller;
+  }
+
+  /**
+   * Gets the controller of this game.
+   *
+   * @return The controller, or null if the game is not attached to a controller.
+   */
+  public BoardGameController getController() {
+    return controller;
+  }
+
+  /**
+   * Gets the money ledger used to settle transfers between the players of this game.
+   *
+   * @return The ledger.
+   */
+  public MoneyLedger getLedger() {
+    return ledger;
+  }
+
+  /**
+   * Gets the journal recording the events of this game for consumers reading at their own pace.
+   *
+   * @return The event journal.
+   */
+  public GameEventJournal getJournal() {
+    return journal;
+  }
+
+  /**
+   * Gets the event bus that publishes the events of this game to asynchronous subscribers.
+   *
+   * @return The event bus.
+   */
+  public GameEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * Gets the leaderboard ranking the players of this game by their standing.
+   *
+   * @return The leaderboard.
+   */
+  public Leaderboard getLeaderboard() {
+    return leaderboard;
+  }
+
+  /**
+   * Gets the owner of the property on a tile in this game.
+   *
+   * @param tileId The ID of the property tile.
+   * @return The owner of the property, or null if the property is unowned.
+   */
+  public Player getPropertyOwner(int tileId) {
+    return propertyOwners.get(tileId);
+  }
+
+  /**
+   * Sets the owner of the property on a tile in this game.
+   *
+   * @param tileId The ID of the property tile.
+   * @param owner The new owner, or null to release the property.
+   */
+  public void setPropertyOwner(int tileId, Player owner) {
+    if (owner == null) {
+      propertyOwners.remove(tileId);
+    } else {
+      propertyOwners.put(tileId, owner);
+    }
+  }
+
+  /**
+   * Sets the board of the game, used when the board is created from a board template.
+   *
+   * @param board The board to use.
+   */
+  public void setBoard(Board board) {
+    this.board = board;
+  }
+
+  /**
+   * Checks if a variant name refers to the Monopoly game. The display name "Monopoly Game" and
+   * the identifier "monopolyGame" are both in use for it.
+   *
+   * @param variantName The variant name, may be null.
+   * @return True if the variant is the Monopoly game.
+   */
+  public static boolean isMonopolyVariant(String variantName) {
+    return "Monopoly Game".equals(variantName) || "monopolyGame".equals(variantName);
+  }
+
   /**
    * Retrieves the name of the game variant currently in use.
    *
@@ -535,5 +898,90 @@ public class BoardGame {
    */
   public void setVariantName(String variantName) {
     this.variantName = variantName;
+    leaderboard.setRanking(isMonopolyVariant(variantName)
+        ? Leaderboard.Ranking.NET_WORTH : Leaderboard.Ranking.BOARD_POSITION);
+  }
+
+  /**
+   * <h2>Weak Observer</h2>
+   *
+   * <p>Forwards events to a weakly referenced observer, and unregisters itself from the game the
+   * first time an event arrives after the observer has been garbage collected.</p>
+   */
+  private final class WeakObserver implements BoardGameObserver {
+    private final WeakReference<BoardGameObserver> reference;
+
+    private WeakObserver(BoardGameObserver observer) {
+      this.reference = new WeakReference<>(observer);
+    }
+
+    private boolean refersTo(BoardGameObserver observer) {
+      return reference.refersTo(observer);
+    }
+
+    private boolean isCleared() {
+      return reference.refersTo(null);
+    }
+
+    /**
+     * Gets the observer, unregistering this wrapper if it has been garbage collected.
+     *
+     * @return The observer, or null if it has been garbage collected.
+     */
+    private BoardGameObserver target() {
+      BoardGameObserver observer = reference.get();
+      if (observer == null) {
+        observers.remove(this);
+      }
+      return observer;
+    }
+
+    @Override
+    public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onPlayerMove(player, fromTileId, toTileId, diceValue);
+      }
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onGameWon(player);
+      }
+    }
+
+    @Override
+    public void onPlayerSkipTurn(Player player) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onPlayerSkipTurn(player);
+      }
+    }
+
+    @Override
+    public void onCurrentPlayerChanged(Player player) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onCurrentPlayerChanged(player);
+      }
+    }
+
+    @Override
+    public void onPlayerBankrupt(Player player) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onPlayerBankrupt(player);
+      }
+    }
+
+    @Override
+    public void onMoneyChanged(List<Player> players) {
+      BoardGameObserver observer = target();
+      if (observer != null) {
+        observer.onMoneyChanged(players);
+      }
+    }
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package edu.ntnu.idi.idatt.model.gamelogic;
 
+import java.util.List;
+
 /**
  * <h1>Board Game Observer Interface</h1>
  *
@@ -14,6 +16,7 @@ package edu.ntnu.idi.idatt.model.gamelogic;
  *   <li>Turn skip: Triggered when a player must skip their turn</li>
  *   <li>Player change: Triggered when the active player changes</li>
  *   <li>Player bankruptcy: Triggered when a player goes bankrupt</li>
+ *   <li>Money change: Triggered once when a batch of money transfers is settled</li>
  * </ul>
  *
  * @author Ola Syrstad Berg
@@ -58,5 +61,13 @@ public interface BoardGameObserver {
    * @param player The player who went bankrupt.
    */
   void onPlayerBankrupt(Player player);
+
+  /**
+   * Called once after a batch of money transfers has been settled.
+   *
+   * @param players The players whose money changed.
+   */
+  default void onMoneyChanged(List<Player> players) {
+  }
 }
 
@@ -0,0 +1,140 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+/**
+ * <h1>Board Template</h1>
+ *
+ * <p>An immutable, compiled description of a game board. A template is compiled once per game
+ * variant or board file, and new games are created from it without rebuilding the board layout,
+ * the tile actions or the tile index.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Keeps a private prototype board that is never handed out to a game</li>
+ *   <li>Shares the stateless tile actions between all games created from the template</li>
+ *   <li>Allocates only the tiles, as per-game state such as ownership is kept in the game</li>
+ *   <li>Shares the precomputed tile index between all boards created from the template</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public final class BoardTemplate {
+  private final String variantName;
+  private final Board prototype;
+
+  /**
+   * Constructs a template from a prototype board.
+   *
+   * @param variantName The name of the game variant.
+   * @param prototype The prototype board, owned by the template.
+   */
+  private BoardTemplate(String variantName, Board prototype) {
+    this.variantName = variantName;
+    this.prototype = prototype;
+  }
+
+  /**
+   * Compiles a template from the board of a board game. The board is copied, so later changes
+   * to the given game do not affect the template.
+   *
+   * @param boardGame The board game to compile the template from.
+   * @return The compiled template.
+   * @throws IllegalArgumentException If the board game or its board is null.
+   */
+  public static BoardTemplate compile(BoardGame boardGame) {
+    if (boardGame == null || boardGame.getBoard() == null) {
+      throw new IllegalArgumentException("Cannot compile a template without a board");
+    }
+
+    Board prototype = copyBoard(boardGame.getBoard());
+    prototype.buildIndex();
+    return new BoardTemplate(boardGame.getVariantName(), prototype);
+  }
+
+  /**
+   * Creates a new board game from the template, with its own board and dice.
+   *
+   * @return A configured board game.
+   */
+  public BoardGame createBoardGame() {
+    BoardGame boardGame = new BoardGame();
+    boardGame.setVariantName(variantName);
+    boardGame.setBoard(createBoard());
+    boardGame.createDice();
+    return boardGame;
+  }
+
+  /**
+   * Creates a new board from the template, sharing the tile index of the prototype.
+   *
+   * @return The new board.
+   */
+  public Board createBoard() {
+    Board board = copyBoard(prototype);
+    board.shareIndex(prototype);
+    return board;
+  }
+
+  /**
+   * Checks whether a board has the layout of the template, with the same tiles, tile links and
+   * tile actions. Boards created from the template share its actions, so the check compares
+   * actions by identity and allocates nothing.
+   *
+   * @param board The board to check.
+   * @return True if the board has the layout of the template.
+   */
+  public boolean matches(Board board) {
+    if (board == null || board.getTiles().size() != prototype.getTiles().size()) {
+      return false;
+    }
+
+    for (Tile tile : prototype.getTiles()) {
+      Tile other = board.getTile(tile.getTileId());
+      if (other == null || other.getAction() != tile.getAction()) {
+        return false;
+      }
+
+      Tile next = tile.getNextTile();
+      Tile otherNext = other.getNextTile();
+      if (next == null ? otherNext != null
+          : otherNext == null || next.getTileId() != otherNext.getTileId()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the name of the game variant the template was compiled from.
+   *
+   * @return The variant name.
+   */
+  public String getVariantName() {
+    return variantName;
+  }
+
+  /**
+   * Copies the tiles and tile links of a board into a new board. Tile actions are stateless,
+   * so the new tiles share the actions of the source board.
+   *
+   * @param source The board to copy.
+   * @return The new board.
+   */
+  private static Board copyBoard(Board source) {
+    Board board = new Board();
+    for (Tile tile : source.getTiles()) {
+      board.addTile(new Tile(tile.getTileId()));
+    }
+
+    for (Tile tile : source.getTiles()) {
+      Tile copy = board.getTile(tile.getTileId());
+      if (tile.getNextTile() != null) {
+        copy.setNextTile(board.getTile(tile.getNextTile().getTileId()));
+      }
+      if (tile.getAction() != null) {
+        copy.setAction(tile.getAction());
+      }
+    }
+    return board;
+  }
+}
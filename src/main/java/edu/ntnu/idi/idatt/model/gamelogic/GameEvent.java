@@ -0,0 +1,119 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.util.List;
+
+/**
+ * <h1>Game Event</h1>
+ *
+ * <p>An immutable record of something that happened in a board game. Game events are published
+ * on the game's {@link GameEventBus} and mirror the callbacks of {@link BoardGameObserver}, so
+ * a batch of events can be replayed on an observer.</p>
+ *
+ * <h2>Event types</h2>
+ * <ul>
+ *   <li>{@link PlayerMoved}: A player moved from one tile to another</li>
+ *   <li>{@link GameWon}: A player won the game</li>
+ *   <li>{@link PlayerSkippedTurn}: A player must skip their turn</li>
+ *   <li>{@link CurrentPlayerChanged}: The active player changed</li>
+ *   <li>{@link PlayerBankrupt}: A player went bankrupt</li>
+ *   <li>{@link MoneyChanged}: The money of one or more players changed</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public sealed interface GameEvent {
+
+  /**
+   * Delivers the event to the matching callback of an observer.
+   *
+   * @param observer The observer to deliver the event to.
+   */
+  void deliverTo(BoardGameObserver observer);
+
+  /**
+   * A player moved to a new tile.
+   *
+   * @param player The player that moved.
+   * @param fromTileId The ID of the tile the player moved from.
+   * @param toTileId The ID of the tile the player moved to.
+   * @param diceValue The value rolled on the die, or 0 if the move was caused by an action.
+   */
+  record PlayerMoved(Player player, int fromTileId, int toTileId, int diceValue)
+      implements GameEvent {
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onPlayerMove(player, fromTileId, toTileId, diceValue);
+    }
+  }
+
+  /**
+   * A player won the game.
+   *
+   * @param player The winning player.
+   */
+  record GameWon(Player player) implements GameEvent {
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onGameWon(player);
+    }
+  }
+
+  /**
+   * A player must skip their turn.
+   *
+   * @param player The player that must skip their turn.
+   */
+  record PlayerSkippedTurn(Player player) implements GameEvent {
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onPlayerSkipTurn(player);
+    }
+  }
+
+  /**
+   * The current player changed.
+   *
+   * @param player The new current player.
+   */
+  record CurrentPlayerChanged(Player player) implements GameEvent {
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onCurrentPlayerChanged(player);
+    }
+  }
+
+  /**
+   * A player went bankrupt.
+   *
+   * @param player The player who went bankrupt.
+   */
+  record PlayerBankrupt(Player player) implements GameEvent {
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onPlayerBankrupt(player);
+    }
+  }
+
+  /**
+   * The money of one or more players changed.
+   *
+   * @param players The players whose money changed.
+   */
+  record MoneyChanged(List<Player> players) implements GameEvent {
+
+    /**
+     * Creates the event with an immutable copy of the players.
+     *
+     * @param players The players whose money changed.
+     */
+    public MoneyChanged {
+      players = List.copyOf(players);
+    }
+
+    @Override
+    public void deliverTo(BoardGameObserver observer) {
+      observer.onMoneyChanged(players);
+    }
+  }
+}
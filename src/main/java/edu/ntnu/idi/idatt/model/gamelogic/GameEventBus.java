@@ -0,0 +1,246 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <h1>Game Event Bus</h1>
+ *
+ * <p>Publishes {@link GameEvent}s from the game engine to asynchronous subscribers. Publishing
+ * only queues the event, so the engine never waits for a subscriber such as the user interface.
+ * Each subscriber drains its queue on its own executor, receiving every event published since
+ * the previous drain as one coalesced batch.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Non-blocking publishing from any thread</li>
+ *   <li>At most one pending drain per subscriber, so a burst of events is handled in one batch,
+ *   for instance one batch per JavaFX pulse when subscribing with Platform::runLater</li>
+ *   <li>Coalescing of redundant events within a batch</li>
+ *   <li>Cancellable and weakly referenced subscriptions, so closed views are not kept alive</li>
+ * </ul>
+ *
+ * <h2>Coalescing</h2>
+ *
+ * <p>Within a batch, all money changes are merged into one event listing each affected player
+ * once, and only the last change of current player is kept. Other events are delivered in the
+ * order they were published.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class GameEventBus {
+  private static final Logger LOGGER = Logger.getLogger(GameEventBus.class.getName());
+
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /**
+   * Subscribes a handler that receives batches of coalesced events on an executor.
+   *
+   * @param executor The executor the batches are delivered on.
+   * @param handler The handler receiving the batches.
+   * @return The subscription, which can be cancelled.
+   * @throws NullPointerException If the executor or handler is null.
+   */
+  public Subscription subscribe(Executor executor, Consumer<List<GameEvent>> handler) {
+    if (executor == null || handler == null) {
+      throw new NullPointerException("Executor and handler cannot be null");
+    }
+
+    Subscription subscription = new Subscription(executor, handler);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Subscribes an observer that receives the coalesced events on an executor.
+   *
+   * @param executor The executor the events are delivered on.
+   * @param observer The observer receiving the events.
+   * @return The subscription, which can be cancelled.
+   * @throws NullPointerException If the executor or observer is null.
+   */
+  public Subscription subscribe(Executor executor, BoardGameObserver observer) {
+    if (observer == null) {
+      throw new NullPointerException("Observer cannot be null");
+    }
+    return subscribe(executor, events -> events.forEach(event -> event.deliverTo(observer)));
+  }
+
+  /**
+   * Subscribes an observer that is only weakly referenced by the bus. The subscription cancels
+   * itself once the observer has been garbage collected.
+   *
+   * @param executor The executor the events are delivered on.
+   * @param observer The observer receiving the events.
+   * @return The subscription, which can be cancelled.
+   * @throws NullPointerException If the executor or observer is null.
+   */
+  public Subscription subscribeWeakly(Executor executor, BoardGameObserver observer) {
+    if (observer == null) {
+      throw new NullPointerException("Observer cannot be null");
+    }
+
+    WeakReference<BoardGameObserver> reference = new WeakReference<>(observer);
+    Subscription[] subscription = new Subscription[1];
+    subscription[0] = subscribe(executor, events -> {
+      BoardGameObserver target = reference.get();
+      if (target == null) {
+        subscription[0].cancel();
+        return;
+      }
+      events.forEach(event -> event.deliverTo(target));
+    });
+    return subscription[0];
+  }
+
+  /**
+   * Gets the number of active subscriptions.
+   *
+   * @return The number of subscriptions.
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /**
+   * Checks whether the bus has any subscribers, so publishers can skip creating events.
+   *
+   * @return True if at least one subscription is active.
+   */
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  /**
+   * Queues an event for all subscribers, scheduling a drain for subscribers that have none
+   * pending.
+   *
+   * @param event The event to publish.
+   */
+  public void publish(GameEvent event) {
+    for (Subscription subscription : subscriptions) {
+      subscription.enqueue(event);
+    }
+  }
+
+  /**
+   * Coalesces a batch of events, see the class description for the rules.
+   *
+   * @param events The events in the order they were published.
+   * @return The coalesced events.
+   */
+  static List<GameEvent> coalesce(List<GameEvent> events) {
+    int lastPlayerChange = -1;
+    int firstMoneyChange = -1;
+    Set<Player> moneyPlayers = null;
+
+    for (int i = 0; i < events.size(); i++) {
+      GameEvent event = events.get(i);
+      if (event instanceof GameEvent.CurrentPlayerChanged) {
+        lastPlayerChange = i;
+      } else if (event instanceof GameEvent.MoneyChanged moneyChanged) {
+        if (firstMoneyChange < 0) {
+          firstMoneyChange = i;
+          moneyPlayers = new LinkedHashSet<>();
+        }
+        moneyPlayers.addAll(moneyChanged.players());
+      }
+    }
+
+    List<GameEvent> coalesced = new ArrayList<>(events.size());
+    for (int i = 0; i < events.size(); i++) {
+      GameEvent event = events.get(i);
+      if (event instanceof GameEvent.CurrentPlayerChanged && i != lastPlayerChange) {
+        continue;
+      }
+      if (event instanceof GameEvent.MoneyChanged) {
+        if (i == firstMoneyChange) {
+          coalesced.add(new GameEvent.MoneyChanged(new ArrayList<>(moneyPlayers)));
+        }
+        continue;
+      }
+      coalesced.add(event);
+    }
+    return coalesced;
+  }
+
+  /**
+   * <h2>Subscription</h2>
+   *
+   * <p>A subscriber's queue of pending events and the executor it is drained on.</p>
+   */
+  public final class Subscription {
+    private final Executor executor;
+    private final Consumer<List<GameEvent>> handler;
+    private final Queue<GameEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    private Subscription(Executor executor, Consumer<List<GameEvent>> handler) {
+      this.executor = executor;
+      this.handler = handler;
+    }
+
+    /**
+     * Cancels the subscription. Events that are still pending are discarded.
+     */
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+      pending.clear();
+    }
+
+    /**
+     * Queues an event and schedules a drain unless one is already pending.
+     *
+     * @param event The event to queue.
+     */
+    private void enqueue(GameEvent event) {
+      pending.add(event);
+      if (drainScheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::drain);
+        } catch (RuntimeException e) {
+          drainScheduled.set(false);
+          throw e;
+        }
+      }
+    }
+
+    /**
+     * Takes all pending events and delivers them to the handler as one coalesced batch.
+     */
+    private void drain() {
+      drainScheduled.set(false);
+      if (cancelled) {
+        return;
+      }
+
+      List<GameEvent> batch = new ArrayList<>();
+      for (GameEvent event = pending.poll(); event != null; event = pending.poll()) {
+        batch.add(event);
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        handler.accept(coalesce(batch));
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Game event subscriber failed to handle a batch", e);
+      }
+    }
+  }
+}
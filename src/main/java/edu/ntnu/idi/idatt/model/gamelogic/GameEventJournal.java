@@ -0,0 +1,269 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h1>Game Event Journal</h1>
+ *
+ * <p>A single-producer, multi-consumer ring buffer recording the events of a game. The game
+ * thread writes each event into preallocated primitive slots, and any number of consumers, such
+ * as the user interface, a save writer or a replay recorder, read the journal at their own pace
+ * through a {@link Cursor}.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Recording an event allocates nothing and never waits for a consumer</li>
+ *   <li>Each consumer keeps its own position, so consumers never affect each other</li>
+ *   <li>A consumer that falls more than the capacity behind skips the overwritten events and
+ *   counts them as lost, instead of stalling the game</li>
+ * </ul>
+ *
+ * <h2>Slot format</h2>
+ *
+ * <p>Each slot holds an event type, the index of the player in the game's player list and up to
+ * three values. A move stores the from tile, to tile and dice value; a money event stores the
+ * player's new balance. The other event types use no values.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class GameEventJournal {
+  public static final int TYPE_MOVE = 1;
+  public static final int TYPE_SKIP_TURN = 2;
+  public static final int TYPE_BANKRUPT = 3;
+  public static final int TYPE_GAME_WON = 4;
+  public static final int TYPE_MONEY = 5;
+  public static final int TYPE_CURRENT_PLAYER = 6;
+
+  private final int mask;
+  private final byte[] types;
+  private final int[] playerIndexes;
+  private final int[] firstValues;
+  private final int[] secondValues;
+  private final int[] thirdValues;
+  private final AtomicLong published = new AtomicLong();
+
+  /**
+   * Creates a journal.
+   *
+   * @param capacity The number of slots, must be a power of two of at least 2. The newest
+   *     {@code capacity - 1} events can always be read.
+   * @throws IllegalArgumentException If the capacity is not a power of two of at least 2.
+   */
+  public GameEventJournal(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Journal capacity must be a power of two of at least 2");
+    }
+    this.mask = capacity - 1;
+    this.types = new byte[capacity];
+    this.playerIndexes = new int[capacity];
+    this.firstValues = new int[capacity];
+    this.secondValues = new int[capacity];
+    this.thirdValues = new int[capacity];
+  }
+
+  /**
+   * Records that a player moved.
+   *
+   * @param playerIndex The index of the player in the game.
+   * @param fromTileId The ID of the tile the player moved from.
+   * @param toTileId The ID of the tile the player moved to.
+   * @param diceValue The value rolled on the dice, or 0 for moves caused by an action.
+   */
+  public void recordMove(int playerIndex, int fromTileId, int toTileId, int diceValue) {
+    record(TYPE_MOVE, playerIndex, fromTileId, toTileId, diceValue);
+  }
+
+  /**
+   * Records that the money of a player changed.
+   *
+   * @param playerIndex The index of the player in the game.
+   * @param balance The new balance of the player.
+   */
+  public void recordMoney(int playerIndex, int balance) {
+    record(TYPE_MONEY, playerIndex, balance, 0, 0);
+  }
+
+  /**
+   * Records an event of a type without values, such as a skipped turn, a bankruptcy, a win or a
+   * change of current player.
+   *
+   * @param type The event type.
+   * @param playerIndex The index of the player in the game.
+   */
+  public void record(int type, int playerIndex) {
+    record(type, playerIndex, 0, 0, 0);
+  }
+
+  /**
+   * Writes an event into the next slot and publishes it to the consumers. Must only be called by
+   * the single producer.
+   *
+   * @param type The event type.
+   * @param playerIndex The index of the player in the game.
+   * @param first The first value.
+   * @param second The second value.
+   * @param third The third value.
+   */
+  private void record(int type, int playerIndex, int first, int second, int third) {
+    long sequence = published.get();
+    int slot = (int) sequence & mask;
+    types[slot] = (byte) type;
+    playerIndexes[slot] = playerIndex;
+    firstValues[slot] = first;
+    secondValues[slot] = second;
+    thirdValues[slot] = third;
+    published.lazySet(sequence + 1);
+  }
+
+  /**
+   * Gets the number of events recorded since the journal was created.
+   *
+   * @return The number of recorded events.
+   */
+  public long getPublishedCount() {
+    return published.get();
+  }
+
+  /**
+   * Gets the number of slots in the journal.
+   *
+   * @return The capacity.
+   */
+  public int getCapacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Gets the sequence number of the oldest event that is safe to read. The slot of the event
+   * before it may be being overwritten by the producer.
+   *
+   * @param available The number of events recorded.
+   * @return The oldest readable sequence number.
+   */
+  private long oldestReadable(long available) {
+    return available - mask;
+  }
+
+  /**
+   * Creates a cursor positioned after the last recorded event.
+   *
+   * @return A cursor that reads events recorded from now on.
+   */
+  public Cursor newCursor() {
+    return new Cursor(published.get());
+  }
+
+  /**
+   * <h2>Event Reader</h2>
+   *
+   * <p>Receives the events read by a cursor.</p>
+   */
+  @FunctionalInterface
+  public interface EventReader {
+
+    /**
+     * Called for each event read.
+     *
+     * @param sequence The sequence number of the event.
+     * @param type The event type.
+     * @param playerIndex The index of the player in the game.
+     * @param first The first value, see the slot format.
+     * @param second The second value, see the slot format.
+     * @param third The third value, see the slot format.
+     */
+    void onEvent(long sequence, int type, int playerIndex, int first, int second, int third);
+  }
+
+  /**
+   * <h2>Cursor</h2>
+   *
+   * <p>The reading position of a single consumer. A cursor must only be used by one thread at a
+   * time.</p>
+   */
+  public final class Cursor {
+    private long next;
+    private long lost;
+
+    private Cursor(long next) {
+      this.next = next;
+    }
+
+    /**
+     * Reads up to a number of events recorded after the cursor's position.
+     *
+     * @param reader The reader receiving the events.
+     * @param maxEvents The maximum number of events to read.
+     * @return The number of events read.
+     */
+    public int poll(EventReader reader, int maxEvents) {
+      int read = 0;
+      while (read < maxEvents) {
+        long available = published.get();
+        skipOverwritten(available);
+        if (next >= available) {
+          break;
+        }
+
+        int slot = (int) next & mask;
+        int type = types[slot];
+        int playerIndex = playerIndexes[slot];
+        int first = firstValues[slot];
+        int second = secondValues[slot];
+        int third = thirdValues[slot];
+
+        VarHandle.acquireFence();
+        if (next < oldestReadable(published.get())) {
+          continue;
+        }
+
+        reader.onEvent(next, type, playerIndex, first, second, third);
+        next++;
+        read++;
+      }
+      return read;
+    }
+
+    /**
+     * Moves the cursor past events that the producer has overwritten.
+     *
+     * @param available The number of events recorded.
+     */
+    private void skipOverwritten(long available) {
+      long oldestKept = oldestReadable(available);
+      if (next < oldestKept) {
+        lost += oldestKept - next;
+        next = oldestKept;
+      }
+    }
+
+    /**
+     * Gets the sequence number of the next event this cursor will read.
+     *
+     * @return The position of the cursor.
+     */
+    public long getPosition() {
+      return next;
+    }
+
+    /**
+     * Gets the number of events this cursor skipped because it fell too far behind.
+     *
+     * @return The number of lost events.
+     */
+    public long getLostCount() {
+      return lost;
+    }
+
+    /**
+     * Gets the number of events recorded but not yet read by this cursor.
+     *
+     * @return The number of pending events.
+     */
+    public long getPendingCount() {
+      long available = published.get();
+      return available - Math.max(next, oldestReadable(available));
+    }
+  }
+}
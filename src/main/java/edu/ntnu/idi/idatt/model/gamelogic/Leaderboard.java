@@ -0,0 +1,249 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Leaderboard</h1>
+ *
+ * <p>Keeps the players of a game ranked by their standing. The ranking is maintained
+ * incrementally: when the standing of a player changes, only that player is moved up or down
+ * past the players it overtakes, so reading the standings never requires scanning and sorting
+ * all players.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Ranks players by net worth in Monopoly and by board position in the ladder games</li>
+ *   <li>Updates a single player in time proportional to the number of places it moves</li>
+ *   <li>Ranks bankrupt players last, and keeps the join order between players with equal
+ *   standing</li>
+ *   <li>Exposes the standings as a read-only view without copying</li>
+ * </ul>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class Leaderboard {
+
+  /**
+   * The standing players are ranked by.
+   */
+  public enum Ranking {
+    /** Ranks players by their money plus the value of their properties. */
+    NET_WORTH,
+    /** Ranks players by the ID of the tile they are standing on. */
+    BOARD_POSITION
+  }
+
+  private static final long BANKRUPT_SCORE = Long.MIN_VALUE;
+
+  private Ranking ranking = Ranking.BOARD_POSITION;
+  private Player[] ranked = new Player[4];
+  private long[] scores = new long[4];
+  private int[] joinOrder = new int[4];
+  private int size;
+  private int joined;
+  private final Map<Player, Integer> positions = new IdentityHashMap<>();
+  private final List<Player> standings = new AbstractList<>() {
+    @Override
+    public Player get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("No player ranked at index " + index);
+      }
+      return ranked[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  };
+
+  /**
+   * Adds a player to the leaderboard at the place matching their current standing.
+   *
+   * @param player The player to add.
+   */
+  public void add(Player player) {
+    if (player == null || positions.containsKey(player)) {
+      return;
+    }
+
+    if (size == ranked.length) {
+      ranked = Arrays.copyOf(ranked, size * 2);
+      scores = Arrays.copyOf(scores, size * 2);
+      joinOrder = Arrays.copyOf(joinOrder, size * 2);
+    }
+    ranked[size] = player;
+    scores[size] = scoreOf(player);
+    joinOrder[size] = joined++;
+    positions.put(player, size);
+    size++;
+    moveUp(size - 1);
+  }
+
+  /**
+   * Updates the place of a player after their standing may have changed. Players not on the
+   * leaderboard are ignored.
+   *
+   * @param player The player whose standing may have changed.
+   */
+  public void update(Player player) {
+    Integer position = positions.get(player);
+    if (position == null) {
+      return;
+    }
+
+    long score = scoreOf(player);
+    if (score == scores[position]) {
+      return;
+    }
+
+    scores[position] = score;
+    moveDown(moveUp(position));
+  }
+
+  /**
+   * Sets the standing players are ranked by, reranking all players if it changed.
+   *
+   * @param ranking The new ranking.
+   */
+  public void setRanking(Ranking ranking) {
+    if (ranking == null || ranking == this.ranking) {
+      return;
+    }
+
+    this.ranking = ranking;
+    for (int i = 0; i < size; i++) {
+      scores[i] = scoreOf(ranked[i]);
+    }
+    for (int i = 1; i < size; i++) {
+      moveUp(i);
+    }
+  }
+
+  /**
+   * Gets the standing players are ranked by.
+   *
+   * @return The ranking.
+   */
+  public Ranking getRanking() {
+    return ranking;
+  }
+
+  /**
+   * Gets the players ordered from first to last place. The list is a read-only view that follows
+   * later changes to the leaderboard.
+   *
+   * @return The standings.
+   */
+  public List<Player> getStandings() {
+    return standings;
+  }
+
+  /**
+   * Gets the place of a player on the leaderboard.
+   *
+   * @param player The player.
+   * @return The place of the player starting at 1, or -1 if the player is not on the leaderboard.
+   */
+  public int getRank(Player player) {
+    Integer position = positions.get(player);
+    return position != null ? position + 1 : -1;
+  }
+
+  /**
+   * Gets the player in first place.
+   *
+   * @return The leading player, or null if the leaderboard is empty.
+   */
+  public Player getLeader() {
+    return size > 0 ? ranked[0] : null;
+  }
+
+  /**
+   * Calculates the score of a player for the current ranking.
+   *
+   * @param player The player.
+   * @return The score, higher being better.
+   */
+  private long scoreOf(Player player) {
+    if (player.isBankrupt()) {
+      return BANKRUPT_SCORE;
+    }
+
+    if (ranking == Ranking.NET_WORTH) {
+      return player.getNetWorth();
+    }
+    Tile tile = player.getCurrentTile();
+    return tile != null ? tile.getTileId() : 0;
+  }
+
+  /**
+   * Checks whether the entry at one position should be ranked above the entry at another.
+   *
+   * @param a The first position.
+   * @param b The second position.
+   * @return True if the entry at a ranks above the entry at b.
+   */
+  private boolean ranksAbove(int a, int b) {
+    if (scores[a] != scores[b]) {
+      return scores[a] > scores[b];
+    }
+    return joinOrder[a] < joinOrder[b];
+  }
+
+  /**
+   * Moves an entry towards first place past the entries it ranks above.
+   *
+   * @param position The current position of the entry.
+   * @return The new position of the entry.
+   */
+  private int moveUp(int position) {
+    while (position > 0 && ranksAbove(position, position - 1)) {
+      swap(position, position - 1);
+      position--;
+    }
+    return position;
+  }
+
+  /**
+   * Moves an entry towards last place past the entries that rank above it.
+   *
+   * @param position The current position of the entry.
+   * @return The new position of the entry.
+   */
+  private int moveDown(int position) {
+    while (position < size - 1 && ranksAbove(position + 1, position)) {
+      swap(position, position + 1);
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Swaps two entries and updates the positions of their players.
+   *
+   * @param a The first position.
+   * @param b The second position.
+   */
+  private void swap(int a, int b) {
+    Player player = ranked[a];
+    ranked[a] = ranked[b];
+    ranked[b] = player;
+
+    long score = scores[a];
+    scores[a] = scores[b];
+    scores[b] = score;
+
+    int order = joinOrder[a];
+    joinOrder[a] = joinOrder[b];
+    joinOrder[b] = order;
+
+    positions.put(ranked[a], a);
+    positions.put(ranked[b], b);
+  }
+}
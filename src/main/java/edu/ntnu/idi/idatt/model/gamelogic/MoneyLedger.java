@@ -0,0 +1,362 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Money Ledger</h1>
+ *
+ * <p>Settles money transfers between players and the bank for a single game. Transfers involving
+ * several players are collected in a batch and applied in one step, so a player going bankrupt
+ * halfway through can never leave the transfers partly applied.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Atomic settlement of multi-party transfers</li>
+ *   <li>Bankruptcy of players who cannot cover their share of a batch</li>
+ *   <li>A fixed-size ring buffer of the most recent transfers, packed into primitive longs</li>
+ *   <li>One aggregated money-changed event per settled batch</li>
+ * </ul>
+ *
+ * <h2>Entry format</h2>
+ *
+ * <p>Each recorded transfer is packed into a long: the payer slot in the upper 16 bits, the
+ * recipient slot in the next 16 bits and the amount in the lower 32 bits. A slot is the index of
+ * the player in the game's player list plus one, with slot 0 being the bank.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class MoneyLedger {
+  private static final int DEFAULT_CAPACITY = 256;
+  private static final int BANK_SLOT = 0;
+
+  private final BoardGame game;
+  private final Map<Player, Integer> slots = new IdentityHashMap<>();
+  private final long[] entries;
+  private int nextEntry;
+  private long recordedTransfers;
+
+  /**
+   * Creates a ledger for a game with the default ring buffer capacity.
+   *
+   * @param game The game the ledger belongs to.
+   */
+  public MoneyLedger(BoardGame game) {
+    this(game, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a ledger for a game.
+   *
+   * @param game The game the ledger belongs to.
+   * @param capacity The number of recent transfers to keep.
+   * @throws IllegalArgumentException If the capacity is not positive.
+   */
+  public MoneyLedger(BoardGame game, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Ledger capacity must be positive");
+    }
+    this.game = game;
+    this.entries = new long[capacity];
+  }
+
+  /**
+   * Starts a new batch of transfers.
+   *
+   * @return An empty batch.
+   */
+  public Batch newBatch() {
+    return new Batch();
+  }
+
+  /**
+   * Gets the total number of transfers recorded since the ledger was created.
+   *
+   * @return The number of recorded transfers.
+   */
+  public long getRecordedTransfers() {
+    return recordedTransfers;
+  }
+
+  /**
+   * Gets the number of transfers currently kept in the ring buffer.
+   *
+   * @return The number of kept transfers.
+   */
+  public int getEntryCount() {
+    return (int) Math.min(recordedTransfers, entries.length);
+  }
+
+  /**
+   * Gets the amount of a kept transfer.
+   *
+   * @param index The index of the transfer, 0 being the oldest kept transfer.
+   * @return The amount of the transfer.
+   */
+  public int getAmount(int index) {
+    return (int) entry(index);
+  }
+
+  /**
+   * Gets the payer of a kept transfer.
+   *
+   * @param index The index of the transfer, 0 being the oldest kept transfer.
+   * @return The paying player, or null if the bank paid.
+   */
+  public Player getPayer(int index) {
+    return playerInSlot((int) (entry(index) >>> 48));
+  }
+
+  /**
+   * Gets the recipient of a kept transfer.
+   *
+   * @param index The index of the transfer, 0 being the oldest kept transfer.
+   * @return The receiving player, or null if the bank received the money.
+   */
+  public Player getRecipient(int index) {
+    return playerInSlot((int) ((entry(index) >>> 32) & 0xFFFF));
+  }
+
+  /**
+   * Gets a packed entry from the ring buffer.
+   *
+   * @param index The index of the transfer, 0 being the oldest kept transfer.
+   * @return The packed entry.
+   * @throws IndexOutOfBoundsException If no transfer is kept at the index.
+   */
+  private long entry(int index) {
+    int count = getEntryCount();
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("No ledger entry at index " + index);
+    }
+    int oldest = count < entries.length ? 0 : nextEntry;
+    return entries[(oldest + index) % entries.length];
+  }
+
+  /**
+   * Records a transfer in the ring buffer, overwriting the oldest entry when full.
+   *
+   * @param payer The paying player, or null for the bank.
+   * @param recipient The receiving player, or null for the bank.
+   * @param amount The amount transferred.
+   */
+  private void record(Player payer, Player recipient, int amount) {
+    entries[nextEntry] = ((long) slotOf(payer) << 48)
+        | ((long) slotOf(recipient) << 32)
+        | (amount & 0xFFFFFFFFL);
+    nextEntry = (nextEntry + 1) % entries.length;
+    recordedTransfers++;
+  }
+
+  /**
+   * Gets the slot of a player in the game, see the entry format in the class description. Slots
+   * are looked up in an index of the game's players, which is rebuilt when the player list no
+   * longer matches it.
+   *
+   * @param player The player, or null for the bank.
+   * @return The slot of the player.
+   */
+  private int slotOf(Player player) {
+    if (player == null || game == null) {
+      return BANK_SLOT;
+    }
+
+    List<Player> players = game.getPlayers();
+    Integer slot = slots.get(player);
+    if (slot == null || slot > players.size() || players.get(slot - 1) != player) {
+      slots.clear();
+      for (int i = 0; i < players.size(); i++) {
+        slots.putIfAbsent(players.get(i), i + 1);
+      }
+      slot = slots.getOrDefault(player, BANK_SLOT);
+    }
+    return slot & 0xFFFF;
+  }
+
+  /**
+   * Gets the player in a slot.
+   *
+   * @param slot The slot.
+   * @return The player, or null for the bank or a player no longer in the game.
+   */
+  private Player playerInSlot(int slot) {
+    if (slot == BANK_SLOT || game == null || slot > game.getPlayers().size()) {
+      return null;
+    }
+    return game.getPlayers().get(slot - 1);
+  }
+
+  /**
+   * <h2>Batch</h2>
+   *
+   * <p>A set of transfers that is settled together. Players are only charged for the net amount
+   * they owe in the batch.</p>
+   */
+  public final class Batch {
+    private Player[] payers = new Player[4];
+    private Player[] recipients = new Player[4];
+    private int[] amounts = new int[4];
+    private int size;
+    private boolean committed;
+
+    private Batch() {
+    }
+
+    /**
+     * Adds a transfer to the batch.
+     *
+     * @param payer The paying player, or null for the bank.
+     * @param recipient The receiving player, or null for the bank.
+     * @param amount The amount to transfer.
+     * @return This batch.
+     * @throws IllegalArgumentException If the amount is negative.
+     * @throws IllegalStateException If the batch has already been committed.
+     */
+    public Batch transfer(Player payer, Player recipient, int amount) {
+      if (amount < 0) {
+        throw new IllegalArgumentException("Transfer amount cannot be negative");
+      }
+      if (committed) {
+        throw new IllegalStateException("Batch has already been committed");
+      }
+
+      if (size == amounts.length) {
+        payers = Arrays.copyOf(payers, size * 2);
+        recipients = Arrays.copyOf(recipients, size * 2);
+        amounts = Arrays.copyOf(amounts, size * 2);
+      }
+      payers[size] = payer;
+      recipients[size] = recipient;
+      amounts[size] = amount;
+      size++;
+      return this;
+    }
+
+    /**
+     * Settles the batch. Players who cannot cover their net share are declared bankrupt and all
+     * their transfers are removed from the batch. The remaining transfers are then applied
+     * together, and observers are notified once with every player whose money changed.
+     *
+     * @return True if every transfer was settled, false if some were dropped due to bankruptcy.
+     * @throws IllegalStateException If the batch has already been committed.
+     */
+    public boolean commit() {
+      if (committed) {
+        throw new IllegalStateException("Batch has already been committed");
+      }
+      committed = true;
+
+      boolean[] dropped = new boolean[size];
+      List<Player> insolvent = new ArrayList<>();
+      Map<Player, Integer> netChanges;
+
+      boolean changed;
+      do {
+        changed = false;
+        netChanges = computeNetChanges(dropped);
+        for (Map.Entry<Player, Integer> change : netChanges.entrySet()) {
+          Player player = change.getKey();
+          if (player.getMoney() + change.getValue() < 0) {
+            insolvent.add(player);
+            dropTransfersOf(player, dropped);
+            changed = true;
+            break;
+          }
+        }
+      } while (changed);
+
+      boolean moneyChanged = false;
+      for (Map.Entry<Player, Integer> change : netChanges.entrySet()) {
+        if (change.getValue() != 0) {
+          change.getKey().applyMoneyChange(change.getValue());
+          moneyChanged = true;
+        }
+      }
+
+      for (int i = 0; i < size; i++) {
+        if (!dropped[i]) {
+          record(payers[i], recipients[i], amounts[i]);
+        }
+      }
+
+      for (Player player : insolvent) {
+        if (!player.isBankrupt()) {
+          player.declareBankrupt();
+        }
+      }
+
+      if (game != null && moneyChanged) {
+        game.dispatchEvents();
+      }
+      return insolvent.isEmpty();
+    }
+
+    /**
+     * Sums the money change of each player over the transfers that are not dropped. The players
+     * are kept in the order of the game's player list, followed by any players not in the game in
+     * the order they appear in the batch, so insolvent players are always found in the same
+     * order.
+     *
+     * @param dropped The transfers removed from the batch.
+     * @return The net money change for each player taking part.
+     */
+    private Map<Player, Integer> computeNetChanges(boolean[] dropped) {
+      Map<Player, Integer> netChanges = new LinkedHashMap<>();
+      if (game != null) {
+        for (Player player : game.getPlayers()) {
+          if (takesPart(player, dropped)) {
+            netChanges.put(player, 0);
+          }
+        }
+      }
+
+      for (int i = 0; i < size; i++) {
+        if (dropped[i]) {
+          continue;
+        }
+        if (payers[i] != null) {
+          netChanges.merge(payers[i], -amounts[i], Integer::sum);
+        }
+        if (recipients[i] != null) {
+          netChanges.merge(recipients[i], amounts[i], Integer::sum);
+        }
+      }
+      return netChanges;
+    }
+
+    /**
+     * Checks if a player pays or receives money in a transfer that is not dropped.
+     *
+     * @param player The player.
+     * @param dropped The transfers removed from the batch.
+     * @return True if the player takes part in the batch.
+     */
+    private boolean takesPart(Player player, boolean[] dropped) {
+      for (int i = 0; i < size; i++) {
+        if (!dropped[i] && (payers[i] == player || recipients[i] == player)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Removes all transfers to and from a player from the batch.
+     *
+     * @param player The player.
+     * @param dropped The transfers removed from the batch.
+     */
+    private void dropTransfersOf(Player player, boolean[] dropped) {
+      for (int i = 0; i < size; i++) {
+        if (payers[i] == player || recipients[i] == player) {
+          dropped[i] = true;
+        }
+      }
+    }
+  }
+}
@@ -2,9 +2,14 @@ package edu.ntnu.idi.idatt.model.gamelogic;
 
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Player Class</h1>
@@ -19,7 +24,7 @@ import java.util.Map;
  *   <li>Movement mechanics on the game board</li>
  *   <li>System for financial transactions</li>
  *   <li>Property ownership tracking</li>
- *   <li>Game state tracking (bankruptcy, jail status, etc.)</li>
+ *   <li>Game state tracking (bankruptcy, jail status, etc.) through typed status flags</li>
  *   <li>Turn management mechanics</li>
  * </ul>
  *
@@ -28,15 +33,32 @@ import java.util.Map;
  * @since v1.1.0
  */
 public class Player {
+  private static final Logger LOGGER = Logger.getLogger(Player.class.getName());
+  public static final int STATUS_WAIT_TURN = 1;
+  public static final int STATUS_IN_JAIL = 1 << 1;
+  public static final int STATUS_FREE_PARKING = 1 << 2;
+  public static final int STATUS_CURRENT_PLAYER = 1 << 3;
+  public static final int PERSISTED_STATUS_FLAGS =
+      STATUS_WAIT_TURN | STATUS_IN_JAIL | STATUS_FREE_PARKING;
+
   private final String name;
   private Tile currentTile;
   private BoardGame game;
   private final String token;
-  private boolean waitTurn = false;
   private boolean bankrupt = false;
-  private final Map<String, String> properties = new HashMap<>();
+  private int statusFlags;
+  private int jailTurnCount;
+  private int savedTileId;
+  private String savedPropertyNames;
+  private String currentPlayerName;
+  private Map<String, String> attributes;
   private int money;
   private final List<PropertyTileAction> ownedProperties = new ArrayList<>();
+  private final List<PropertyTileAction> ownedPropertiesView =
+      Collections.unmodifiableList(ownedProperties);
+  private final Map<String, Integer> ownedPropertyTypeCounts = new HashMap<>();
+  private final BitSet ownedTileIds = new BitSet();
+  private int propertyValue;
 
   /**
    * Constructs a new player with specified attributes and connects them to a game instance.
@@ -79,6 +101,7 @@ public class Player {
     if (tile != null) {
       tile.landPlayer(this);
     }
+    standingChanged();
   }
 
   /**
@@ -88,9 +111,9 @@ public class Player {
    * @param steps The number of steps the player moves.
    */
   public void move(int steps) {
-    if (waitTurn) {
-      System.out.println(name + " Skips this turn");
-      waitTurn = false;
+    if (willWaitTurn()) {
+      LOGGER.log(Level.INFO, () -> name + " Skips this turn");
+      setWaitTurn(false);
       return;
     }
 
@@ -124,7 +147,23 @@ public class Player {
    */
   public void addMoney(int amount) {
     this.money += amount;
-    System.out.println(name + " received " + amount + ". New balance: " + money);
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(Level.FINE, name + " received " + amount + ". New balance: " + money);
+    }
+    balanceChanged();
+  }
+
+  /**
+   * Applies a settled money change from the game's ledger, without logging each transfer.
+   *
+   * @param amount The amount to add, negative to deduct.
+   */
+  void applyMoneyChange(int amount) {
+    this.money += amount;
+    standingChanged();
+    if (game != null) {
+      game.recordMoneyChange(this);
+    }
   }
 
   /**
@@ -136,10 +175,16 @@ public class Player {
   public boolean payMoney(int amount) {
     if (money >= amount) {
       money -= amount;
-      System.out.println(name + " paid " + amount + ". New balance: " + money);
+      if (LOGGER.isLoggable(Level.FINE)) {
+        LOGGER.log(Level.FINE, name + " paid " + amount + ". New balance: " + money);
+      }
+      balanceChanged();
       return true;
     } else {
-      System.out.println(name + " can't afford to pay " + amount + ". Current balance: " + money);
+      if (LOGGER.isLoggable(Level.FINE)) {
+        LOGGER.log(Level.FINE, name + " can't afford to pay " + amount + ". Current balance: "
+            + money);
+      }
       declareBankrupt();
       return false;
     }
@@ -169,15 +214,43 @@ public class Player {
    */
   public void addProperty(PropertyTileAction property) {
     ownedProperties.add(property);
-    property.setOwner(this);
+    ownedPropertyTypeCounts.merge(property.getPropertyType(), 1, Integer::sum);
+    if (property.getTileId() > 0) {
+      ownedTileIds.set(property.getTileId());
+      if (game != null) {
+        property.setOwner(game, this);
+      }
+    }
+    propertyValue += property.getCost();
+    standingChanged();
+  }
+
+  /**
+   * Moves the player to their new place on the game's leaderboard and records the new balance in
+   * the game's event journal.
+   */
+  private void balanceChanged() {
+    standingChanged();
+    if (game != null) {
+      game.moneyChanged(this);
+    }
+  }
+
+  /**
+   * Moves the player to their new place on the game's leaderboard.
+   */
+  private void standingChanged() {
+    if (game != null) {
+      game.updateStanding(this);
+    }
   }
 
   /**
    * Releases the player from jail.
    */
   public void releaseFromJail() {
-    setProperty("inJail", "false");
-    System.out.println(name + " has been released from jail.");
+    setInJail(false);
+    LOGGER.log(Level.INFO, () -> name + " has been released from jail.");
   }
 
   /**
@@ -195,13 +268,21 @@ public class Player {
    */
   public void declareBankrupt() {
     this.bankrupt = true;
-    System.out.println(name + " has gone bankrupt and is out of the game");
+    LOGGER.log(Level.INFO, () -> name + " has gone bankrupt and is out of the game");
 
-    for (PropertyTileAction property : ownedProperties) {
-      property.setOwner(null);
+    if (game != null) {
+      for (PropertyTileAction property : ownedProperties) {
+        if (property.getTileId() > 0) {
+          property.setOwner(game, null);
+        }
+      }
     }
 
     ownedProperties.clear();
+    ownedPropertyTypeCounts.clear();
+    ownedTileIds.clear();
+    propertyValue = 0;
+    standingChanged();
 
     if (game != null) {
       game.playerBankrupt(this);
@@ -232,7 +313,7 @@ public class Player {
    * @param skip True if the player has landed on a skip turn tile.
    */
   public void setWaitTurn(boolean skip) {
-    this.waitTurn = skip;
+    setStatus(STATUS_WAIT_TURN, skip);
   }
 
   /**
@@ -241,7 +322,157 @@ public class Player {
    * @return True if the player skips their next turn.
    */
   public boolean willWaitTurn() {
-    return waitTurn;
+    return hasStatus(STATUS_WAIT_TURN);
+  }
+
+  /**
+   * Checks if one or more status flags are set for the player.
+   *
+   * @param flags The status flags to check, e.g. {@link #STATUS_IN_JAIL}.
+   * @return True if all the given flags are set.
+   */
+  public boolean hasStatus(int flags) {
+    return (statusFlags & flags) == flags;
+  }
+
+  /**
+   * Sets or clears one or more status flags for the player.
+   *
+   * @param flags The status flags to change.
+   * @param set True to set the flags, false to clear them.
+   */
+  public void setStatus(int flags, boolean set) {
+    if (set) {
+      statusFlags |= flags;
+    } else {
+      statusFlags &= ~flags;
+    }
+  }
+
+  /**
+   * Gets all status flags of the player as a bitmask.
+   *
+   * @return The status flags.
+   */
+  public int getStatusFlags() {
+    return statusFlags;
+  }
+
+  /**
+   * Replaces all status flags of the player, used when restoring a saved player.
+   *
+   * @param statusFlags The status flags.
+   */
+  public void setStatusFlags(int statusFlags) {
+    this.statusFlags = statusFlags;
+  }
+
+  /**
+   * Checks if the player is in jail.
+   *
+   * @return True if the player is in jail.
+   */
+  public boolean isInJail() {
+    return hasStatus(STATUS_IN_JAIL);
+  }
+
+  /**
+   * Sets whether the player is in jail.
+   *
+   * @param inJail True if the player is in jail.
+   */
+  public void setInJail(boolean inJail) {
+    setStatus(STATUS_IN_JAIL, inJail);
+  }
+
+  /**
+   * Checks if the player has free parking, meaning no rent is paid on the next property.
+   *
+   * @return True if the player has free parking.
+   */
+  public boolean hasFreeParking() {
+    return hasStatus(STATUS_FREE_PARKING);
+  }
+
+  /**
+   * Sets whether the player has free parking.
+   *
+   * @param freeParking True if the player has free parking.
+   */
+  public void setFreeParking(boolean freeParking) {
+    setStatus(STATUS_FREE_PARKING, freeParking);
+  }
+
+  /**
+   * Gets the number of turns the player has spent in jail.
+   *
+   * @return The number of turns in jail.
+   */
+  public int getJailTurnCount() {
+    return jailTurnCount;
+  }
+
+  /**
+   * Sets the number of turns the player has spent in jail.
+   *
+   * @param jailTurnCount The number of turns in jail.
+   */
+  public void setJailTurnCount(int jailTurnCount) {
+    this.jailTurnCount = jailTurnCount;
+  }
+
+  /**
+   * Gets the ID of the tile the player stood on in a loaded save.
+   *
+   * @return The saved tile ID, or 0 if none was saved.
+   */
+  public int getSavedTileId() {
+    return savedTileId;
+  }
+
+  /**
+   * Sets the ID of the tile the player stood on in a loaded save.
+   *
+   * @param savedTileId The saved tile ID.
+   */
+  public void setSavedTileId(int savedTileId) {
+    this.savedTileId = savedTileId;
+  }
+
+  /**
+   * Gets the names of the properties the player owned in a loaded save.
+   *
+   * @return The property names separated by ';', or null if none were saved.
+   */
+  public String getSavedPropertyNames() {
+    return savedPropertyNames;
+  }
+
+  /**
+   * Sets the names of the properties the player owned in a loaded save.
+   *
+   * @param savedPropertyNames The property names separated by ';'.
+   */
+  public void setSavedPropertyNames(String savedPropertyNames) {
+    this.savedPropertyNames = savedPropertyNames;
+  }
+
+  /**
+   * Gets the name of the current player stored with this player when saving a game.
+   *
+   * @return The name of the current player, or null if not set.
+   */
+  public String getCurrentPlayerName() {
+    return currentPlayerName;
+  }
+
+  /**
+   * Sets the name of the current player to store with this player when saving a game.
+   *
+   * @param currentPlayerName The name of the current player.
+   */
+  public void setCurrentPlayerName(String currentPlayerName) {
+    this.currentPlayerName = currentPlayerName;
   }
 
   /**
@@ -274,32 +505,159 @@ public class Player {
   }
 
   /**
-   * Stores property value in the player's property map.
+   * Stores a custom attribute for the player. The keys of the typed status fields
+   * ("inJail", "jailTurnCount", "freeParking", "isCurrentPlayer", "savedTileId",
+   * "savedProperties" and "currentPlayerName") are mapped to those fields.
    *
-   * @param key The property key.
-   * @param value The property value.
+   * @param key The attribute key.
+   * @param value The attribute value.
    */
   public void setProperty(String key, String value) {
-    properties.put(key, value);
+    switch (key) {
+      case "inJail" -> setInJail("true".equals(value));
+      case "freeParking" -> setFreeParking("true".equals(value));
+      case "isCurrentPlayer" -> setStatus(STATUS_CURRENT_PLAYER, "true".equals(value));
+      case "jailTurnCount" -> setJailTurnCount(parseCount(value));
+      case "savedTileId" -> setSavedTileId(parseCount(value));
+      case "savedProperties" -> setSavedPropertyNames(value);
+      case "currentPlayerName" -> setCurrentPlayerName(value);
+      default -> {
+        if (attributes == null) {
+          attributes = new HashMap<>();
+        }
+        attributes.put(key, value);
+      }
+    }
   }
 
   /**
-   * Gets a property value from the player's property map.
+   * Gets a custom attribute of the player, see {@link #setProperty(String, String)}.
    *
-   * @param key The property key.
-   * @return The property value, or null if not found.
+   * @param key The attribute key.
+   * @return The attribute value, or null if not found.
    */
   public String getProperty(String key) {
-    return properties.get(key);
+    return switch (key) {
+      case "inJail" -> String.valueOf(isInJail());
+      case "freeParking" -> hasFreeParking() ? "true" : null;
+      case "isCurrentPlayer" -> String.valueOf(hasStatus(STATUS_CURRENT_PLAYER));
+      case "jailTurnCount" -> String.valueOf(jailTurnCount);
+      case "savedTileId" -> savedTileId > 0 ? String.valueOf(savedTileId) : null;
+      case "savedProperties" -> savedPropertyNames;
+      case "currentPlayerName" -> currentPlayerName;
+      default -> attributes != null ? attributes.get(key) : null;
+    };
   }
 
   /**
-   * Gets a list of all properties owned by this player.
+   * Parses a counter value stored as a string.
    *
-   * @return The list of properties owned by this player.
+   * @param value The value to parse.
+   * @return The parsed value, or 0 if the value is null or not a number.
+   */
+  private static int parseCount(String value) {
+    if (value == null) {
+      return 0;
+    }
+
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Gets a read-only view of all properties owned by this player. The view reflects later
+   * changes to the player's properties, so callers that need a snapshot must copy it.
+   *
+   * @return An unmodifiable view of the properties owned by this player.
    */
   public List<PropertyTileAction> getOwnedProperties() {
-    return new ArrayList<>(ownedProperties);
+    return ownedPropertiesView;
+  }
+
+  /**
+   * Performs an action for each property owned by this player, without copying the properties.
+   *
+   * @param visitor The action to perform for each property.
+   */
+  public void forEachOwnedProperty(Consumer<PropertyTileAction> visitor) {
+    for (int i = 0; i < ownedProperties.size(); i++) {
+      visitor.accept(ownedProperties.get(i));
+    }
+  }
+
+  /**
+   * Gets the total number of properties owned by this player.
+   *
+   * @return The number of owned properties.
+   */
+  public int getOwnedPropertyCount() {
+    return ownedProperties.size();
+  }
+
+  /**
+   * Checks if this player owns a specific property.
+   *
+   * @param property The property to check.
+   * @return True if the player owns the property, false otherwise.
+   */
+  public boolean ownsProperty(PropertyTileAction property) {
+    if (property == null) {
+      return false;
+    }
+    if (property.getTileId() > 0) {
+      return ownedTileIds.get(property.getTileId());
+    }
+    return ownedProperties.contains(property);
+  }
+
+  /**
+   * Gets the number of properties of a specific type owned by this player.
+   *
+   * @param propertyType The property type (color or landmark).
+   * @return The number of owned properties of the type.
+   */
+  public int getOwnedPropertyCount(String propertyType) {
+    return ownedPropertyTypeCounts.getOrDefault(propertyType, 0);
+  }
+
+  /**
+   * Checks if this player owns the property on a specific tile.
+   *
+   * @param tileId The ID of the tile to check.
+   * @return True if the player owns the property on the tile, false otherwise.
+   */
+  public boolean ownsTile(int tileId) {
+    return tileId >= 0 && ownedTileIds.get(tileId);
+  }
+
+  /**
+   * Gets the IDs of the tiles with properties owned by this player.
+   *
+   * @return A copy of the set of owned tile IDs.
+   */
+  public BitSet getOwnedTileIds() {
+    return (BitSet) ownedTileIds.clone();
+  }
+
+  /**
+   * Gets the combined purchase cost of all properties owned by this player.
+   *
+   * @return The total value of the player's properties.
+   */
+  public int getPropertyValue() {
+    return propertyValue;
+  }
+
+  /**
+   * Gets the player's net worth, being their money plus the value of their properties.
+   *
+   * @return The player's net worth.
+   */
+  public int getNetWorth() {
+    return money + propertyValue;
   }
 
   /**
@@ -310,5 +668,15 @@ public class Player {
   public int getMoney() {
     return money;
   }
+
+  /**
+   * Sets the player's money balance, used when restoring a saved game.
+   *
+   * @param money The player's money.
+   */
+  public void setMoney(int money) {
+    this.money = money;
+    balanceChanged();
+  }
 }
 
@@ -2,6 +2,8 @@ package edu.ntnu.idi.idatt.model.gamelogic;
 
 import edu.ntnu.idi.idatt.model.actions.TileAction;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <h1>Tile Class</h1>
@@ -23,9 +25,11 @@ import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
  * @since v1.1.0
  */
 public class Tile {
+  private static final Logger LOGGER = Logger.getLogger(Tile.class.getName());
   private Tile nextTile;
   private final int tileId;
   private TileAction action;
+  private Board board;
 
   /**
    * Constructs a new tile with the specified ID.
@@ -42,7 +46,9 @@ public class Tile {
    * @param player The player that lands.
    */
   public void landPlayer(Player player) {
-    System.out.println(player.getName() + " lands at " + tileId);
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(Level.FINE, player.getName() + " lands at " + tileId);
+    }
     if (action != null) {
       BoardGame game = player.getGame();
       String variantName = game != null ? game.getVariantName() : null;
@@ -59,7 +65,9 @@ public class Tile {
    * @param player The player that leaves.
    */
   public void leavePlayer(Player player) {
-    System.out.println(player.getName() + " leaves at " + tileId);
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(Level.FINE, player.getName() + " leaves at " + tileId);
+    }
   }
 
   /**
@@ -128,6 +136,23 @@ public class Tile {
    */
   public void setAction(TileAction action) {
     this.action = action;
+
+    if (action instanceof PropertyTileAction propertyAction) {
+      propertyAction.setTileId(tileId);
+    }
+
+    if (board != null) {
+      board.invalidateIndex();
+    }
+  }
+
+  /**
+   * Sets the board this tile belongs to.
+   *
+   * @param board The board containing this tile.
+   */
+  void setBoard(Board board) {
+    this.board = board;
   }
 
   /**
@@ -4,6 +4,7 @@ import edu.ntnu.idi.idatt.MainApp;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.animation.FadeTransition;
@@ -12,6 +13,7 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
@@ -31,6 +33,7 @@ import javafx.util.Duration;
  *   <li>Property purchase actions - For buying properties in Monopoly Gameplay</li>
  *   <li>Jail option dialogs - For handling player choices when in jail</li>
  *   <li>Tax payment dialogs - For selecting between tax payment options</li>
+ *   <li>Save dialogs - For saving to a named slot or the next autosave slot</li>
  * </ul>
  *
  * <h2>Features</h2>
@@ -222,8 +225,7 @@ public class DialogService {
     Label titleLabel = new Label(player.getName() + " is in jail.");
     titleLabel.getStyleClass().add("dialog-header");
 
-    String jailTurnCount = player.getProperty("jailTurnCount");
-    int turnsInJail = jailTurnCount == null ? 1 : Integer.parseInt(jailTurnCount);
+    int turnsInJail = Math.max(1, player.getJailTurnCount());
     Label turnsLabel = new Label("Turn " + turnsInJail + " of 3 in jail");
     turnsLabel.getStyleClass().add("dialog-message");
 
@@ -417,6 +419,98 @@ public class DialogService {
     }
   }
 
+  /**
+   * Shows a dialog for saving the game, either to a named save slot or to the next autosave
+   * slot. The dialog stays open with an error message if the chosen name is rejected.
+   *
+   * @param ownerStage The stage that owns this dialog.
+   * @param suggestedName The name to suggest for the named slot, or null.
+   * @param onQuickSave Runnable to execute if the user saves to the next autosave slot.
+   * @param onSaveAs Function called with the chosen name, returning an error message if the
+   *     name was rejected, or null if the game was saved.
+   */
+  public static void showSaveDialog(Stage ownerStage, String suggestedName,
+      Runnable onQuickSave, Function<String, String> onSaveAs) {
+    if (ownerStage == null) {
+      return;
+    }
+
+    Stage dialogStage = new Stage();
+    dialogStage.initModality(Modality.APPLICATION_MODAL);
+    dialogStage.initOwner(ownerStage);
+    dialogStage.setTitle("Save Game");
+
+    handleDialogCloseRequest(dialogStage, null);
+
+    VBox dialogVbox = new VBox(15);
+    dialogVbox.getStyleClass().add("dialog-pane");
+    dialogVbox.setPadding(new Insets(20));
+    dialogVbox.setAlignment(Pos.CENTER);
+
+    Label headerLabel = new Label("Save the game");
+    headerLabel.getStyleClass().add("dialog-header");
+
+    Label promptLabel = new Label("Enter a name for the save, or use quick save:");
+    promptLabel.getStyleClass().add("dialog-message");
+
+    TextField nameField = new TextField(suggestedName == null ? "" : suggestedName);
+    nameField.getStyleClass().add("text-field");
+    nameField.setMaxWidth(300);
+
+    Label errorLabel = new Label();
+    errorLabel.getStyleClass().add("error-label");
+    errorLabel.setWrapText(true);
+
+    Button quickSaveButton = new Button("Quick Save");
+    quickSaveButton.getStyleClass().addAll("button", "button-secondary");
+    quickSaveButton.setOnAction(event -> {
+      animateDialogAndClose(dialogStage);
+      if (onQuickSave != null) {
+        onQuickSave.run();
+      }
+    });
+
+    Button saveButton = new Button("Save");
+    saveButton.getStyleClass().addAll("button", "button-primary");
+    saveButton.setDefaultButton(true);
+    saveButton.setOnAction(event -> {
+      String error = onSaveAs != null ? onSaveAs.apply(nameField.getText()) : null;
+      if (error == null) {
+        animateDialogAndClose(dialogStage);
+      } else {
+        errorLabel.setText(error);
+      }
+    });
+
+    Button cancelButton = new Button("Cancel");
+    cancelButton.getStyleClass().addAll("button", "button-secondary");
+    cancelButton.setOnAction(event -> animateDialogAndClose(dialogStage));
+
+    HBox buttonBox = new HBox(20);
+    buttonBox.setAlignment(Pos.CENTER);
+    buttonBox.getChildren().addAll(cancelButton, quickSaveButton, saveButton);
+
+    dialogVbox.getChildren().addAll(headerLabel, promptLabel, nameField, errorLabel, buttonBox);
+
+    Scene dialogScene = new Scene(dialogVbox, 450, 260);
+
+    try {
+      String cssPath = Objects.requireNonNull(
+          MainApp.class.getResource("/styles.css")).toExternalForm();
+      dialogScene.getStylesheets().add(cssPath);
+    } catch (Exception e) {
+      LOGGER.log(Level.SEVERE, "Error loading CSS: " + e);
+    }
+
+    dialogStage.setScene(dialogScene);
+
+    try {
+      dialogStage.show();
+    } catch (Exception e) {
+      LOGGER.log(Level.SEVERE, "Error showing dialog: " + e);
+    }
+  }
+
   /**
    * Helper method to handle the dialog window close requests.
    *
@@ -1,8 +1,10 @@
 package edu.ntnu.idi.idatt.views.gameviews;
 
 import edu.ntnu.idi.idatt.controllers.BoardGameController;
+import edu.ntnu.idi.idatt.model.filehandling.SaveSlots;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGameObserver;
+import edu.ntnu.idi.idatt.model.gamelogic.GameEventBus;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.views.CssUtil;
 import edu.ntnu.idi.idatt.views.DialogService;
@@ -64,6 +66,11 @@ import javafx.util.Duration;
  *   <li>Special events like bankruptcy or turn skipping</li>
  * </ul>
  *
+ * <p>The view subscribes to the game's event bus with Platform::runLater, so the events of a
+ * JavaFX pulse are delivered together, coalesced, on the JavaFX application thread. The
+ * subscription is weak and is cancelled by {@link #dispose()}, so a closed view is never kept
+ * alive by its game.</p>
+ *
  * @author Ola Syrstad Berg
  * @since v1.1.0
  */
@@ -83,6 +90,8 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
   protected double tokenSize = 30;
   protected double boardWidth;
   protected double boardHeight;
+  private String lastSaveName;
+  private final GameEventBus.Subscription eventSubscription;
   protected static final Logger LOGGER = Logger.getLogger(AbstractBoardGameView.class.getName());
 
   /**
@@ -98,7 +107,15 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
     this.controller = controller;
     this.playerTokenViews = new HashMap<>();
 
-    boardGame.addObserver(this);
+    this.eventSubscription = boardGame.getEventBus().subscribeWeakly(Platform::runLater, this);
+  }
+
+  /**
+   * Detaches the view from the game so it no longer receives events. Called by the controller
+   * before the view's stage is closed.
+   */
+  public void dispose() {
+    eventSubscription.cancel();
   }
 
   /**
@@ -181,6 +198,36 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
     DialogService.showGameInfoDialog(stage, getGameTitle() + " Info", getGameInformation());
   }
 
+  /**
+   * Shows the save dialog, offering a named save slot or a quick save to the next autosave
+   * slot. The name last saved to, or the named save the game was loaded from, is suggested.
+   */
+  protected void showSaveDialog() {
+    if (lastSaveName == null && !SaveSlots.isAutosave(boardGame.getSaveName())) {
+      lastSaveName = boardGame.getSaveName();
+    }
+
+    DialogService.showSaveDialog(stage, lastSaveName, () -> showSaveResult(controller.saveGame()),
+        saveName -> {
+          try {
+            showSaveResult(controller.saveGameAs(saveName));
+            lastSaveName = saveName.trim();
+            return null;
+          } catch (IllegalArgumentException e) {
+            return e.getMessage();
+          }
+        });
+  }
+
+  /**
+   * Shows the result of a save in the status label.
+   *
+   * @param saved True if the save was successful.
+   */
+  private void showSaveResult(boolean saved) {
+    statusLabel.setText(saved ? "Game saved successfully!" : "Failed to save game.");
+  }
+
   /**
    * Sets up the top section of the UI containing status labels.
    *
@@ -262,13 +309,7 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
     Button saveButton = new Button("Save Game");
     saveButton.setMinWidth(120);
     saveButton.getStyleClass().addAll("button", "button-primary");
-    saveButton.setOnAction(event -> {
-      if (controller.saveGame()) {
-        statusLabel.setText("Game saved successfully!");
-      } else {
-        statusLabel.setText("Failed to save game.");
-      }
-    });
+    saveButton.setOnAction(event -> showSaveDialog());
 
     Button infoButton = new Button("Game Info");
     infoButton.setMinWidth(120);
@@ -641,7 +682,7 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
     });
   }
 
-  // BoardGameObserver implementation
+  // BoardGameObserver implementation, called on the JavaFX application thread by the event bus
 
   /**
    * Handles the movement of a player's token on the game board.
@@ -653,24 +694,22 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
    */
   @Override
   public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
-    Platform.runLater(() -> {
-      ImageView tokenView = playerTokenViews.get(player);
-      if (tokenView != null) {
-        int playerIndex = boardGame.getPlayers().indexOf(player);
-
-        updateStatusLabelForMove(player, fromTileId, toTileId, diceValue);
-
-        if (fromTileId != toTileId) {
-          animationsInProgress.put(player, true);
-          animateTokenMovement(tokenView, fromTileId, toTileId, playerIndex, () -> {
-            animationsInProgress.put(player, false);
-            performPostMoveUpdates(player);
-          });
-        } else {
+    ImageView tokenView = playerTokenViews.get(player);
+    if (tokenView != null) {
+      int playerIndex = boardGame.getPlayers().indexOf(player);
+
+      updateStatusLabelForMove(player, fromTileId, toTileId, diceValue);
+
+      if (fromTileId != toTileId) {
+        animationsInProgress.put(player, true);
+        animateTokenMovement(tokenView, fromTileId, toTileId, playerIndex, () -> {
+          animationsInProgress.put(player, false);
           performPostMoveUpdates(player);
-        }
+        });
+      } else {
+        performPostMoveUpdates(player);
       }
-    });
+    }
   }
 
   /**
@@ -707,7 +746,7 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
    */
   @Override
   public void onGameWon(Player player) {
-    Platform.runLater(() -> endGame(player));
+    endGame(player);
   }
 
   /**
@@ -717,22 +756,20 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
    */
   @Override
   public void onPlayerSkipTurn(Player player) {
-    Platform.runLater(() -> {
-      actionLabel.setText(player.getName() + " must skip their turn");
-      actionLabel.setVisible(true);
-      rollButton.setDisable(true);
-      new Thread(() -> {
-        try {
-          Thread.sleep(2000);
-        } catch (InterruptedException e) {
-          LOGGER.log(Level.SEVERE, "Failed to sleep thread", e);
-        }
-        Platform.runLater(() -> {
-          rollButton.setDisable(false);
-          actionLabel.setVisible(false);
-        });
-      }).start();
-    });
+    actionLabel.setText(player.getName() + " must skip their turn");
+    actionLabel.setVisible(true);
+    rollButton.setDisable(true);
+    new Thread(() -> {
+      try {
+        Thread.sleep(2000);
+      } catch (InterruptedException e) {
+        LOGGER.log(Level.SEVERE, "Failed to sleep thread", e);
+      }
+      Platform.runLater(() -> {
+        rollButton.setDisable(false);
+        actionLabel.setVisible(false);
+      });
+    }).start();
   }
 
   /**
@@ -742,7 +779,7 @@ public abstract class AbstractBoardGameView implements BoardGameObserver {
    */
   @Override
   public void onCurrentPlayerChanged(Player player) {
-    Platform.runLater(() -> statusLabel.setText("It is " + player.getName() + "'s turn"));
+    statusLabel.setText("It is " + player.getName() + "'s turn");
   }
 
   /**
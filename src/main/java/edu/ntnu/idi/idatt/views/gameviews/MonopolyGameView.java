@@ -7,8 +7,13 @@ import edu.ntnu.idi.idatt.model.gamelogic.Player;
 import edu.ntnu.idi.idatt.model.gamelogic.Tile;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Alert;
@@ -55,12 +60,34 @@ import javafx.stage.Stage;
  *   <li>Displays game winner at the end of the game</li>
  * </ul>>
  *
+ * <h3>Player card updates</h3>
+ *
+ * <p>Updates to a player's information card only mark the card as dirty. Dirty cards are
+ * refreshed once per JavaFX pulse by an AnimationTimer, so a burst of money and property updates
+ * rebuilds each card at most once per frame. The property list of a collapsed card is rebuilt
+ * when the card is expanded.</p>
+ *
  * @author Ola Syrstad Berg
  * @since v1.1.0
  */
 public class MonopolyGameView extends AbstractBoardGameView {
 
   private final Map<Player, VBox> playerInfoCards = new HashMap<>();
+  private final Map<Player, Label> moneyLabels = new HashMap<>();
+  private final Map<Player, TitledPane> propertyPanes = new HashMap<>();
+  private final Map<Player, Integer> dirtyCards = new ConcurrentHashMap<>();
+  private final Set<Player> staleCollapsedCards = new HashSet<>();
+  private final AtomicBoolean cardRefreshScheduled = new AtomicBoolean();
+  private final AnimationTimer cardRefreshTimer = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      stop();
+      cardRefreshScheduled.set(false);
+      refreshDirtyCards();
+    }
+  };
+  private static final int DIRTY_MONEY = 1;
+  private static final int DIRTY_PROPERTIES = 1 << 1;
   private boolean gameOverDisplayed = false;
   private static final int GRID_SIZE = 11;
 
@@ -189,15 +216,16 @@ public class MonopolyGameView extends AbstractBoardGameView {
         case "PropertyTileAction":
           PropertyTileAction property = monopolyController.getPropertyAtTile(currentTileId);
           if (property != null) {
-            if (property.getOwner() == null) {
+            Player owner = property.getOwner(player.getGame());
+            if (owner == null) {
               actionLabel.setText(tileName + " is unowned and can be purchased for "
                   + (property.getCost()));
-            } else if (property.getOwner() == player) {
+            } else if (owner == player) {
               actionLabel.setText(player.getName() + " owns this property");
             } else {
               int rentAmount = property.getCost() * 2 / 10;
               actionLabel.setText(player.getName() + " must pay " + (rentAmount) + " to "
-                  + property.getOwner().getName());
+                  + owner.getName());
             }
           }
           break;
@@ -263,10 +291,8 @@ public class MonopolyGameView extends AbstractBoardGameView {
    */
   @Override
   public void onCurrentPlayerChanged(Player player) {
-    Platform.runLater(() -> {
-      statusLabel.setText(player.getName() + " is taking their turn");
-      updateCurrentPlayerHighlight();
-    });
+    statusLabel.setText(player.getName() + " is taking their turn");
+    updateCurrentPlayerHighlight();
   }
 
   /**
@@ -373,7 +399,15 @@ public class MonopolyGameView extends AbstractBoardGameView {
     propertiesPane.getStyleClass().add("property-pane");
     propertiesPane.setStyle("-fx-font-size: 12px;");
 
+    propertiesPane.expandedProperty().addListener((observable, wasExpanded, isExpanded) -> {
+      if (isExpanded && staleCollapsedCards.remove(player)) {
+        populatePlayerPropertiesBox(propertiesBox, player);
+      }
+    });
+
     playerCard.getChildren().addAll(nameLabel, moneyLabel, propertiesPane);
+    moneyLabels.put(player, moneyLabel);
+    propertyPanes.put(player, propertiesPane);
 
     updatePlayerCardHighlight(playerCard, player);
 
@@ -446,67 +480,134 @@ public class MonopolyGameView extends AbstractBoardGameView {
   private void populatePlayerPropertiesBox(VBox propertiesBox, Player player) {
     propertiesBox.getChildren().clear();
 
-    List<PropertyTileAction> properties = player.getOwnedProperties();
-
-    if (properties.isEmpty()) {
+    if (player.getOwnedPropertyCount() == 0) {
       Label noPropertiesLabel = new Label("No properties owned");
       noPropertiesLabel.setStyle("-fx-font-style: italic;"
           + " -fx-text-fill: #999999; -fx-font-size: 11px;");
       propertiesBox.getChildren().add(noPropertiesLabel);
     } else {
-      properties.sort(Comparator.comparing(PropertyTileAction::getPropertyName));
-
-      for (PropertyTileAction property : properties) {
-        Label propertyLabel = new Label("• " + property.getPropertyName());
-        propertyLabel.setStyle("-fx-font-size: 11px;" + getPropertyColorType(property));
-        propertiesBox.getChildren().add(propertyLabel);
-      }
+      player.getOwnedProperties().stream()
+          .sorted(Comparator.comparing(PropertyTileAction::getPropertyName))
+          .forEach(property -> {
+            Label propertyLabel = new Label("• " + property.getPropertyName());
+            propertyLabel.setStyle("-fx-font-size: 11px;" + getPropertyColorType(property));
+            propertiesBox.getChildren().add(propertyLabel);
+          });
     }
   }
 
 
   /**
-   * Updates the properties section of the specified player's information card in the UI.
-   * This method locates the player's card, identifies the "Properties" section
-   * within the card, and updates it with the player's latest property details.
+   * Marks the properties section of the specified player's information card for an update.
+   * The section is rebuilt with the player's latest property details on the next pulse.
    *
    * @param player The Player object whose properties are to be updated in the UI.
    */
   public void updatePlayerProperties(Player player) {
-    Platform.runLater(() -> {
-      VBox playerCard = playerInfoCards.get(player);
-      if (playerCard != null) {
-        for (javafx.scene.Node node : playerCard.getChildren()) {
-          if (node instanceof TitledPane && "Properties".equals(((TitledPane) node).getText())) {
-            VBox propertiesBox = (VBox) ((TitledPane) node).getContent();
-            populatePlayerPropertiesBox(propertiesBox, player);
-            break;
-          }
-        }
-      }
-    });
+    markCardDirty(player, DIRTY_PROPERTIES);
   }
 
   /**
-   * Updates the displayed money information for a player in the game's player information panel.
-   * This method locates the corresponding UI label for the player's money and
-   * updates its value to reflect the player's current monetary amount.
+   * Marks the displayed money information for a player in the game's player information panel
+   * for an update. The label is set to the player's current monetary amount on the next pulse.
    *
    * @param player The Player object whose money information needs to be updated in the UI.
    */
   public void updatePlayerMoney(Player player) {
-    Platform.runLater(() -> {
-      VBox playerCard = playerInfoCards.get(player);
-      if (playerCard != null) {
-        for (javafx.scene.Node node : playerCard.getChildren()) {
-          if (node instanceof Label && node.getId() != null
-              && node.getId().startsWith("money-" + player.getName())) {
-            ((Label) node).setText("$" + player.getMoney());
-            break;
-          }
-        }
+    markCardDirty(player, DIRTY_MONEY);
+  }
+
+  /**
+   * Stops the card refresh timer and detaches the view from the game.
+   */
+  @Override
+  public void dispose() {
+    cardRefreshTimer.stop();
+    dirtyCards.clear();
+    super.dispose();
+  }
+
+  /**
+   * Marks parts of a player's information card as dirty and schedules a refresh on the next
+   * pulse, unless one is already scheduled. May be called from any thread.
+   *
+   * @param player The player whose card is dirty.
+   * @param parts The dirty parts of the card.
+   */
+  private void markCardDirty(Player player, int parts) {
+    dirtyCards.merge(player, parts, (current, added) -> current | added);
+
+    if (cardRefreshScheduled.compareAndSet(false, true)) {
+      if (Platform.isFxApplicationThread()) {
+        cardRefreshTimer.start();
+      } else {
+        Platform.runLater(cardRefreshTimer::start);
       }
-    });
+    }
+  }
+
+  /**
+   * Refreshes the dirty parts of all dirty player cards. Called once per pulse by the card
+   * refresh timer on the JavaFX application thread.
+   */
+  private void refreshDirtyCards() {
+    for (Player player : dirtyCards.keySet()) {
+      Integer parts = dirtyCards.remove(player);
+      if (parts == null) {
+        continue;
+      }
+
+      if ((parts & DIRTY_MONEY) != 0) {
+        updateMoneyLabel(player);
+      }
+      if ((parts & DIRTY_PROPERTIES) != 0) {
+        refreshPropertiesPane(player);
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the properties section of a player's card if it is expanded. A collapsed section is
+   * rebuilt when it is expanded.
+   *
+   * @param player The player whose properties section is refreshed.
+   */
+  private void refreshPropertiesPane(Player player) {
+    TitledPane propertiesPane = propertyPanes.get(player);
+    if (propertiesPane == null) {
+      return;
+    }
+
+    if (propertiesPane.isExpanded()) {
+      staleCollapsedCards.remove(player);
+      populatePlayerPropertiesBox((VBox) propertiesPane.getContent(), player);
+    } else {
+      staleCollapsedCards.add(player);
+    }
+  }
+
+  /**
+   * Updates the money label of a player's information card. Must be called on the
+   * JavaFX application thread.
+   *
+   * @param player The player whose money label is updated.
+   */
+  private void updateMoneyLabel(Player player) {
+    Label moneyLabel = moneyLabels.get(player);
+    if (moneyLabel != null) {
+      moneyLabel.setText("$" + player.getMoney());
+    }
+  }
+
+  /**
+   * Marks the money labels of all players whose money changed since the last event batch for an
+   * update.
+   *
+   * @param players The players whose money changed.
+   */
+  @Override
+  public void onMoneyChanged(List<Player> players) {
+    players.forEach(this::updatePlayerMoney);
   }
 
   /**
@@ -540,10 +641,7 @@ public class MonopolyGameView extends AbstractBoardGameView {
    * @param player The player whose property is being changed.
    */
   public void onPropertyChange(Player player) {
-    Platform.runLater(() -> {
-      updatePlayerMoney(player);
-      updatePlayerProperties(player);
-    });
+    markCardDirty(player, DIRTY_MONEY | DIRTY_PROPERTIES);
   }
 
   /**
@@ -4,9 +4,13 @@ import edu.ntnu.idi.idatt.MainApp;
 import edu.ntnu.idi.idatt.controllers.LadderGameController;
 import edu.ntnu.idi.idatt.controllers.MonopolyGameController;
 import edu.ntnu.idi.idatt.model.filehandling.BoardGameFactory;
+import edu.ntnu.idi.idatt.model.filehandling.SaveCatalog;
+import edu.ntnu.idi.idatt.model.filehandling.SaveSlots;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.views.CssUtil;
-import java.io.File;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -16,6 +20,8 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
@@ -35,6 +41,8 @@ import javafx.stage.Stage;
  *   <li>Provides options to start new games or load saved games</li>
  *   <li>Handles game variation selection for Ladder Game</li>
  *   <li>Manages save file operations (loading and deletion)</li>
+ *   <li>Lists all save slots of a game from the save catalog, without parsing any save</li>
+ *   <li>Shows when a save was made, its turn and its players</li>
  *   <li>Implements confirmation dialogs for destructive operations</li>
  * </ul>
  *
@@ -42,8 +50,8 @@ import javafx.stage.Stage;
  * @since v1.1.0
  */
 public class GameSelectionView extends AbstractMenuView {
-  private static final String LADDER_GAME_DIRECTORY = "src/main/resources/saves/laddergame";
-  private static final String MONOPOLY_GAME_DIRECTORY = "src/main/resources/saves/monopolygame";
+  private static final DateTimeFormatter SAVED_AT_FORMAT =
+      DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm").withZone(ZoneId.systemDefault());
 
   /**
    * Constructor that creates the game selection view.
@@ -104,50 +112,135 @@ public class GameSelectionView extends AbstractMenuView {
       }
     });
 
-    HBox saveSection = new HBox(10);
-    saveSection.setAlignment(Pos.CENTER);
-
-    String saveDirectory = gameType.equals("Ladder Game")
-        ? LADDER_GAME_DIRECTORY : MONOPOLY_GAME_DIRECTORY;
-    String saveName = gameType.equals("Ladder Game") ? "LadderGameSave" : "MonopolyGameSave";
-
-    File boardFile = new File(saveDirectory + "/" + saveName + "_board.json");
-    File playerFile = new File(saveDirectory + "/" + saveName + "_players.csv");
+    String gameDirectoryType = gameType.equals("Ladder Game") ? "laddergame" : "monopolygame";
 
-    boolean hasSave = boardFile.exists() && playerFile.exists();
+    Label saveInfoLabel = new Label();
+    saveInfoLabel.getStyleClass().add("save-info");
 
     Button loadSaveButton = new Button("Load Save");
     loadSaveButton.getStyleClass().add("button");
     loadSaveButton.getStyleClass().add("button-secondary");
+    loadSaveButton.setOnAction(event -> {
+      showSavesPopup(displayName, gameType, gameDirectoryType);
+      updateSaveSection(gameDirectoryType, loadSaveButton, saveInfoLabel);
+    });
+    updateSaveSection(gameDirectoryType, loadSaveButton, saveInfoLabel);
+
+    gameSection.getChildren().addAll(gameLabel, playButton, loadSaveButton, saveInfoLabel);
+
+    return gameSection;
+  }
+
+  /**
+   * Updates the load button and the save summary of a game section from the save catalog.
+   *
+   * @param gameDirectoryType The type of game (monopolygame, laddergame).
+   * @param loadSaveButton The button opening the list of saves.
+   * @param saveInfoLabel The label summarizing the saves.
+   */
+  private void updateSaveSection(String gameDirectoryType, Button loadSaveButton,
+      Label saveInfoLabel) {
+    List<SaveCatalog.Entry> saves = BoardGameFactory.listSavedGames(gameDirectoryType);
+    boolean hasSave = !saves.isEmpty();
+    loadSaveButton.setDisable(!hasSave);
+    loadSaveButton.getStyleClass().remove("button-disabled");
     if (!hasSave) {
       loadSaveButton.getStyleClass().add("button-disabled");
+      saveInfoLabel.setText("No saved games");
+    } else {
+      saveInfoLabel.setText(saves.size() + (saves.size() == 1 ? " save" : " saves")
+          + ", latest: " + describeSave(saves.getFirst()));
     }
-    loadSaveButton.setDisable(!hasSave);
-    loadSaveButton.setOnAction(event -> loadGame(saveName, gameType));
+  }
 
-    Button deleteSaveButton = new Button("Delete Save");
-    deleteSaveButton.getStyleClass().add("button");
-    deleteSaveButton.getStyleClass().add("button-danger");
-    if (!hasSave) {
-      deleteSaveButton.getStyleClass().add("button-disabled");
-    }
-    deleteSaveButton.setDisable(!hasSave);
-    deleteSaveButton.setOnAction(event -> {
-      if (showDeleteConfirmation(displayName)) {
-        if (deleteSave(boardFile, playerFile)) {
-          loadSaveButton.setDisable(true);
-          loadSaveButton.getStyleClass().add("button-disabled");
-          deleteSaveButton.setDisable(true);
-          deleteSaveButton.getStyleClass().add("button-disabled");
+  /**
+   * Displays a popup listing the saves of a game, the most recent first, where a save can be
+   * loaded or deleted. The list is read from the save catalog and only the rows on screen are
+   * rendered, so it opens instantly even with thousands of saves.
+   *
+   * @param displayName The display name of the game.
+   * @param gameType The internal game type identifier.
+   * @param gameDirectoryType The type of game (monopolygame, laddergame).
+   */
+  private void showSavesPopup(String displayName, String gameType, String gameDirectoryType) {
+    Stage popup = new Stage();
+    popup.initModality(Modality.APPLICATION_MODAL);
+    popup.setTitle(displayName + " Saves");
+
+    VBox popupLayout = new VBox(15);
+    popupLayout.setAlignment(Pos.CENTER);
+    popupLayout.setPadding(new Insets(20));
+    popupLayout.getStyleClass().add("dialog-pane");
+
+    Label label = new Label("Choose a saved " + displayName + " to load:");
+    label.getStyleClass().add("dialog-header");
+
+    ListView<SaveCatalog.Entry> saveList = new ListView<>();
+    saveList.getItems().setAll(BoardGameFactory.listSavedGames(gameDirectoryType));
+    saveList.setCellFactory(list -> new ListCell<>() {
+      @Override
+      protected void updateItem(SaveCatalog.Entry entry, boolean empty) {
+        super.updateItem(entry, empty);
+        if (empty || entry == null) {
+          setText(null);
+        } else {
+          String kind = SaveSlots.isAutosave(entry.saveName()) ? " (autosave)" : "";
+          setText(entry.saveName() + kind + "\n" + describeSave(entry));
         }
       }
     });
+    saveList.getSelectionModel().selectFirst();
+
+    Button loadButton = new Button("Load");
+    loadButton.getStyleClass().addAll("button", "button-primary");
+    loadButton.disableProperty().bind(saveList.getSelectionModel().selectedItemProperty().isNull());
+    loadButton.setOnAction(event -> {
+      SaveCatalog.Entry entry = saveList.getSelectionModel().getSelectedItem();
+      popup.close();
+      loadGame(entry.saveName(), gameType);
+    });
+
+    Button deleteButton = new Button("Delete");
+    deleteButton.getStyleClass().addAll("button", "button-danger");
+    deleteButton.disableProperty().bind(
+        saveList.getSelectionModel().selectedItemProperty().isNull());
+    deleteButton.setOnAction(event -> {
+      SaveCatalog.Entry entry = saveList.getSelectionModel().getSelectedItem();
+      if (showDeleteConfirmation(entry.saveName())
+          && deleteSave(gameDirectoryType, entry.saveName())) {
+        saveList.getItems().remove(entry);
+      }
+    });
 
-    saveSection.getChildren().addAll(loadSaveButton, deleteSaveButton);
+    Button backButton = new Button("Back To Game Selection");
+    backButton.getStyleClass().addAll("button", "button-secondary");
+    backButton.setOnAction(event -> popup.close());
 
-    gameSection.getChildren().addAll(gameLabel, playButton, saveSection);
+    HBox buttonBox = new HBox(20);
+    buttonBox.setAlignment(Pos.CENTER);
+    buttonBox.getChildren().addAll(backButton, deleteButton, loadButton);
 
-    return gameSection;
+    popupLayout.getChildren().addAll(label, saveList, buttonBox);
+
+    Scene popupScene = new Scene(popupLayout, 700, 500);
+    CssUtil.applyStyleSheet(popupScene);
+
+    popup.setScene(popupScene);
+    popup.setMinWidth(700);
+    popup.setMinHeight(500);
+    popup.centerOnScreen();
+    popup.showAndWait();
+  }
+
+  /**
+   * Describes a save by its catalog entry, without loading the save.
+   *
+   * @param entry The catalog entry of the save.
+   * @return A short description with the save time, turn number and players.
+   */
+  private String describeSave(SaveCatalog.Entry entry) {
+    return "Saved " + SAVED_AT_FORMAT.format(Instant.ofEpochMilli(entry.savedAt()))
+        + " - turn " + entry.turnNumber() + " - " + String.join(", ", entry.playerNames());
   }
 
   /**
@@ -201,13 +294,13 @@ public class GameSelectionView extends AbstractMenuView {
   /**
    * Displays a confirmation dialog before deleting a save file.
    *
-   * @param gameType The type of game whose save is being deleted.
+   * @param saveName The name of the save being deleted.
    * @return true if the user confirms deletion, false otherwise.
    */
-  private boolean showDeleteConfirmation(String gameType) {
+  private boolean showDeleteConfirmation(String saveName) {
     Alert confirmDialog = new Alert(AlertType.CONFIRMATION);
     confirmDialog.setTitle("Confirm Deletion");
-    confirmDialog.setHeaderText("Delete " + gameType + " save?");
+    confirmDialog.setHeaderText("Delete save " + saveName + "?");
     confirmDialog.setContentText(
         "Are you sure you want to delete this saved game? This action cannot be undone.");
 
@@ -225,15 +318,12 @@ public class GameSelectionView extends AbstractMenuView {
   /**
    * Deletes the save files for a game.
    *
-   * @param boardFile The board file to delete.
-   * @param playerFile The player file to delete.
+   * @param gameDirectoryType The type of game (monopolygame, laddergame).
+   * @param saveName The name of the save to delete.
    * @return true if the deletion was successful, false otherwise.
    */
-  private boolean deleteSave(File boardFile, File playerFile) {
-    boolean boardFileDeleted = boardFile.delete();
-    boolean playerFileDeleted = playerFile.delete();
-
-    if (!boardFileDeleted || !playerFileDeleted) {
+  private boolean deleteSave(String gameDirectoryType, String saveName) {
+    if (!BoardGameFactory.deleteSavedGame(gameDirectoryType, saveName)) {
       System.err.println("Failed to delete save files");
       return false;
     }
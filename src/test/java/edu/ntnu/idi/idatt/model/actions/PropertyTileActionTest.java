@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import com.sun.management.ThreadMXBean;
 import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
 import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.lang.management.ManagementFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,19 +34,31 @@ public class PropertyTileActionTest {
 
     property1 = new PropertyTileAction("Testgata1", 1000, "blue");
     property2 = new PropertyTileAction("Testgata2", 1200, "blue");
+    property1.setTileId(1);
+    property2.setTileId(2);
   }
 
   @Test
   @DisplayName("New property should have no owner")
   void newPropertyShouldHaveNoOwner() {
-    assertNull(property1.getOwner(), "A new property should have no owner.");
+    assertNull(property1.getOwner(game), "A new property should have no owner.");
   }
 
   @Test
   @DisplayName("Should set and get property owner correctly")
   void shouldSetAndGetOwnerCorrectly() {
-    property1.setOwner(player1);
-    assertEquals(player1, property1.getOwner(), "Property owner should be player1");
+    property1.setOwner(game, player1);
+    assertEquals(player1, property1.getOwner(game), "Property owner should be player1");
+  }
+
+  @Test
+  @DisplayName("Should only track owners of properties placed on a board")
+  void unplacedPropertyShouldHaveNoOwner() {
+    PropertyTileAction unplaced = new PropertyTileAction("Testgata3", 1000, "blue");
+
+    assertThrows(IllegalStateException.class, () -> unplaced.setOwner(game, player1),
+        "A property that is not on a board cannot be owned");
+    assertNull(unplaced.getOwner(game), "A property that is not on a board has no owner");
   }
 
   @Test
@@ -72,12 +88,12 @@ public class PropertyTileActionTest {
 
       boolean paymentSuccess = player1.payMoney(property1.getCost());
       if (paymentSuccess) {
-        property1.setOwner(player1);
+        property1.setOwner(game, player1);
         player1.addProperty(property1);
       }
 
       assertTrue(paymentSuccess, "Payment should be successful");
-      assertEquals(player1, property1.getOwner(), "Player1 should be the owner");
+      assertEquals(player1, property1.getOwner(game), "Player1 should be the owner");
       assertEquals(initialMoney - property1.getCost(), player1.getMoney(),
           "Player's money should be reduced by property cost");
       assertTrue(player1.getOwnedProperties().contains(property1),
@@ -93,7 +109,7 @@ public class PropertyTileActionTest {
     boolean paymentSuccess = poorPlayer.payMoney(property1.getCost());
 
     assertFalse(paymentSuccess, "Payment should fail due to insufficient funds");
-    assertNull(property1.getOwner(), "Property should remain unowned");
+    assertNull(property1.getOwner(game), "Property should remain unowned");
     assertEquals(initialMoney, poorPlayer.getMoney(),
         "Player's money should remain unchanged");
   }
@@ -101,7 +117,7 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Player pays basic rent when landing on another player's property")
   void playerPaysBasicRentToPropertyOwner() {
-    property1.setOwner(player1);
+    property1.setOwner(game, player1);
     int player1InitialMoney = player1.getMoney();
     int player2InitialMoney = player2.getMoney();
     int expectedRent = property1.getCost() * 2 / 10;
@@ -118,8 +134,8 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Player pays monopoly rent when owner has all properties of type")
   void playerPaysMonopolyRentWhenOwnerHasAllPropertiesOfType() {
-    property1.setOwner(player1);
-    property2.setOwner(player1);
+    property1.setOwner(game, player1);
+    property2.setOwner(game, player1);
     player1.addProperty(property1);
     player1.addProperty(property2);
 
@@ -140,7 +156,7 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Player with insufficient funds cannot pay rent")
   void playerWithInsufficientFundsCannotPayRent() {
-    property1.setOwner(player1);
+    property1.setOwner(game, player1);
     Player poorPlayer = new Player("Kari", "Green", game, 10);
     int expectedRent = property1.getCost() * 2 / 10;
     int ownerInitialMoney = player1.getMoney();
@@ -158,7 +174,7 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Player does not pay rent when landing on own property")
   void playerDoesNotPayRentWhenLandingOnOwnProperty() {
-    property1.setOwner(player1);
+    property1.setOwner(game, player1);
     int initialMoney = player1.getMoney();
 
     assertEquals(initialMoney, player1.getMoney(),
@@ -168,7 +184,7 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Player with free parking does not pay rent")
   void playerWithFreeParkingDoesNotPayRent() {
-    property1.setOwner(player1);
+    property1.setOwner(game, player1);
     player2.setProperty("freeParking", "true");
     int player1InitialMoney = player1.getMoney();
     int player2InitialMoney = player2.getMoney();
@@ -186,7 +202,7 @@ public class PropertyTileActionTest {
   @Test
   @DisplayName("Free parking is consumed after use")
   void freeParkingIsConsumedAfterUse() {
-    property1.setOwner(player1);
+    property1.setOwner(game, player1);
     player2.setProperty("freeParking", "true");
 
     String freeParking = player2.getProperty("freeParking");
@@ -203,10 +219,83 @@ public class PropertyTileActionTest {
   void propertyActionsWithInvalidTypeShouldNotThrowErrors() {
     PropertyTileAction invalidProperty = new PropertyTileAction("Invalid", 1000,
         "invalidType");
-    invalidProperty.setOwner(player1);
+    invalidProperty.setTileId(3);
+    invalidProperty.setOwner(game, player1);
     player1.addProperty(invalidProperty);
 
     assertDoesNotThrow(() -> assertEquals("invalidType",
         invalidProperty.getPropertyType()));
   }
+
+  @Test
+  @DisplayName("Owner has a monopoly only when owning every property of the type on the board")
+  void ownerHasMonopolyOnlyWhenOwningAllPropertiesOfTypeOnBoard() {
+    game.createMonopolyGameBoard();
+
+    PropertyTileAction skolegata =
+        (PropertyTileAction) game.getBoard().getTile(2).getAction();
+    PropertyTileAction brattorgata =
+        (PropertyTileAction) game.getBoard().getTile(4).getAction();
+
+    /* Owning one of two blue properties gives the normal rent of 20% of the cost */
+    player1.addProperty(skolegata);
+    assertEquals(1, player1.getOwnedPropertyCount("blue"));
+    assertEquals(skolegata.getCost() * 2 / 10, skolegata.calculateRent(player1),
+        "Owning one of two blue properties should not give a monopoly");
+
+    /* Owning both blue properties raises the rent to the full cost */
+    player1.addProperty(brattorgata);
+    assertEquals(skolegata.getCost(), skolegata.calculateRent(player1),
+        "Owning both blue properties should give a monopoly");
+    assertEquals(brattorgata.getCost(), brattorgata.calculateRent(player1),
+        "The monopoly should apply to every property of the type");
+
+    player1.declareBankrupt();
+    assertEquals(0, player1.getOwnedPropertyCount("blue"),
+        "Bankruptcy should reset the owned property counters");
+  }
+
+  @Test
+  @DisplayName("Paying rent should not allocate")
+  void rentPaymentShouldNotAllocate() {
+    game.setVariantName("monopolyGame");
+    game.createMonopolyGameBoard();
+    game.addPlayer(player1);
+    game.addPlayer(player2);
+    PropertyTileAction skolegata =
+        (PropertyTileAction) game.getBoard().getTile(2).getAction();
+    PropertyTileAction brattorgata =
+        (PropertyTileAction) game.getBoard().getTile(4).getAction();
+    player1.addProperty(skolegata);
+    player1.addProperty(brattorgata);
+
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+    /* Warm up so class loading and compilation are not measured */
+    for (int i = 0; i < 10000; i++) {
+      payRentBothWays(skolegata);
+    }
+
+    /* The JVM may allocate a few bytes on its own (e.g. for compilation), so the total is
+       divided by the number of payments: any allocation in the rent path is at least 16 bytes */
+    int payments = 100000;
+    long before = threadBean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < payments; i++) {
+      payRentBothWays(skolegata);
+    }
+    long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+    assertEquals(10000, player2.getMoney(), "Rent should be paid back and forth");
+    assertEquals(0, allocated / payments, "Rent payments should not allocate");
+  }
+
+  /* Pays the rent of a property to its owner and back, updating the leaderboard and the
+     game's event journal each time, so the balances stay the same */
+  private void payRentBothWays(PropertyTileAction property) {
+    Player owner = property.getOwner(game);
+    int rent = property.calculateRent(owner);
+    player2.payPlayer(owner, rent);
+    owner.payPlayer(player2, rent);
+  }
 }
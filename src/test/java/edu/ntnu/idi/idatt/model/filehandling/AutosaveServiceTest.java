@@ -0,0 +1,127 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AutosaveServiceTest {
+
+  private static final String TEST_SAVE_NAME = "autosaveTest";
+  private BoardGame ladderGame;
+  private AutosaveService autosave;
+  private Path saveFile;
+
+  /* Create a temporary directory for the test */
+  @TempDir
+  Path tempDir;
+
+  /* Point the factory at the temporary directory and set up a ladder game with 2 players */
+  @BeforeEach
+  public void setUp() throws Exception {
+    Field field = BoardGameFactory.class.getDeclaredField("SAVE_FILES_DIRECTORY");
+    field.setAccessible(true);
+    field.set(null, tempDir.toString());
+    saveFile = tempDir.resolve("laddergame").resolve(TEST_SAVE_NAME + "_save.bgs");
+
+    ladderGame = BoardGameFactory.createLadderGameClassic();
+    ladderGame.addPlayer(new Player("Ola", "Red", ladderGame, 0));
+    ladderGame.addPlayer(new Player("Markus", "Blue", ladderGame, 0));
+    ladderGame.initializeGame();
+  }
+
+  /* Stop the service after each test */
+  @AfterEach
+  public void tearDown() {
+    if (autosave != null) {
+      autosave.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should coalesce requests into one background write of the latest state")
+  public void testRequestsAreCoalesced() {
+    autosave = new AutosaveService(ladderGame, TEST_SAVE_NAME, 60000);
+    Player player = ladderGame.getPlayers().getFirst();
+
+    for (int tileId = 5; tileId <= 25; tileId += 10) {
+      player.placeOnTile(ladderGame.getBoard().getTile(tileId));
+      assertTrue(autosave.requestSave(), "Requests should be accepted");
+    }
+    assertFalse(Files.exists(saveFile), "Nothing should be written before the delay");
+
+    autosave.flush();
+
+    assertTrue(Files.exists(saveFile), "The pending state should be written");
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", TEST_SAVE_NAME);
+    assertEquals(25, loadedGame.getPlayers().getFirst().getCurrentTile().getTileId(),
+        "The latest requested state should be saved");
+  }
+
+  @Test
+  @DisplayName("Should save after every turn when enabled")
+  public void testSaveEveryTurn() {
+    autosave = new AutosaveService(ladderGame, TEST_SAVE_NAME, 0);
+
+    ladderGame.advanceToNextPlayer();
+    autosave.flush();
+    assertFalse(Files.exists(saveFile), "Turns should not be saved before it is enabled");
+
+    autosave.setSaveEveryTurn(true);
+    ladderGame.advanceToNextPlayer();
+    ladderGame.advanceToNextPlayer();
+    autosave.flush();
+
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", TEST_SAVE_NAME);
+    assertEquals("Markus", loadedGame.getCurrentPlayer().getName(),
+        "The state after the last turn should be saved");
+  }
+
+  @Test
+  @DisplayName("Should append turns to the journal of the latest snapshot")
+  public void testTurnsAreAppendedToJournal() throws Exception {
+    autosave = new AutosaveService(ladderGame, TEST_SAVE_NAME, 0);
+    autosave.setSaveEveryTurn(true);
+    autosave.requestSave();
+    autosave.flush();
+    Path journalFile = tempDir.resolve("laddergame").resolve(TEST_SAVE_NAME + "_journal.log");
+    byte[] snapshot = Files.readAllBytes(saveFile);
+
+    ladderGame.getPlayers().getFirst().placeOnTile(ladderGame.getBoard().getTile(30));
+    ladderGame.advanceToNextPlayer();
+    ladderGame.getPlayers().get(1).placeOnTile(ladderGame.getBoard().getTile(12));
+    ladderGame.advanceToNextPlayer();
+    autosave.flush();
+
+    assertArrayEquals(snapshot, Files.readAllBytes(saveFile),
+        "Turns should not rewrite the snapshot");
+    assertEquals(2, Files.readAllLines(journalFile).stream()
+        .filter(line -> line.startsWith("T,")).count(), "Each turn should be journaled");
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", TEST_SAVE_NAME);
+    assertEquals(30, loadedGame.getPlayers().getFirst().getCurrentTile().getTileId());
+    assertEquals(12, loadedGame.getPlayers().get(1).getCurrentTile().getTileId());
+    assertEquals("Ola", loadedGame.getCurrentPlayer().getName());
+
+    /* A loaded game continues the journal of its save */
+    autosave.close();
+    autosave = new AutosaveService(loadedGame, TEST_SAVE_NAME, 0);
+    autosave.setSaveEveryTurn(true);
+    loadedGame.getPlayers().getFirst().placeOnTile(loadedGame.getBoard().getTile(40));
+    loadedGame.advanceToNextPlayer();
+    autosave.flush();
+    assertArrayEquals(snapshot, Files.readAllBytes(saveFile));
+    assertEquals(40, BoardGameFactory.loadSavedGame("laddergame", TEST_SAVE_NAME)
+        .getPlayers().getFirst().getCurrentTile().getTileId());
+  }
+}
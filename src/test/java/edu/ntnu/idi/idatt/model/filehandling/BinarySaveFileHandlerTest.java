@@ -0,0 +1,99 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.ntnu.idi.idatt.model.actions.laddergame.LadderAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.WaitAction;
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinarySaveFileHandlerTest {
+
+  private BinarySaveFileHandler handler;
+  private BoardGame ladderGame;
+
+  /* Create a temporary directory for the test */
+  @TempDir
+  Path tempDir;
+  private String testFilePath;
+
+  /* Set up a ladder game with custom tile actions and one player before each test */
+  @BeforeEach
+  public void setUp() {
+    handler = new BinarySaveFileHandler();
+    ladderGame = new BoardGame();
+    ladderGame.setVariantName("Ladder Game");
+    ladderGame.createLadderGameBoard();
+    ladderGame.getBoard().getTile(25).setAction(new LadderAction(7, "down"));
+    ladderGame.getBoard().getTile(37).setAction(new WaitAction());
+
+    Player player = new Player("Ola", "Red", ladderGame, 0);
+    ladderGame.addPlayer(player);
+    ladderGame.initializeGame();
+    player.placeOnTile(ladderGame.getBoard().getTile(14));
+
+    testFilePath = tempDir.resolve("testSave.bin").toString();
+  }
+
+  @Test
+  @DisplayName("Should write a game with a custom variant and read it back")
+  public void testWriteAndRead() {
+    handler.writeToFile(testFilePath, List.of(ladderGame));
+
+    BoardGame readGame = handler.readFromFile(testFilePath).getFirst();
+
+    assertEquals("Ladder Game", readGame.getVariantName());
+    LadderAction ladderAction = assertInstanceOf(LadderAction.class,
+        readGame.getBoard().getTile(25).getAction(), "Tile 25 should have LadderAction");
+    assertEquals(7, ladderAction.getDestinationTileId());
+    assertEquals("down", ladderAction.getDirection());
+    assertInstanceOf(WaitAction.class, readGame.getBoard().getTile(37).getAction());
+
+    Player player = readGame.getPlayers().getFirst();
+    assertEquals("Ola", player.getName());
+    assertEquals(14, player.getCurrentTile().getTileId());
+    assertEquals(true, player.hasStatus(Player.STATUS_CURRENT_PLAYER),
+        "The current player should be marked");
+  }
+
+  @Test
+  @DisplayName("Should keep the turn number and allow replacing a save that was just read")
+  public void testTurnNumberAndReplaceAfterRead() {
+    ladderGame.setTurnNumber(42);
+    handler.writeToFile(testFilePath, List.of(ladderGame));
+    BoardGame readGame = handler.readFromFile(testFilePath).getFirst();
+    assertEquals(42, readGame.getTurnNumber());
+
+    /* The loaded save holds no handle to the file, so it can be replaced right away */
+    readGame.setTurnNumber(43);
+    handler.writeToFile(testFilePath, List.of(readGame));
+    assertEquals(43, handler.readFromFile(testFilePath).getFirst().getTurnNumber());
+  }
+
+  @Test
+  @DisplayName("Should throw exception when reading a truncated or foreign file")
+  public void testReadInvalidFiles() throws IOException {
+    handler.writeToFile(testFilePath, List.of(ladderGame));
+    byte[] content = Files.readAllBytes(Path.of(testFilePath));
+    Files.write(Path.of(testFilePath), Arrays.copyOf(content, content.length / 2));
+
+    assertThrows(DataFormatException.class, () -> handler.readFromFile(testFilePath),
+        "Should throw DataFormatException for a truncated file");
+
+    Files.writeString(Path.of(testFilePath), "{\"variantName\": \"ladderGame\"}");
+    assertThrows(DataFormatException.class, () -> handler.readFromFile(testFilePath),
+        "Should throw DataFormatException for a file that is not a binary save");
+  }
+}
@@ -0,0 +1,324 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.management.ThreadMXBean;
+import edu.ntnu.idi.idatt.model.actions.laddergame.BackToStartAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.LadderAction;
+import edu.ntnu.idi.idatt.model.actions.laddergame.WaitAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.ChanceTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.FreeParkingAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.GoToJailAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.JailTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.StartTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.TaxTileAction;
+import edu.ntnu.idi.idatt.model.actions.monopolygame.WealthTaxTileAction;
+import edu.ntnu.idi.idatt.model.gamelogic.Board;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.Tile;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Board File Handler Benchmark</h1>
+ *
+ * <p>Compares loading and saving a board with the streaming {@link BoardFileHandler} against the
+ * tree-based implementation it replaced, kept here as {@link TreeBoardFileHandler}. Both sides do
+ * the full work: a load reads the file and builds the board, a save serializes the board and
+ * writes the file.</p>
+ *
+ * <p>The Monopoly board is extended with property tiles to a growing number of tiles, and the
+ * allocation is reported per operation and per tile. The streaming handler should allocate a
+ * roughly constant amount per tile, while the tree-based one also holds the whole file and the
+ * whole JSON tree in memory. Building the board and its tile index is part of both loads and
+ * grows faster than linearly with the tile count, so it is measured on its own and subtracted
+ * from the per-tile allocation of the loads.</p>
+ *
+ * <p>Not run as part of the test suite. Run the main method, for instance from the IDE, after
+ * {@code mvn test-compile}.</p>
+ *
+ * @author Ola Syrstad Berg
+ * @since v1.1.0
+ */
+public class BoardFileHandlerBenchmark {
+  private static final int[] TILE_COUNTS = {40, 160, 640, 2560};
+  private static final String[] PROPERTY_TYPES = {"blue", "green", "red", "yellow"};
+  private static final int MEASURED_TILES = 200_000;
+
+  /**
+   * A single benchmarked operation.
+   */
+  @FunctionalInterface
+  private interface Operation {
+    void run() throws IOException;
+  }
+
+  /**
+   * Runs the benchmark for Monopoly boards of growing size.
+   *
+   * @param args Not used.
+   * @throws IOException If the temporary files cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    Path directory = Files.createTempDirectory("board-benchmark");
+    try {
+      System.out.printf("%-16s %7s %10s %12s %14s %12s%n", "operation", "tiles", "file bytes",
+          "us/op", "bytes/op", "bytes/tile");
+      System.out.println("(bytes/tile of the loads excludes the board build)");
+      for (int tiles : TILE_COUNTS) {
+        benchmark(createBoard(tiles), directory.resolve("board_" + tiles + ".json"));
+      }
+    } finally {
+      try (Stream<Path> files = Files.walk(directory)) {
+        for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates a Monopoly board extended with property tiles up to the given number of tiles.
+   *
+   * @param tiles The number of tiles, at least 40.
+   * @return The board game.
+   */
+  private static BoardGame createBoard(int tiles) {
+    BoardGame game = new BoardGame();
+    game.setVariantName("Monopoly Game");
+    game.createMonopolyGameBoard();
+    Board board = game.getBoard();
+    for (int id = 41; id <= tiles; id++) {
+      board.getOrAppendTile(id).setAction(new PropertyTileAction("Street " + id, 1000 + id,
+          PROPERTY_TYPES[id % PROPERTY_TYPES.length]));
+    }
+    board.buildIndex();
+    return game;
+  }
+
+  /**
+   * Benchmarks loading and saving one board with both handlers.
+   *
+   * @param game The board to save and load.
+   * @param file The file to use.
+   * @throws IOException If the file cannot be written.
+   */
+  private static void benchmark(BoardGame game, Path file) throws IOException {
+    BoardFileHandler handler = new BoardFileHandler();
+    TreeBoardFileHandler treeHandler = new TreeBoardFileHandler();
+    String filename = file.toString();
+    int tiles = game.getBoard().getTiles().size();
+
+    handler.writeToFile(filename, List.of(game));
+    long fileSize = Files.size(file);
+    long build = measure("board build", tiles, fileSize, 0, () -> createBoard(tiles));
+    measure("streaming load", tiles, fileSize, build, () -> handler.readFromFile(filename));
+    measure("tree load", tiles, fileSize, build, () -> treeHandler.read(file));
+    measure("streaming save", tiles, fileSize, 0,
+        () -> handler.writeToFile(filename, List.of(game)));
+    measure("tree save", tiles, fileSize, 0, () -> treeHandler.write(game, file));
+  }
+
+  /**
+   * Measures the average time and allocation of an operation. The number of iterations shrinks
+   * with the board size.
+   *
+   * @param name The name to print.
+   * @param tiles The number of tiles on the board.
+   * @param fileSize The size of the board file in bytes.
+   * @param baseline Bytes per operation to leave out of the per-tile figure.
+   * @param operation The operation.
+   * @return The bytes allocated per operation.
+   * @throws IOException If the operation fails.
+   */
+  private static long measure(String name, int tiles, long fileSize, long baseline,
+      Operation operation) throws IOException {
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    int measuredIterations = Math.max(10, MEASURED_TILES / tiles);
+    for (int i = 0; i < measuredIterations / 2; i++) {
+      operation.run();
+    }
+
+    long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < measuredIterations; i++) {
+      operation.run();
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = (threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore)
+        / measuredIterations;
+
+    System.out.printf("%-16s %7d %10d %12.1f %14d %12d%n", name, tiles, fileSize,
+        elapsed / 1000.0 / measuredIterations, allocated, (allocated - baseline) / tiles);
+    return allocated;
+  }
+
+  /**
+   * <h1>Tree Board File Handler</h1>
+   *
+   * <p>The tree-based board file handling used before the streaming {@link BoardFileHandler}:
+   * the whole file is read into a string and parsed into a JSON tree before the board is built,
+   * and a save builds the whole tree before printing it. The only change is that tiles beyond
+   * the variant layout are appended to the board, as the streaming handler does, so both can
+   * load the extended benchmark boards. Validation and error reporting are left out.</p>
+   */
+  private static final class TreeBoardFileHandler {
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Builds the JSON tree of a board and prints it to a file.
+     *
+     * @param boardGame The board to save.
+     * @param file The file to write.
+     * @throws IOException If writing fails.
+     */
+    void write(BoardGame boardGame, Path file) throws IOException {
+      JsonObject boardJson = new JsonObject();
+      String variantName = boardGame.getVariantName();
+      boolean monopoly = BoardGame.isMonopolyVariant(variantName);
+      boardJson.addProperty("name", monopoly ? "Monopoly Game" : "Ladder Game");
+      boardJson.addProperty("description", monopoly
+          ? "A classic Monopoly game with 40 tiles." : "A ladder game with 90 tiles.");
+      boardJson.addProperty("variantName", variantName);
+
+      JsonArray tilesArray = new JsonArray();
+      int maxTileId = boardGame.getBoard().getTiles().stream()
+          .mapToInt(Tile::getTileId).max().orElse(0);
+      for (int i = 1; i <= maxTileId; i++) {
+        Tile tile = boardGame.getBoard().getTile(i);
+        if (tile == null) {
+          continue;
+        }
+
+        JsonObject tileJson = new JsonObject();
+        tileJson.addProperty("id", tile.getTileId());
+        if (tile.getNextTile() != null) {
+          addAction(tile, tileJson);
+        }
+        tilesArray.add(tileJson);
+      }
+      boardJson.add("tiles", tilesArray);
+
+      try (Writer writer = new FileWriter(file.toFile())) {
+        gson.toJson(boardJson, writer);
+      }
+    }
+
+    /**
+     * Adds the action type and type-specific properties of a tile to its JSON object.
+     *
+     * @param tile The tile.
+     * @param tileJson The JSON object of the tile.
+     */
+    private void addAction(Tile tile, JsonObject tileJson) {
+      if (tile.getAction() instanceof LadderAction ladderAction) {
+        tileJson.addProperty("actionType", "ladder");
+        tileJson.addProperty("destination", ladderAction.getDestinationTileId());
+        tileJson.addProperty("direction", ladderAction.getDirection());
+      } else if (tile.getAction() instanceof BackToStartAction) {
+        tileJson.addProperty("actionType", "backToStart");
+      } else if (tile.getAction() instanceof WaitAction) {
+        tileJson.addProperty("actionType", "wait");
+      } else if (tile.getAction() instanceof PropertyTileAction propertyTileAction) {
+        tileJson.addProperty("actionType", "property");
+        tileJson.addProperty("propertyName", propertyTileAction.getPropertyName());
+        tileJson.addProperty("cost", propertyTileAction.getCost());
+        tileJson.addProperty("type", propertyTileAction.getPropertyType());
+      } else if (tile.getAction() instanceof ChanceTileAction) {
+        tileJson.addProperty("actionType", "chance");
+      } else if (tile.getAction() instanceof StartTileAction) {
+        tileJson.addProperty("actionType", "start");
+      } else if (tile.getAction() instanceof JailTileAction) {
+        tileJson.addProperty("actionType", "jail");
+      } else if (tile.getAction() instanceof GoToJailAction goToJailAction) {
+        tileJson.addProperty("actionType", "goToJail");
+        tileJson.addProperty("jailTileId", goToJailAction.getJailTileId());
+      } else if (tile.getAction() instanceof FreeParkingAction) {
+        tileJson.addProperty("actionType", "freeParking");
+      } else if (tile.getAction() instanceof TaxTileAction taxTileAction) {
+        tileJson.addProperty("actionType", "tax");
+        tileJson.addProperty("percentageTax", taxTileAction.getPercentageTax());
+        tileJson.addProperty("fixedTax", taxTileAction.getFixedTax());
+      } else if (tile.getAction() instanceof WealthTaxTileAction wealthTaxTileAction) {
+        tileJson.addProperty("actionType", "wealthTax");
+        tileJson.addProperty("amount", wealthTaxTileAction.getAmount());
+      }
+    }
+
+    /**
+     * Reads a board file into a string, parses it into a JSON tree and builds the board.
+     *
+     * @param file The file to read.
+     * @return The board game.
+     * @throws IOException If reading fails.
+     */
+    BoardGame read(Path file) throws IOException {
+      String json = new String(Files.readAllBytes(file));
+      JsonObject boardJson = JsonParser.parseString(json).getAsJsonObject();
+
+      BoardGame boardGame = new BoardGame();
+      String variantName = boardJson.get("variantName").getAsString();
+      boardGame.setVariantName(variantName);
+      if (BoardGame.isMonopolyVariant(variantName)) {
+        boardGame.createMonopolyGameBoard();
+      } else {
+        boardGame.createLadderGameBoard();
+      }
+
+      for (JsonElement tileElement : boardJson.getAsJsonArray("tiles")) {
+        JsonObject tileJson = tileElement.getAsJsonObject();
+        Tile tile = boardGame.getBoard().getOrAppendTile(tileJson.get("id").getAsInt());
+        if (tile == null) {
+          throw new IOException("Invalid tile ID in " + file);
+        }
+        if (tileJson.has("actionType")) {
+          setAction(tile, tileJson);
+        }
+      }
+
+      boardGame.getBoard().buildIndex();
+      return boardGame;
+    }
+
+    /**
+     * Sets the action of a tile from its JSON object.
+     *
+     * @param tile The tile.
+     * @param tileJson The JSON object of the tile.
+     */
+    private void setAction(Tile tile, JsonObject tileJson) {
+      switch (tileJson.get("actionType").getAsString()) {
+        case "ladder" -> tile.setAction(new LadderAction(tileJson.get("destination").getAsInt(),
+            tileJson.get("direction").getAsString()));
+        case "backToStart" -> tile.setAction(BackToStartAction.INSTANCE);
+        case "wait" -> tile.setAction(WaitAction.INSTANCE);
+        case "property" -> tile.setAction(new PropertyTileAction(
+            tileJson.get("propertyName").getAsString(), tileJson.get("cost").getAsInt(),
+            tileJson.get("type").getAsString()));
+        case "start" -> tile.setAction(StartTileAction.INSTANCE);
+        case "chance" -> tile.setAction(ChanceTileAction.INSTANCE);
+        case "jail" -> tile.setAction(JailTileAction.INSTANCE);
+        case "goToJail" -> tile.setAction(new GoToJailAction(
+            tileJson.get("jailTileId").getAsInt()));
+        case "freeParking" -> tile.setAction(FreeParkingAction.INSTANCE);
+        case "tax" -> tile.setAction(new TaxTileAction(tileJson.get("percentageTax").getAsInt(),
+            tileJson.get("fixedTax").getAsInt()));
+        case "wealthTax" -> tile.setAction(new WealthTaxTileAction(
+            tileJson.get("amount").getAsInt()));
+        default -> throw new IllegalArgumentException("Unknown action type in board file");
+      }
+    }
+  }
+}
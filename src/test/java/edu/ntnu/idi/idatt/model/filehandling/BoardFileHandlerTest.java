@@ -211,6 +211,21 @@ public class BoardFileHandlerTest {
         "Tile 10 should have BackToStartAction");
   }
 
+  @Test
+  @DisplayName("Should write a compressed board file and read it back transparently")
+  public void writeAndReadCompressedBoard() throws IOException {
+    String compressedPath = new File(tempDir, "testBoard.json" + Compression.FILE_EXTENSION)
+        .getAbsolutePath();
+    boardFileHandler.writeToFile(testFilePath, List.of(monopolyGame));
+    boardFileHandler.writeToFile(compressedPath, List.of(monopolyGame));
+
+    assertTrue(Files.size(Paths.get(compressedPath)) * 5 < Files.size(Paths.get(testFilePath)),
+        "The dictionary should make the board file at least five times smaller");
+    BoardGame readGame = boardFileHandler.readFromFile(compressedPath).getFirst();
+    assertEquals("Monopoly Game", readGame.getVariantName());
+    assertInstanceOf(GoToJailAction.class, readGame.getBoard().getTile(31).getAction());
+  }
+
   @Test
   @DisplayName("Should throw exception when writing to null filename")
   public void testWriteToFileWithNullName() {
@@ -288,4 +303,33 @@ public class BoardFileHandlerTest {
         boardFileHandler.readFromFile(testFilePath),
         "Should throw DataFormatException when JSON is missing required properties");
   }
+
+  @Test
+  @DisplayName("Should write a compact file without line breaks when pretty printing is off")
+  public void testWriteCompactFile() throws IOException {
+    new BoardFileHandler(false).writeToFile(testFilePath, List.of(monopolyGame));
+
+    String content = Files.readString(Paths.get(testFilePath));
+    assertFalse(content.contains("\n"), "Compact file should be written on one line");
+
+    BoardGame readGame = boardFileHandler.readFromFile(testFilePath).getFirst();
+    assertInstanceOf(TaxTileAction.class, readGame.getBoard().getTile(5).getAction(),
+        "Tile 5 should have TaxTileAction");
+  }
+
+  @Test
+  @DisplayName("Should read tiles that appear before the variant name")
+  public void testReadTilesBeforeVariantName() throws IOException {
+    String content = "{\"tiles\": [{\"id\": 25, \"actionType\": \"ladder\", "
+        + "\"destination\": 7, \"direction\": \"down\", \"extra\": {\"a\": [1]}}], "
+        + "\"variantName\": \"Ladder Game\"}";
+    Files.writeString(Paths.get(testFilePath), content);
+
+    BoardGame readGame = boardFileHandler.readFromFile(testFilePath).getFirst();
+
+    assertEquals("Ladder Game", readGame.getVariantName());
+    LadderAction ladderAction = assertInstanceOf(LadderAction.class,
+        readGame.getBoard().getTile(25).getAction(), "Tile 25 should have LadderAction");
+    assertEquals(7, ladderAction.getDestinationTileId());
+  }
 }
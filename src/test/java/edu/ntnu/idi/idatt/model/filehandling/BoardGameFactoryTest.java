@@ -1,7 +1,13 @@
 package edu.ntnu.idi.idatt.model.filehandling;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,6 +23,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -70,7 +78,6 @@ public class BoardGameFactoryTest {
     player2.placeOnTile(startTile);
 
     PropertyTileAction property = new PropertyTileAction("Testgata", 4000, "Blue");
-    property.setOwner(player1);
     player1.addProperty(property);
 
     Tile propertyTile = monopolyGame.getBoard().getTile(5);
@@ -183,14 +190,16 @@ public class BoardGameFactoryTest {
 
   @Test
   @DisplayName("Should successfully save and load a Monopoly Game")
-  public void testSaveAndLoadMonopolyGame() {
+  public void testSaveAndLoadMonopolyGame() throws IOException {
     BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
 
-    Path boardFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_board.json");
-    Path playerFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_players.csv");
+    Path saveFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs");
 
-    assertTrue(Files.exists(boardFilePath), "Board file should be created");
-    assertTrue(Files.exists(playerFilePath), "Player file should be created");
+    assertTrue(Files.exists(saveFilePath), "Save file should be created");
+    try (Stream<Path> files = Files.list(monopolyGameSavesDir)) {
+      assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")),
+          "No temporary files should be left behind");
+    }
 
     BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
 
@@ -222,11 +231,9 @@ public class BoardGameFactoryTest {
 
     BoardGameFactory.saveBoardGame(ladderGameClassic, TEST_SAVE_NAME);
 
-    Path boardFilePath = ladderGameSavesDir.resolve(TEST_SAVE_NAME + "_board.json");
-    Path playerFilePath = ladderGameSavesDir.resolve(TEST_SAVE_NAME + "_players.csv");
+    Path saveFilePath = ladderGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs");
 
-    assertTrue(Files.exists(boardFilePath), "Board file should be created");
-    assertTrue(Files.exists(playerFilePath), "Player file should be created");
+    assertTrue(Files.exists(saveFilePath), "Save file should be created");
 
     BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", TEST_SAVE_NAME);
 
@@ -280,12 +287,39 @@ public class BoardGameFactoryTest {
   public void testLoadCorruptedPlayerSaveFile() throws IOException {
     BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
 
-    Path playerFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_players.csv");
-    Files.write(playerFilePath, "Invalid,Content,That,Will,Break,Parsing".getBytes());
+    Path saveFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs");
+    byte[] content = Files.readAllBytes(saveFilePath);
+    content[content.length - 3] ^= 0x20;
+    Files.write(saveFilePath, content);
 
-    assertThrows(FileHandlerException.class,
+    FileHandlerException exception = assertThrows(FileHandlerException.class,
         () -> BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME),
-        "Should throw exception when player file is corrupted");
+        "Should throw exception when player data is corrupted");
+    assertTrue(exception.getMessage().contains("Checksum mismatch"),
+        "The corruption should be detected by the checksum");
+  }
+
+  @Test
+  @DisplayName("Should load a save written as separate board and player files")
+  public void testLoadLegacySaveFiles() throws IOException {
+    String currentPlayerName = monopolyGame.getCurrentPlayer().getName();
+    monopolyGame.getPlayers().getFirst().setCurrentPlayerName(currentPlayerName);
+    new BoardFileHandler().writeToFile(
+        monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_board.json").toString(),
+        List.of(monopolyGame));
+    new PlayerFileHandler().writeToFile(
+        BoardGameFactory.getPlayerSaveFilePath("monopolygame", TEST_SAVE_NAME),
+        monopolyGame.getPlayers());
+
+    assertTrue(BoardGameFactory.hasSavedGame("monopolygame", TEST_SAVE_NAME));
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+    assertEquals(2, loadedGame.getPlayers().size(), "Should have 2 players");
+
+    BoardGameFactory.saveBoardGame(loadedGame, TEST_SAVE_NAME);
+    assertFalse(Files.exists(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_players.csv")),
+        "Saving again should replace the separate files with a single save file");
+    assertTrue(BoardGameFactory.deleteSavedGame("monopolygame", TEST_SAVE_NAME));
+    assertFalse(BoardGameFactory.hasSavedGame("monopolygame", TEST_SAVE_NAME));
   }
 
   @Test
@@ -334,4 +368,233 @@ public class BoardGameFactoryTest {
 
     assertNotNull(loadedGame.getDice(), "Dice should be initialized in loaded game");
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should create games from a shared template without sharing per-game state")
+  public void testGamesCreatedFromTemplateAreIndependent() {
+    BoardGame otherGame = BoardGameFactory.createMonopolyGame();
+
+    /* Tile 5 of the game from setUp was changed, which must not affect later games */
+    assertFalse(otherGame.getBoard().getTile(5).getAction() instanceof PropertyTileAction,
+        "Changes to one game should not leak into the template");
+    assertNotSame(monopolyGame.getBoard().getTile(2), otherGame.getBoard().getTile(2),
+        "Each game should get its own tiles");
+    assertSame(monopolyGame.getBoard().getTile(2).getAction(),
+        otherGame.getBoard().getTile(2).getAction(), "Tile actions should be shared");
+
+    /* Ownership is kept per game, even though the property action is shared */
+    PropertyTileAction sharedProperty =
+        (PropertyTileAction) otherGame.getBoard().getTile(2).getAction();
+    Player owner = monopolyGame.getPlayers().getFirst();
+    sharedProperty.setOwner(monopolyGame, owner);
+    assertSame(owner, sharedProperty.getOwner(monopolyGame), "Owner should be set in the game");
+    assertNull(sharedProperty.getOwner(otherGame), "Owner should not leak into other games");
+    assertEquals(16, otherGame.getBoard().getNearestTileOfKind(13, "landmark").getTileId(),
+        "Tile index should be available on boards created from the template");
+  }
+
+  @Test
+  @DisplayName("Should append changes to the journal when saving a game again")
+  public void testSaveAgainAppendsToJournal() throws IOException {
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+    Path saveFile = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs");
+    byte[] snapshot = Files.readAllBytes(saveFile);
+
+    Player player2 = monopolyGame.getPlayers().get(1);
+    player2.placeOnTile(monopolyGame.getBoard().getTile(12));
+    player2.setMoney(150000);
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+
+    assertArrayEquals(snapshot, Files.readAllBytes(saveFile),
+        "The snapshot should not be rewritten when only a few turns changed");
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+    Player loadedPlayer2 = loadedGame.getPlayers().get(1);
+    assertEquals(12, loadedPlayer2.getCurrentTile().getTileId(), "Tile should be replayed");
+    assertEquals(150000, loadedPlayer2.getMoney(), "Money should be replayed");
+  }
+
+  @Test
+  @DisplayName("Should ignore an incomplete turn at the end of the journal")
+  public void testIncompleteJournalTurnIsIgnored() throws IOException {
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+    Path journalFile = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_journal.log");
+    Files.writeString(journalFile, "P,1,20,1,0,0\nT,1\nP,1,30,5,0,0\n");
+
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+    Player loadedPlayer2 = loadedGame.getPlayers().get(1);
+
+    assertEquals(20, loadedPlayer2.getCurrentTile().getTileId(),
+        "The complete turn should be replayed");
+    assertEquals(1, loadedPlayer2.getMoney(), "The incomplete turn should be ignored");
+  }
+
+  @Test
+  @DisplayName("Should journal finished turns without saving again")
+  public void testFinishedTurnIsJournaledAutomatically() {
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+
+    monopolyGame.getPlayers().getFirst().setMoney(123456);
+    monopolyGame.initializeGameWithCurrentPlayer(1);
+
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+    assertEquals(123456, loadedGame.getPlayers().getFirst().getMoney(),
+        "Money changed during the turn should be recovered");
+    assertEquals("Markus", loadedGame.getCurrentPlayer().getName(),
+        "The next player should be recovered");
+  }
+
+  @Test
+  @DisplayName("Should save and load a game in the binary format")
+  public void testBinarySaveAndLoad() {
+    Player player2 = monopolyGame.getPlayers().get(1);
+    player2.placeOnTile(monopolyGame.getBoard().getTile(12));
+    player2.setMoney(150000);
+    player2.setInJail(true);
+    monopolyGame.initializeGameWithCurrentPlayer(1);
+
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME, SaveFormat.BINARY);
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+
+    assertEquals("Monopoly Game", loadedGame.getVariantName());
+    Player loadedPlayer1 = loadedGame.getPlayers().getFirst();
+    Player loadedPlayer2 = loadedGame.getPlayers().get(1);
+    assertEquals("Testgata", loadedPlayer1.getOwnedProperties().getFirst().getPropertyName(),
+        "Owned properties should be restored from the ownership bitset");
+    assertEquals(12, loadedPlayer2.getCurrentTile().getTileId());
+    assertEquals(150000, loadedPlayer2.getMoney());
+    assertTrue(loadedPlayer2.isInJail(), "Status flags should be restored");
+    assertEquals("Markus", loadedGame.getCurrentPlayer().getName());
+  }
+
+  @Test
+  @DisplayName("Should replace the save in the other format when switching formats")
+  public void testSwitchingSaveFormat() {
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME, SaveFormat.BINARY);
+
+    assertTrue(Files.exists(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bin")));
+    assertFalse(Files.exists(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs")),
+        "The JSON save should be removed");
+
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME, SaveFormat.JSON);
+    assertFalse(Files.exists(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bin")),
+        "The binary save should be removed");
+    assertNotNull(BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME));
+  }
+
+  @Test
+  @DisplayName("Should store only a reference to an unchanged predefined board")
+  public void testSaveReferencesPredefinedBoard() throws IOException {
+    BoardGame game = BoardGameFactory.createMonopolyGame();
+    game.addPlayer(new Player("Ola", "Red", null, 200000));
+    game.addPlayer(new Player("Markus", "Blue", null, 200000));
+    game.initializeGame();
+    Player player2 = game.getPlayers().get(1);
+    player2.placeOnTile(game.getBoard().getTile(12));
+    player2.addProperty((PropertyTileAction) game.getBoard().getTile(2).getAction());
+
+    BoardGameFactory.saveBoardGame(game, TEST_SAVE_NAME);
+    Path saveFilePath = monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs");
+    assertTrue(Files.size(saveFilePath) < 300,
+        "The save should only hold the player state, but was " + Files.size(saveFilePath));
+
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME);
+    Player loadedPlayer2 = loadedGame.getPlayers().get(1);
+    assertEquals(12, loadedPlayer2.getCurrentTile().getTileId());
+    assertEquals(1, loadedPlayer2.getOwnedPropertyCount(), "Ownership should be restored");
+    assertInstanceOf(PropertyTileAction.class, loadedGame.getBoard().getTile(2).getAction());
+
+    /* A board with a changed tile is saved in full */
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+    assertTrue(SaveContainer.read(saveFilePath).containsKey(SaveContainer.Section.BOARD),
+        "The changed board should be saved in full");
+  }
+
+  /* Add tile 41 with a property owned by the second player to the monopoly board */
+  private void addPropertyBeyondTileForty() {
+    Tile extraTile = new Tile(41);
+    PropertyTileAction extraProperty = new PropertyTileAction("Ekstragata", 8000, "Blue");
+    extraTile.setAction(extraProperty);
+    monopolyGame.getBoard().addTile(extraTile);
+    monopolyGame.getBoard().getTile(40).setNextTile(extraTile);
+    extraTile.setNextTile(monopolyGame.getBoard().getTile(1));
+    Player player2 = monopolyGame.getPlayers().get(1);
+    player2.addProperty(extraProperty);
+  }
+
+  /* Check that tile 41 and its owned property were restored by a load */
+  private static void assertPropertyBeyondTileForty(BoardGame loadedGame) {
+    List<PropertyTileAction> owned = loadedGame.getPlayers().get(1).getOwnedProperties();
+    assertEquals(1, owned.size(), "The property on tile 41 should be restored");
+    assertSame(loadedGame.getBoard().getTile(41).getAction(), owned.getFirst());
+    assertSame(loadedGame.getBoard().getTile(41), loadedGame.getBoard().getTile(40).getNextTile());
+    assertSame(loadedGame.getBoard().getTile(1), loadedGame.getBoard().getTile(41).getNextTile());
+    assertNull(loadedGame.getBoard().getPropertyByName("Missing street"));
+  }
+
+  @Test
+  @DisplayName("Should restore owned properties on boards with more than 40 tiles")
+  public void testPropertiesBeyondTileForty() {
+    addPropertyBeyondTileForty();
+
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+    assertPropertyBeyondTileForty(
+        BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME));
+  }
+
+  @Test
+  @DisplayName("Should restore boards with more than 40 tiles from binary saves")
+  public void testBinarySaveBeyondTileForty() {
+    addPropertyBeyondTileForty();
+
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME, SaveFormat.BINARY);
+    assertTrue(Files.exists(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bin")));
+    assertPropertyBeyondTileForty(
+        BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME));
+  }
+
+  @Test
+  @DisplayName("Should keep the save catalog updated on save and delete")
+  public void testCatalogIsUpdatedOnSaveAndDelete() throws IOException {
+    monopolyGame.advanceToNextPlayer();
+    monopolyGame.advanceToNextPlayer();
+    monopolyGame.advanceToNextPlayer();
+    BoardGameFactory.saveBoardGame(monopolyGame, TEST_SAVE_NAME);
+
+    SaveCatalog.Entry entry = BoardGameFactory.getSavedGameInfo("monopolygame", TEST_SAVE_NAME)
+        .orElseThrow();
+    assertEquals("Monopoly Game", entry.variantName());
+    assertEquals(List.of("Ola", "Markus"), entry.playerNames());
+    assertEquals(3, entry.turnNumber());
+    assertEquals(Files.size(monopolyGameSavesDir.resolve(TEST_SAVE_NAME + "_save.bgs")),
+        entry.sizeBytes(), "The size should cover the snapshot and the empty journal");
+    assertTrue(Files.exists(monopolyGameSavesDir.resolve(SaveCatalog.CATALOG_FILE_NAME)));
+    assertEquals(3, BoardGameFactory.loadSavedGame("monopolygame", TEST_SAVE_NAME)
+        .getTurnNumber(), "The turn number should be restored");
+
+    assertTrue(BoardGameFactory.deleteSavedGame("monopolygame", TEST_SAVE_NAME));
+    assertTrue(BoardGameFactory.getSavedGameInfo("monopolygame", TEST_SAVE_NAME).isEmpty());
+    assertTrue(BoardGameFactory.listSavedGames("monopolygame").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should rebuild the save catalog from the saves when it is missing")
+  public void testCatalogIsRebuiltWhenMissing() throws IOException {
+    BoardGameFactory.saveBoardGame(monopolyGame, "second", SaveFormat.BINARY);
+    BoardGameFactory.saveBoardGame(monopolyGame, "first");
+    /* The finished turn is appended to the journal of the last save */
+    monopolyGame.advanceToNextPlayer();
+
+    Files.delete(monopolyGameSavesDir.resolve(SaveCatalog.CATALOG_FILE_NAME));
+    List<SaveCatalog.Entry> entries = BoardGameFactory.listSavedGames("monopolygame");
+
+    assertEquals(2, entries.size(), "Both saves should be found");
+    SaveCatalog.Entry first = BoardGameFactory.getSavedGameInfo("monopolygame", "first")
+        .orElseThrow();
+    assertEquals(List.of("Ola", "Markus"), first.playerNames());
+    assertEquals(1, first.turnNumber(), "Turns in the journal should be counted");
+    assertTrue(first.savedAt() > 0);
+    assertTrue(Files.exists(monopolyGameSavesDir.resolve(SaveCatalog.CATALOG_FILE_NAME)),
+        "The rebuilt catalog should be written");
+  }
+}
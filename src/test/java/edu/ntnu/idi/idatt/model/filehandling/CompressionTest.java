@@ -0,0 +1,91 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.DataFormatException;
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CompressionTest {
+
+  private byte[] boardJson;
+  private int level;
+
+  /* Write the board of the advanced ladder game as compact JSON */
+  @BeforeEach
+  public void setUp() throws IOException {
+    level = Compression.getLevel();
+    StringWriter json = new StringWriter();
+    BoardGame game = BoardGameFactory.createLadderGameAdvanced();
+    new BoardFileHandler(false).write(game, json);
+    boardJson = json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /* Restore the compression level after each test */
+  @AfterEach
+  public void tearDown() {
+    Compression.setLevel(level);
+  }
+
+  @Test
+  @DisplayName("Should compress board JSON much smaller with the dictionary than without it")
+  public void testDictionaryImprovesRatio() {
+    byte[] withDictionary = Compression.compress(boardJson, Compression.Dictionary.BOARD_JSON);
+    byte[] withoutDictionary = Compression.compress(boardJson, Compression.Dictionary.NONE);
+
+    assertTrue(withDictionary.length * 2 < withoutDictionary.length,
+        "The dictionary should at least halve the size, but was " + withDictionary.length
+            + " against " + withoutDictionary.length);
+    assertArrayEquals(boardJson, Compression.decompress(withDictionary, "board"));
+    assertArrayEquals(boardJson, Compression.decompress(withoutDictionary, "board"));
+  }
+
+  @Test
+  @DisplayName("Should pass uncompressed files through the decompressing stream")
+  public void testStreamsDetectCompression() throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream output = Compression.compressingStream(compressed,
+        Compression.Dictionary.BOARD_JSON)) {
+      output.write(boardJson);
+    }
+
+    try (InputStream input = Compression.decompressingStream(
+        new ByteArrayInputStream(compressed.toByteArray()), "board")) {
+      assertArrayEquals(boardJson, input.readAllBytes());
+    }
+    try (InputStream input = Compression.decompressingStream(
+        new ByteArrayInputStream(boardJson), "board")) {
+      assertArrayEquals(boardJson, input.readAllBytes());
+    }
+    Compression.Statistics statistics = Compression.getCompressionStatistics();
+    assertTrue(statistics.ratio() > 1, "The statistics should report the ratio");
+  }
+
+  @Test
+  @DisplayName("Should turn compression off at level 0 and reject invalid levels or data")
+  public void testLevelsAndInvalidData() {
+    Compression.setLevel(Deflater.NO_COMPRESSION);
+    assertFalse(Compression.isEnabled());
+    assertThrows(IllegalArgumentException.class, () -> Compression.setLevel(10));
+    assertEquals(Deflater.NO_COMPRESSION, Compression.getLevel());
+
+    byte[] compressed = Compression.compress(boardJson, Compression.Dictionary.BOARD_JSON);
+    compressed[compressed.length / 2] ^= 0x55;
+    assertThrows(DataFormatException.class, () -> Compression.decompress(compressed, "board"));
+  }
+}
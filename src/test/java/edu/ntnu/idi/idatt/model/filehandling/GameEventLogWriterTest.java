@@ -0,0 +1,108 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.model.filehandling.exceptions.FileHandlerException;
+import edu.ntnu.idi.idatt.model.gamelogic.GameEventJournal;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameEventLogWriterTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should write recorded events to the log and read them back in order")
+  public void testWriteAndReadBack() {
+    Path logFile = tempDir.resolve("game.bglog");
+    GameEventJournal journal = new GameEventJournal(1024);
+
+    try (GameEventLogWriter writer = new GameEventLogWriter(logFile, journal)) {
+      for (int i = 0; i < 500; i++) {
+        journal.recordMove(i % 3, i, i + 1, 6);
+      }
+      journal.recordMoney(1, 4500);
+    }
+
+    List<String> records = new ArrayList<>();
+    long count = GameEventLogWriter.read(logFile, (sequence, type, player, first, second, third)
+        -> records.add(sequence + ":" + type + ":" + player + ":" + first));
+
+    assertEquals(501, count, "Every recorded event should be written");
+    assertEquals("0:" + GameEventJournal.TYPE_MOVE + ":0:0", records.getFirst());
+    assertEquals("500:" + GameEventJournal.TYPE_MONEY + ":1:4500", records.getLast());
+  }
+
+  @Test
+  @DisplayName("Should append to an existing log without repeating the header")
+  public void testAppendToExistingLog() {
+    Path logFile = tempDir.resolve("game.bglog");
+    GameEventJournal journal = new GameEventJournal(16);
+
+    try (GameEventLogWriter writer = new GameEventLogWriter(logFile, journal)) {
+      journal.record(GameEventJournal.TYPE_SKIP_TURN, 0);
+    }
+    try (GameEventLogWriter writer = new GameEventLogWriter(logFile, journal)) {
+      journal.record(GameEventJournal.TYPE_GAME_WON, 1);
+    }
+
+    List<Integer> types = new ArrayList<>();
+    GameEventLogWriter.read(logFile, (sequence, type, player, first, second, third)
+        -> types.add(type));
+    assertEquals(List.of(GameEventJournal.TYPE_SKIP_TURN, GameEventJournal.TYPE_GAME_WON), types);
+  }
+
+  @Test
+  @DisplayName("Should append to a compressed log and ignore a chunk cut short by a crash")
+  public void testCompressedLogWithTornChunk() throws IOException {
+    Path logFile = tempDir.resolve("game.bglog");
+    GameEventJournal journal = new GameEventJournal(1024);
+
+    try (GameEventLogWriter writer = new GameEventLogWriter(logFile, journal)) {
+      assertTrue(writer.isCompressed(), "New logs should be compressed by default");
+      for (int i = 0; i < 300; i++) {
+        journal.recordMove(i % 2, i, i + 1, 6);
+      }
+    }
+    long firstSize = Files.size(logFile);
+    try (GameEventLogWriter writer = new GameEventLogWriter(logFile, journal)) {
+      journal.record(GameEventJournal.TYPE_GAME_WON, 1);
+    }
+    assertTrue(firstSize < 300 * GameEventLogWriter.RECORD_SIZE / 3,
+        "Records should compress to less than a third, but took " + firstSize + " bytes");
+
+    List<Integer> types = new ArrayList<>();
+    GameEventLogWriter.read(logFile, (sequence, type, player, first, second, third)
+        -> types.add(type));
+    assertEquals(301, types.size());
+    assertEquals(GameEventJournal.TYPE_GAME_WON, types.getLast());
+
+    /* Cut the last chunk short, as a crash while writing would */
+    try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(logFile) - 3);
+    }
+    assertEquals(300, GameEventLogWriter.read(logFile,
+        (sequence, type, player, first, second, third) -> { }));
+  }
+
+  @Test
+  @DisplayName("Should reject a file that is not a game event log")
+  public void testReadInvalidLog() throws IOException {
+    Path logFile = tempDir.resolve("invalid.bglog");
+    Files.writeString(logFile, "not a log");
+
+    assertThrows(FileHandlerException.class, () -> GameEventLogWriter.read(logFile,
+        (sequence, type, player, first, second, third) -> { }));
+  }
+}
@@ -1,6 +1,7 @@
 package edu.ntnu.idi.idatt.model.filehandling;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -226,4 +227,27 @@ public class PlayerFileHandlerTest {
         playerFileHandler.readFromFile(testFilePath),
         "Should throw PlayerFileWriteException when CSV file is empty");
   }
-}
\ No newline at end of file
+
+  /* Test that jail and free parking status survive a save and load, and that old files without status fields still load */
+  @Test
+  @DisplayName("Should save and restore player status flags and jail turns")
+  public void testStatusRoundTrip() throws IOException {
+    player2.setInJail(true);
+    player2.setJailTurnCount(2);
+    player3.setFreeParking(true);
+
+    playerFileHandler.writeToFile(testFilePath, players);
+    List<Player> loadedPlayers = playerFileHandler.readFromFile(testFilePath);
+
+    assertTrue(loadedPlayers.get(1).isInJail(), "Jail status should be restored");
+    assertEquals(2, loadedPlayers.get(1).getJailTurnCount(), "Jail turns should be restored");
+    assertTrue(loadedPlayers.get(2).hasFreeParking(), "Free parking should be restored");
+    assertFalse(loadedPlayers.get(0).isInJail(), "Other players should not be in jail");
+
+    Files.write(Paths.get(testFilePath), "Ola, Red, 5, 200000, Testgata".getBytes());
+    Player oldFormatPlayer = playerFileHandler.readFromFile(testFilePath).getFirst();
+    assertEquals(5, oldFormatPlayer.getSavedTileId(), "Tile ID should be read from old files");
+    assertEquals(0, oldFormatPlayer.getStatusFlags() & Player.PERSISTED_STATUS_FLAGS,
+        "Old files should load without status flags");
+  }
+}
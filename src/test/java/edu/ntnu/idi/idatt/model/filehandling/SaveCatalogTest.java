@@ -0,0 +1,66 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SaveCatalogTest {
+
+  /* Create a temporary directory for the test */
+  @TempDir
+  Path tempDir;
+
+  /* Create a catalog entry with the given name and save time */
+  private static SaveCatalog.Entry entry(String saveName, long savedAt) {
+    return new SaveCatalog.Entry(saveName, "ladderGame", List.of("Ola", "Markus"), 4, savedAt,
+        200);
+  }
+
+  @Test
+  @DisplayName("Should see updates made through another catalog of the same directory")
+  public void testSharedDirectory() {
+    SaveCatalog first = new SaveCatalog(tempDir, saveName -> null);
+    SaveCatalog second = new SaveCatalog(tempDir, saveName -> null);
+
+    first.put(entry("a", 1000));
+    assertEquals(entry("a", 1000), second.find("a").orElseThrow());
+
+    second.put(entry("b", 2000));
+    first.put(entry("c", 3000));
+    assertEquals(List.of("c", "b", "a"), second.list().stream()
+        .map(SaveCatalog.Entry::saveName).toList(), "No update should be lost");
+
+    second.remove("a");
+    assertTrue(first.find("a").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should rebuild a damaged index from the saves")
+  public void testDamagedIndexIsRebuilt() throws IOException {
+    SaveCatalog catalog = new SaveCatalog(tempDir, saveName -> entry(saveName, 5000));
+    catalog.put(entry("lost", 1000));
+    Files.writeString(tempDir.resolve("kept_save.bgs"), "");
+    Files.writeString(tempDir.resolve(SaveCatalog.CATALOG_FILE_NAME),
+        "BGCATALOG\t2\nlost\tbroken\n");
+
+    assertEquals(List.of(entry("kept", 5000)), catalog.list());
+  }
+
+  @Test
+  @DisplayName("Should keep player names with commas and backslashes intact")
+  public void testPlayerNamesAreEscaped() {
+    SaveCatalog.Entry entry = new SaveCatalog.Entry("names", "ladderGame",
+        List.of("Berg, Ola", "C:\\Markus\\", ""), 4, 1000, 200);
+    new SaveCatalog(tempDir, saveName -> null).put(entry);
+
+    assertEquals(entry, new SaveCatalog(tempDir, saveName -> null).find("names").orElseThrow(),
+        "Names should be read back as they were written");
+  }
+}
@@ -0,0 +1,149 @@
+package edu.ntnu.idi.idatt.model.filehandling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.model.gamelogic.BoardGame;
+import edu.ntnu.idi.idatt.model.gamelogic.Player;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SaveSlotsTest {
+
+  private BoardGame ladderGame;
+  private AutosaveService autosave;
+
+  /* Create a temporary directory for the test */
+  @TempDir
+  Path tempDir;
+
+  /* Point the factory at the temporary directory and set up a ladder game with 2 players */
+  @BeforeEach
+  public void setUp() throws Exception {
+    Field field = BoardGameFactory.class.getDeclaredField("SAVE_FILES_DIRECTORY");
+    field.setAccessible(true);
+    field.set(null, tempDir.toString());
+
+    ladderGame = BoardGameFactory.createLadderGameClassic();
+    ladderGame.addPlayer(new Player("Ola", "Red", ladderGame, 0));
+    ladderGame.addPlayer(new Player("Markus", "Blue", ladderGame, 0));
+    ladderGame.initializeGame();
+  }
+
+  /* Stop the service after each test */
+  @AfterEach
+  public void tearDown() {
+    if (autosave != null) {
+      autosave.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should rotate autosaves through the slots of the table")
+  public void testAutosavesRotate() {
+    SaveSlots slots = new SaveSlots("laddergame", "table",
+        new SaveSlots.RetentionPolicy(3, null));
+    autosave = new AutosaveService(ladderGame, slots, 0);
+    Player player = ladderGame.getPlayers().getFirst();
+
+    for (int tileId = 2; tileId <= 5; tileId++) {
+      player.placeOnTile(ladderGame.getBoard().getTile(tileId));
+      autosave.requestSave();
+      autosave.flush();
+    }
+
+    List<String> autosaves = slots.listAutosaves().stream()
+        .map(SaveCatalog.Entry::saveName).sorted().toList();
+    assertEquals(List.of("table-auto-0", "table-auto-1", "table-auto-2"), autosaves,
+        "Only three autosave slots should be used");
+    /* The fourth autosave overwrites the first slot */
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", "table-auto-0");
+    assertEquals(5, loadedGame.getPlayers().getFirst().getCurrentTile().getTileId());
+  }
+
+  @Test
+  @DisplayName("Should keep named saves apart from the autosave slots")
+  public void testNamedSaves() {
+    SaveSlots slots = new SaveSlots("laddergame", "table",
+        new SaveSlots.RetentionPolicy(1, null));
+    autosave = new AutosaveService(ladderGame, slots, 0);
+    Player player = ladderGame.getPlayers().getFirst();
+
+    player.placeOnTile(ladderGame.getBoard().getTile(7));
+    assertTrue(autosave.saveAs(" Friday game "));
+    player.placeOnTile(ladderGame.getBoard().getTile(9));
+    autosave.requestSave();
+    autosave.flush();
+
+    assertEquals(7, BoardGameFactory.loadSavedGame("laddergame", "Friday game")
+        .getPlayers().getFirst().getCurrentTile().getTileId(), "The named save should be kept");
+    assertEquals(9, BoardGameFactory.loadSavedGame("laddergame", "table-auto-0")
+        .getPlayers().getFirst().getCurrentTile().getTileId());
+    assertThrows(IllegalArgumentException.class, () -> autosave.saveAs("table-auto-3"));
+    assertThrows(IllegalArgumentException.class, () -> autosave.saveAs("../escape"));
+    assertThrows(IllegalArgumentException.class, () -> autosave.saveAs("  "));
+  }
+
+  @Test
+  @DisplayName("Should delete surplus slots of the table and old autosaves of other tables")
+  public void testRetentionPolicy() throws InterruptedException {
+    for (String saveName : List.of("old-auto-0", "table-auto-0", "table-auto-1", "table-auto-2",
+        "Named save")) {
+      BoardGameFactory.saveBoardGame(ladderGame, saveName);
+    }
+    Thread.sleep(20);
+
+    SaveSlots slots = new SaveSlots("laddergame", "table",
+        new SaveSlots.RetentionPolicy(2, Duration.ofMillis(10)));
+    assertEquals(2, slots.applyRetention());
+    assertEquals(0, slots.applyRetention(), "The policy should only be applied once");
+
+    List<String> remaining = BoardGameFactory.listSavedGames("laddergame").stream()
+        .map(SaveCatalog.Entry::saveName).sorted().toList();
+    assertEquals(List.of("Named save", "table-auto-0", "table-auto-1"), remaining);
+    assertFalse(BoardGameFactory.hasSavedGame("laddergame", "old-auto-0"));
+  }
+
+  @Test
+  @DisplayName("Should continue the autosave ring of a loaded autosave")
+  public void testLoadedAutosaveContinuesTable() throws InterruptedException {
+    BoardGameFactory.saveBoardGame(ladderGame, "table-auto-0");
+    Thread.sleep(5);
+    BoardGameFactory.saveBoardGame(ladderGame, "table-auto-1");
+    BoardGame loadedGame = BoardGameFactory.loadSavedGame("laddergame", "table-auto-1");
+
+    SaveSlots slots = SaveSlots.forGame(loadedGame, SaveSlots.RetentionPolicy.DEFAULT);
+    assertEquals("table", slots.getTableName());
+    assertEquals("table-auto-2", slots.nextAutosaveSlot());
+
+    SaveSlots newTable = SaveSlots.forGame(BoardGameFactory.createLadderGameClassic(),
+        SaveSlots.RetentionPolicy.DEFAULT);
+    assertTrue(newTable.getTableName().startsWith("table-"), "A new game gets a new table");
+    assertEquals(newTable.getTableName() + "-auto-0", newTable.nextAutosaveSlot());
+  }
+
+  @Test
+  @DisplayName("Should treat saves with an oversized slot number as named saves")
+  public void testOversizedSlotNumber() {
+    BoardGameFactory.saveBoardGame(ladderGame, "table-auto-0");
+    BoardGameFactory.saveBoardGame(ladderGame, "table-auto-99999999999");
+
+    SaveSlots slots = new SaveSlots("laddergame", "table",
+        new SaveSlots.RetentionPolicy(1, Duration.ofMillis(10)));
+    assertFalse(SaveSlots.isAutosave("table-auto-99999999999"));
+    assertEquals(List.of("table-auto-0"), slots.listAutosaves().stream()
+        .map(SaveCatalog.Entry::saveName).toList());
+    assertEquals("table-auto-0", slots.nextAutosaveSlot());
+    assertEquals(0, slots.applyRetention());
+    assertTrue(BoardGameFactory.hasSavedGame("laddergame", "table-auto-99999999999"));
+  }
+}
@@ -2,6 +2,11 @@ package edu.ntnu.idi.idatt.model.gamelogic;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import edu.ntnu.idi.idatt.controllers.BoardGameController;
+import edu.ntnu.idi.idatt.model.filehandling.BoardGameFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -78,4 +83,192 @@ class BoardGameTest {
     
     assertNotNull(boardGame.getWinner(), "There should be a winner at the end of the game.");
   }
+
+  /* Test that a removed observer no longer receives events */
+  @Test
+  void removeObserver_Positive() {
+
+    Player player = new Player("Alice", "Blue", boardGame, 200000);
+    boardGame.addPlayer(player);
+    PayloadObserver observer = new PayloadObserver(0);
+    boardGame.addObserver(observer);
+
+    boardGame.notifyPlayerSkipTurn(player);
+    assertTrue(boardGame.removeObserver(observer), "Registered observer should be removed.");
+    boardGame.notifyPlayerSkipTurn(player);
+
+    assertEquals(1, observer.events, "Observer should only receive events while registered.");
+    assertFalse(boardGame.removeObserver(observer), "Observer should only be removed once.");
+  }
+
+  /* Test that every balance change is recorded in the journal and delivered from it */
+  @Test
+  void moneyChanges_RecordedInJournal() {
+
+    Player payer = new Player("Alice", "Blue", boardGame, 1000);
+    Player owner = new Player("Bob", "Red", boardGame, 1000);
+    boardGame.addPlayer(payer);
+    boardGame.addPlayer(owner);
+    PayloadObserver observer = new PayloadObserver(0);
+    boardGame.addObserver(observer);
+    GameEventJournal.Cursor cursor = boardGame.getJournal().newCursor();
+    List<String> recorded = new ArrayList<>();
+
+    /* Rent, a tax and the start bonus all change a balance outside the ledger */
+    payer.payPlayer(owner, 150);
+    payer.payMoney(100);
+    owner.addMoney(200);
+    cursor.poll((sequence, type, playerIndex, first, second, third) ->
+        recorded.add(type + ":" + playerIndex + ":" + first), 16);
+
+    int money = GameEventJournal.TYPE_MONEY;
+    assertEquals(List.of(money + ":0:850", money + ":1:1150", money + ":0:750",
+        money + ":1:1350"), recorded, "Every balance change should be recorded.");
+    assertEquals(4, observer.moneyEvents, "Observers should be fed from the journal.");
+  }
+
+  /* Test that releasing 1000 games frees their views, even while the old games are reachable */
+  @Test
+  void restartGames_DoesNotLeakViews() {
+
+    boardGame.createLadderGameBoard();
+    Player player = new Player("Alice", "Blue", boardGame, 200000);
+    boardGame.addPlayer(player);
+    List<BoardGame> oldGames = new ArrayList<>();
+    List<WeakReference<PayloadObserver>> oldViews = new ArrayList<>();
+
+    for (int i = 0; i < 1000; i++) {
+      BoardGame game = BoardGameFactory.createBoardGame("ladderGame");
+      PayloadObserver view = new PayloadObserver(64 * 1024);
+
+      /* The view subscribes like a game view does, and the controller of the game holds it */
+      GameEventBus.Subscription subscription =
+          game.getEventBus().subscribeWeakly(Runnable::run, view);
+      game.setController(new ViewHolder(view));
+
+      /* A long-lived game keeps only a weak reference to the views of each restart */
+      boardGame.addWeakObserver(view);
+
+      /* Releasing the game like the controllers do: dispose the view, detach the controller */
+      subscription.cancel();
+      game.setController(null);
+
+      oldGames.add(game);
+      oldViews.add(new WeakReference<>(view));
+    }
+
+    collectGarbage();
+    boardGame.notifyPlayerSkipTurn(player);
+
+    assertTrue(oldViews.stream().allMatch(view -> view.get() == null),
+        "Released views should not be reachable through their games.");
+    assertTrue(oldGames.stream().noneMatch(game -> game.getEventBus().hasSubscribers()),
+        "Released games should have no event bus subscribers.");
+    assertTrue(boardGame.getObserverCount() < 100,
+        "Collected views should be unregistered from the long-lived game.");
+  }
+
+  /* Test that both names of the Monopoly variant are recognized, and nothing else */
+  @Test
+  void isMonopolyVariant_Positive() {
+
+    assertTrue(BoardGame.isMonopolyVariant("Monopoly Game"));
+    assertTrue(BoardGame.isMonopolyVariant("monopolyGame"));
+    assertFalse(BoardGame.isMonopolyVariant("ladderGame"));
+    assertFalse(BoardGame.isMonopolyVariant(null));
+
+    boardGame.setVariantName("monopolyGame");
+    assertEquals(Leaderboard.Ranking.NET_WORTH, boardGame.getLeaderboard().getRanking(),
+        "Monopoly games should be ranked by net worth.");
+  }
+
+  /* Runs the garbage collector, so unreachable views are collected */
+  private static void collectGarbage() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+  }
+
+  /* Controller standing in for a game controller, holding the view of its game */
+  private record ViewHolder(PayloadObserver view) implements BoardGameController {
+
+    @Override
+    public Player getCurrentPlayer() {
+      return null;
+    }
+
+    @Override
+    public void rollDice() {
+    }
+
+    @Override
+    public boolean saveGame() {
+      return false;
+    }
+
+    @Override
+    public boolean saveGameAs(String saveName) {
+      return false;
+    }
+
+    @Override
+    public void quitToMenu() {
+    }
+
+    @Override
+    public void restartGame() {
+    }
+
+    @Override
+    public String getGameVariation() {
+      return null;
+    }
+
+    @Override
+    public int[] convertTileIdToGridCoordinates(int tileId) {
+      return new int[2];
+    }
+  }
+
+  /* Observer standing in for a game view, holding a payload the size of its scene graph */
+  private static final class PayloadObserver implements BoardGameObserver {
+    @SuppressWarnings("unused")
+    private final byte[] payload;
+    private int events;
+    private int moneyEvents;
+
+    private PayloadObserver(int payloadSize) {
+      this.payload = new byte[payloadSize];
+    }
+
+    @Override
+    public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
+      events++;
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+      events++;
+    }
+
+    @Override
+    public void onPlayerSkipTurn(Player player) {
+      events++;
+    }
+
+    @Override
+    public void onCurrentPlayerChanged(Player player) {
+      events++;
+    }
+
+    @Override
+    public void onPlayerBankrupt(Player player) {
+      events++;
+    }
+
+    @Override
+    public void onMoneyChanged(List<Player> players) {
+      moneyEvents++;
+    }
+  }
 }
@@ -2,6 +2,7 @@ package edu.ntnu.idi.idatt.model.gamelogic;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +62,44 @@ class BoardTest {
             assertNotNull(board.getTile(i), "Tile " + i + " should exist on the board.");
         }
     }
+
+    /* Test that the property type counts are taken from the tiles on the board */
+    @Test
+    void getPropertyTypeCount_CountsPropertiesOnBoard() {
+        BoardGame game = new BoardGame();
+        game.createMonopolyGameBoard();
+        Board monopolyBoard = game.getBoard();
+
+        assertEquals(2, monopolyBoard.getPropertyTypeCount("blue"));
+        assertEquals(4, monopolyBoard.getPropertyTypeCount("landmark"));
+        assertEquals(0, monopolyBoard.getPropertyTypeCount("unknown"));
+
+        monopolyBoard.getTile(5).setAction(
+            new PropertyTileAction("Testgata", 6000, "blue"));
+
+        assertEquals(3, monopolyBoard.getPropertyTypeCount("blue"),
+            "Changing a tile action should update the counts");
+    }
+
+    /* Test that the tile index finds the next and nearest tiles of a kind */
+    @Test
+    void tileOfKindLookups_FollowBoardPath() {
+        BoardGame game = new BoardGame();
+        game.createMonopolyGameBoard();
+        Board monopolyBoard = game.getBoard();
+
+        int[][] chanceToLandmark = {
+            {3, 6}, {8, 6}, {13, 16}, {18, 16}, {23, 26}, {29, 26}, {34, 36}, {39, 36}
+        };
+        for (int[] pair : chanceToLandmark) {
+            assertEquals(pair[1],
+                monopolyBoard.getNearestTileOfKind(pair[0], "landmark").getTileId(),
+                "Nearest landmark from tile " + pair[0]);
+        }
+
+        assertEquals(11, monopolyBoard.getNextTileOfKind(5, "jail").getTileId());
+        assertEquals(1, monopolyBoard.getNextTileOfKind(38, "start").getTileId(),
+            "Lookups should wrap around the board");
+        assertNull(monopolyBoard.getNextTileOfKind(5, "ladder"));
+    }
 }
@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Test class for the GameEventBus class. */
+class GameEventBusTest {
+
+    private BoardGame game;
+    private Player ola;
+    private Player markus;
+    private List<Runnable> scheduledDrains;
+    private List<List<GameEvent>> batches;
+
+
+    /* Arranging a game with two players and a subscriber whose drains are run manually */
+
+    @BeforeEach
+    void setUp() {
+        game = new BoardGame();
+        game.createMonopolyGameBoard();
+        ola = new Player("Ola", "Blue", game, 5000);
+        markus = new Player("Markus", "Red", game, 5000);
+        game.addPlayer(ola);
+        game.addPlayer(markus);
+
+        scheduledDrains = new ArrayList<>();
+        batches = new ArrayList<>();
+        game.getEventBus().subscribe(scheduledDrains::add, batches::add);
+    }
+
+    /* A test that makes sure a burst of events is delivered as one batch */
+
+    @Test
+    @DisplayName("Should schedule one drain for a burst of events")
+    void burstOfEventsIsDeliveredInOneBatch() {
+        game.notifyPlayerMove(ola, 1, 5, 4);
+        game.notifyPlayerSkipTurn(markus);
+
+        assertEquals(1, scheduledDrains.size(), "Only one drain should be pending");
+        assertTrue(batches.isEmpty(), "Publishing should not deliver events directly");
+
+        scheduledDrains.getFirst().run();
+
+        assertEquals(List.of(new GameEvent.PlayerMoved(ola, 1, 5, 4),
+                new GameEvent.PlayerSkippedTurn(markus)), batches.getFirst());
+    }
+
+    /* A test that makes sure redundant money and player changes are coalesced */
+
+    @Test
+    @DisplayName("Should coalesce money changes and keep the last current player change")
+    void redundantEventsAreCoalesced() {
+        game.notifyCurrentPlayerChanged(ola);
+        game.notifyMoneyChanged(List.of(ola));
+        game.notifyMoneyChanged(List.of(markus, ola));
+        game.notifyCurrentPlayerChanged(markus);
+
+        scheduledDrains.getFirst().run();
+
+        assertEquals(List.of(new GameEvent.MoneyChanged(List.of(ola, markus)),
+                new GameEvent.CurrentPlayerChanged(markus)), batches.getFirst());
+    }
+
+    /* A test that makes sure a cancelled subscription receives no more events */
+
+    @Test
+    @DisplayName("Should not deliver events after the subscription is cancelled")
+    void cancelledSubscriptionReceivesNoEvents() {
+        List<List<GameEvent>> otherBatches = new ArrayList<>();
+        GameEventBus.Subscription subscription =
+                game.getEventBus().subscribe(Runnable::run, otherBatches::add);
+
+        game.notifyGameWon(ola);
+        subscription.cancel();
+        game.notifyGameWon(markus);
+
+        assertEquals(List.of(List.of(new GameEvent.GameWon(ola))), otherBatches);
+    }
+}
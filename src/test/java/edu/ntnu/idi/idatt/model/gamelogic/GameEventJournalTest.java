@@ -0,0 +1,116 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/* Test class for the GameEventJournal class. */
+class GameEventJournalTest {
+
+    /* A test that makes sure consumers read the same events independently */
+
+    @Test
+    @DisplayName("Should let each cursor read all events at its own pace")
+    void cursorsReadIndependently() {
+        GameEventJournal journal = new GameEventJournal(8);
+        GameEventJournal.Cursor ui = journal.newCursor();
+        GameEventJournal.Cursor saver = journal.newCursor();
+
+        journal.recordMove(0, 1, 7, 6);
+        journal.recordMoney(1, 4500);
+
+        List<String> read = new ArrayList<>();
+        assertEquals(1, ui.poll((sequence, type, player, first, second, third) ->
+                read.add(type + ":" + player + ":" + first + ":" + second + ":" + third), 1));
+        assertEquals(1, ui.poll((sequence, type, player, first, second, third) ->
+                read.add(type + ":" + player + ":" + first), 10));
+
+        assertEquals(List.of(GameEventJournal.TYPE_MOVE + ":0:1:7:6",
+                GameEventJournal.TYPE_MONEY + ":1:4500"), read);
+        assertEquals(2, saver.getPendingCount(), "The other cursor should not be affected");
+    }
+
+    /* A test that makes sure a slow consumer skips overwritten events instead of stalling */
+
+    @Test
+    @DisplayName("Should skip and count events overwritten before a slow cursor read them")
+    void slowCursorSkipsOverwrittenEvents() {
+        GameEventJournal journal = new GameEventJournal(4);
+        GameEventJournal.Cursor cursor = journal.newCursor();
+
+        for (int i = 0; i < 10; i++) {
+            journal.recordMoney(0, i);
+        }
+
+        List<Integer> balances = new ArrayList<>();
+        cursor.poll((sequence, type, player, first, second, third) -> balances.add(first), 10);
+
+        assertEquals(List.of(7, 8, 9), balances, "Only the newest events should be read");
+        assertEquals(7, cursor.getLostCount());
+        assertEquals(10, cursor.getPosition());
+    }
+
+    /* A test that makes sure a consumer on another thread reads events in order */
+
+    @Test
+    @DisplayName("Should deliver events in order to a consumer on another thread")
+    void concurrentConsumerReadsInOrder() throws InterruptedException {
+        GameEventJournal journal = new GameEventJournal(64);
+        GameEventJournal.Cursor cursor = journal.newCursor();
+        int events = 200000;
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread consumer = new Thread(() -> {
+            long[] last = {-1};
+            while (cursor.getPosition() < events && failure.get() == null) {
+                cursor.poll((sequence, type, player, first, second, third) -> {
+                    if (first != (int) sequence || second != first * 2 || first <= last[0]) {
+                        failure.set("Inconsistent event at sequence " + sequence);
+                    }
+                    last[0] = first;
+                }, 64);
+            }
+        });
+        consumer.start();
+
+        for (int i = 0; i < events; i++) {
+            journal.recordMove(0, i, i * 2, 0);
+        }
+        consumer.join(10000);
+
+        assertNull(failure.get(), failure.get());
+        assertEquals(events, cursor.getPosition());
+    }
+
+    /* A test that makes sure recording an event does not allocate */
+
+    @Test
+    @DisplayName("Recording events should not allocate")
+    void recordingShouldNotAllocate() {
+        GameEventJournal journal = new GameEventJournal(1024);
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+        for (int i = 0; i < 10000; i++) {
+            journal.recordMove(0, i, i + 1, 1);
+        }
+
+        /* Divided by the number of events, as the JVM may allocate a few bytes on its own */
+        int events = 100000;
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < events; i++) {
+            journal.recordMove(0, i, i + 1, 1);
+            journal.record(GameEventJournal.TYPE_SKIP_TURN, 1);
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated / events, "Recording events should not allocate");
+    }
+}
@@ -0,0 +1,89 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Test class for the Leaderboard class. */
+class LeaderboardTest {
+
+    private BoardGame game;
+    private Player ola;
+    private Player markus;
+    private Player kari;
+
+
+    /* Arranging a Monopoly game with three players */
+
+    @BeforeEach
+    void setUp() {
+        game = new BoardGame();
+        game.createMonopolyGameBoard();
+        ola = new Player("Ola", "Blue", game, 5000);
+        markus = new Player("Markus", "Red", game, 5000);
+        kari = new Player("Kari", "Green", game, 5000);
+        game.addPlayer(ola);
+        game.addPlayer(markus);
+        game.addPlayer(kari);
+    }
+
+    /* A test that makes sure players with equal standing keep their join order */
+
+    @Test
+    @DisplayName("Should keep join order between players with equal net worth")
+    void equalStandingKeepsJoinOrder() {
+        assertEquals(List.of(ola, markus, kari), game.getLeaderboard().getStandings());
+    }
+
+    /* A test that makes sure money and property changes move players on the leaderboard */
+
+    @Test
+    @DisplayName("Should rerank players when money or properties change")
+    void moneyAndPropertyChangesRerankPlayers() {
+        Leaderboard leaderboard = game.getLeaderboard();
+
+        kari.addMoney(1000);
+        assertSame(kari, leaderboard.getLeader(), "Kari should lead after receiving money");
+
+        ola.payPlayer(markus, 500);
+        assertEquals(List.of(kari, markus, ola), leaderboard.getStandings());
+
+        markus.addProperty(new PropertyTileAction("Storgata", 2000, "Red"));
+        assertEquals(1, leaderboard.getRank(markus), "Property value should count towards rank");
+    }
+
+    /* A test that makes sure bankrupt players are ranked last */
+
+    @Test
+    @DisplayName("Should rank bankrupt players last")
+    void bankruptPlayersAreRankedLast() {
+        ola.addMoney(10000);
+        ola.declareBankrupt();
+
+        assertEquals(3, game.getLeaderboard().getRank(ola));
+    }
+
+    /* A test that makes sure the ladder game ranks players by board position */
+
+    @Test
+    @DisplayName("Should rank players by board position in ladder games")
+    void ladderGameRanksByPosition() {
+        BoardGame ladderGame = new BoardGame();
+        ladderGame.setVariantName("ladderGame");
+        ladderGame.createLadderGameBoard();
+        Player first = new Player("Ola", "Blue", ladderGame, 0);
+        Player second = new Player("Markus", "Red", ladderGame, 0);
+        ladderGame.addPlayer(first);
+        ladderGame.addPlayer(second);
+
+        first.placeOnTile(ladderGame.getBoard().getTile(3));
+        second.placeOnTile(ladderGame.getBoard().getTile(7));
+
+        assertEquals(Leaderboard.Ranking.BOARD_POSITION, ladderGame.getLeaderboard().getRanking());
+        assertSame(second, ladderGame.getLeaderboard().getLeader());
+    }
+}
@@ -0,0 +1,135 @@
+package edu.ntnu.idi.idatt.model.gamelogic;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Test class for the MoneyLedger class. */
+class MoneyLedgerTest {
+
+    private BoardGame game;
+    private Player ola;
+    private Player markus;
+    private Player kari;
+    private List<List<Player>> moneyEvents;
+
+
+    /* Arranging a game with three players and an observer recording money events */
+
+    @BeforeEach
+    void setUp() {
+        game = new BoardGame();
+        game.createMonopolyGameBoard();
+        ola = new Player("Ola", "Blue", game, 5000);
+        markus = new Player("Markus", "Red", game, 5000);
+        kari = new Player("Kari", "Green", game, 500);
+        game.addPlayer(ola);
+        game.addPlayer(markus);
+        game.addPlayer(kari);
+
+        moneyEvents = new ArrayList<>();
+        game.addObserver(new BoardGameObserver() {
+            @Override
+            public void onPlayerMove(Player player, int fromTileId, int toTileId, int diceValue) {
+            }
+
+            @Override
+            public void onGameWon(Player player) {
+            }
+
+            @Override
+            public void onPlayerSkipTurn(Player player) {
+            }
+
+            @Override
+            public void onCurrentPlayerChanged(Player player) {
+            }
+
+            @Override
+            public void onPlayerBankrupt(Player player) {
+            }
+
+            @Override
+            public void onMoneyChanged(List<Player> players) {
+                moneyEvents.add(List.copyOf(players));
+            }
+        });
+    }
+
+    /* A test that makes sure a batch is settled together with a single money event */
+
+    @Test
+    @DisplayName("Should settle all transfers of a batch with one money event")
+    void commitSettlesBatchWithOneEvent() {
+        boolean settled = game.getLedger().newBatch()
+                .transfer(markus, ola, 1000)
+                .transfer(kari, ola, 400)
+                .commit();
+
+        assertTrue(settled, "All transfers should be settled");
+        assertEquals(6400, ola.getMoney());
+        assertEquals(4000, markus.getMoney());
+        assertEquals(100, kari.getMoney());
+        assertEquals(1, moneyEvents.size(), "Only one money event should be sent");
+        assertEquals(3, moneyEvents.getFirst().size(), "All three players should be in the event");
+    }
+
+    /* A test that makes sure an insolvent payer is bankrupted without paying anything */
+
+    @Test
+    @DisplayName("Should bankrupt an insolvent payer and drop only their transfers")
+    void commitDropsTransfersOfInsolventPlayer() {
+        boolean settled = game.getLedger().newBatch()
+                .transfer(markus, ola, 1000)
+                .transfer(kari, ola, 1000)
+                .commit();
+
+        assertFalse(settled, "Kari cannot afford the transfer");
+        assertTrue(kari.isBankrupt(), "Insolvent payer should be declared bankrupt");
+        assertEquals(500, kari.getMoney(), "No money should be taken from the insolvent payer");
+        assertEquals(6000, ola.getMoney(), "Solvent transfers should still be settled");
+        assertEquals(4000, markus.getMoney());
+    }
+
+    /* A test that makes sure insolvent players are found in the order of the game's players */
+
+    @Test
+    @DisplayName("Should check insolvent players in player order")
+    void commitChecksInsolventPlayersInPlayerOrder() {
+        /* Both are short at first, but dropping Markus' transfers also drops Kari's payment */
+        boolean settled = game.getLedger().newBatch()
+                .transfer(kari, markus, 1000)
+                .transfer(markus, null, 6500)
+                .commit();
+
+        assertFalse(settled, "Markus cannot afford the transfers");
+        assertTrue(markus.isBankrupt(), "Markus comes first and should be declared bankrupt");
+        assertFalse(kari.isBankrupt(), "Kari owes nothing once Markus is dropped");
+        assertEquals(500, kari.getMoney());
+        assertEquals(5000, markus.getMoney());
+    }
+
+    /* A test that makes sure the ring buffer overwrites the oldest transfers */
+
+    @Test
+    @DisplayName("Should keep the most recent transfers in the ring buffer")
+    void ringBufferKeepsMostRecentTransfers() {
+        MoneyLedger ledger = new MoneyLedger(game, 2);
+        ledger.newBatch().transfer(ola, markus, 1).commit();
+        ledger.newBatch().transfer(null, kari, 2).commit();
+        ledger.newBatch().transfer(markus, null, 3).commit();
+
+        assertEquals(3, ledger.getRecordedTransfers());
+        assertEquals(2, ledger.getEntryCount(), "Only the last two transfers should be kept");
+        assertEquals(2, ledger.getAmount(0));
+        assertNull(ledger.getPayer(0), "The bank should be recorded as payer");
+        assertSame(kari, ledger.getRecipient(0));
+        assertEquals(3, ledger.getAmount(1));
+        assertSame(markus, ledger.getPayer(1));
+        assertNull(ledger.getRecipient(1), "The bank should be recorded as recipient");
+    }
+}
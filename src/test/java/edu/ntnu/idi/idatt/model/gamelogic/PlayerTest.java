@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.model.gamelogic;
 
+import edu.ntnu.idi.idatt.model.actions.monopolygame.PropertyTileAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -71,4 +72,27 @@ class PlayerTest {
     void getGameReturnsBoardGame() {
         assertEquals(game, player.getGame());
     }
+
+    /* Tests that owned tiles and net worth follow property purchases and bankruptcy */
+
+    @Test
+    void ownershipAndNetWorthFollowProperties() {
+        BoardGame monopolyGame = new BoardGame();
+        monopolyGame.createMonopolyGameBoard();
+        Player owner = new Player("Ola", "Red", monopolyGame, 100000);
+        PropertyTileAction property =
+            (PropertyTileAction) monopolyGame.getBoard().getTile(2).getAction();
+
+        owner.payMoney(property.getCost());
+        owner.addProperty(property);
+
+        assertTrue(owner.ownsTile(2));
+        assertFalse(owner.ownsTile(4));
+        assertEquals(100000, owner.getNetWorth());
+
+        owner.declareBankrupt();
+
+        assertFalse(owner.ownsTile(2));
+        assertEquals(0, owner.getPropertyValue());
+    }
 }